@@ -0,0 +1,260 @@
+package com.benchmarks;
+
+import com.chess.engine.board.Board;
+import com.chess.engine.board.SearchBoard;
+import com.chess.engine.moves.Move;
+import com.chess.engine.pieces.Piece;
+import com.chess.engine.player.ai.boardevaluator.BoardEvaluator;
+import com.chess.engine.player.ai.boardevaluator.StandardBoardEvaluator;
+import com.chess.engine.player.ai.movestrategy.AlphaBeta;
+import com.chess.engine.player.ai.movestrategy.MiniMax;
+import com.chess.engine.player.ai.movestrategy.ParallelRootSearch;
+import com.chess.engine.utils.FenUtils;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Holds the JMH benchmarks of the engine's hot paths: building a board, generating a piece's moves, executing a move,
+ * evaluating a board, and searching with minimax, alpha-beta, and parallel root moves. Each benchmark runs on an
+ * opening, a middlegame, and an endgame position, and main() adds the GC profiler so that the bytes allocated per
+ * operation are reported alongside the time.
+ * <p>
+ * The benchmarks need jmh-core and jmh-generator-annprocess on the classpath, so that the annotation processor
+ * generates the benchmark harness when the class is compiled.
+ *
+ * @author Jamie Canada
+ * @since 10/23/25
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class EngineBenchmark {
+    private static final int MINIMAX_DEPTH = 2, ALPHA_BETA_DEPTH = 4;
+
+    @Param({ "OPENING", "MIDDLEGAME", "ENDGAME" })
+    private BenchmarkPosition position;
+
+    private final BoardEvaluator boardEvaluator = new StandardBoardEvaluator();
+    private final MiniMax miniMax = new MiniMax(MINIMAX_DEPTH);
+    private PrintStream standardOut;
+    private Board board;
+    private SearchBoard searchBoard;
+    private Move[] moves;
+
+    /**
+     * Represents the fixed positions the benchmarks run on.
+     */
+    public enum BenchmarkPosition {
+        OPENING("rnbqkbnr/pppppppp/8/8/8/8/PPPPPPPP/RNBQKBNR w KQkq - 0 1"),
+        MIDDLEGAME("r4rk1/1pp1qppp/p1np1n2/2b1p1B1/2B1P1b1/P1NP1N2/1PP1QPPP/R4RK1 w - - 0 10"),
+        ENDGAME("8/2p5/3p4/KP5r/1R3p1k/8/4P1P1/8 w - - 0 1");
+
+        private final String fen;
+
+        /**
+         * Creates a BenchmarkPosition with its FEN string.
+         *
+         * @param fen The FEN string of the position.
+         */
+        BenchmarkPosition(final String fen) {
+            this.fen = fen;
+        }
+
+        /**
+         * Returns the FEN string of the position.
+         *
+         * @return The FEN string of the position.
+         */
+        public String getFen() {
+            return this.fen;
+        }
+    }
+
+    /**
+     * Builds the position's boards and legal moves once per trial, and silences System.out, since MiniMax reports
+     * every search there.
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        this.board = FenUtils.createBoard(this.position.fen);
+        this.searchBoard = new SearchBoard(this.board);
+        this.moves = this.board.getCurrentPlayer().getLegalMoves().toArray(new Move[0]);
+        this.standardOut = System.out;
+        System.setOut(new PrintStream(OutputStream.nullOutputStream()));
+    }
+
+    /**
+     * Restores System.out after the trial.
+     */
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        System.setOut(this.standardOut);
+    }
+
+    /**
+     * Holds a freshly built board for every invocation, since a board remembers its legal moves once they are
+     * calculated and the evaluation would otherwise only measure the remembered moves.
+     */
+    @State(Scope.Thread)
+    public static class FreshBoardState {
+        private Board board;
+
+        /**
+         * Builds a new board of the benchmark's position before every invocation.
+         *
+         * @param benchmark The benchmark whose position is built.
+         */
+        @Setup(Level.Invocation)
+        public void setUp(final EngineBenchmark benchmark) {
+            this.board = FenUtils.createBoard(benchmark.position.fen);
+        }
+    }
+
+    /**
+     * Holds the alpha-beta search, whose transposition table is cleared before every invocation. Every invocation
+     * searches the same position, so the search would otherwise be answered by the entries of the one before it.
+     */
+    @State(Scope.Thread)
+    public static class AlphaBetaState {
+        private final AlphaBeta alphaBeta = new AlphaBeta(ALPHA_BETA_DEPTH);
+
+        /**
+         * Clears the transposition table before every invocation.
+         */
+        @Setup(Level.Invocation)
+        public void clearTranspositionTable() {
+            this.alphaBeta.getTranspositionTable().clear();
+        }
+    }
+
+    /**
+     * Holds the parallel root-move search, whose transposition table is cleared before every invocation for the same
+     * reason as AlphaBetaState's, so that both searches start from the same empty table.
+     */
+    @State(Scope.Thread)
+    public static class ParallelRootSearchState {
+        private final ParallelRootSearch parallelRootSearch = new ParallelRootSearch(ALPHA_BETA_DEPTH);
+
+        /**
+         * Clears the transposition table before every invocation.
+         */
+        @Setup(Level.Invocation)
+        public void clearTranspositionTable() {
+            this.parallelRootSearch.getTranspositionTable().clear();
+        }
+    }
+
+    /**
+     * Measures building a board from scratch, i.e., setting every piece through the Builder and hashing the board.
+     *
+     * @return The built board.
+     */
+    @Benchmark
+    public Board createBoard() {
+        return FenUtils.createBoard(this.position.fen);
+    }
+
+    /**
+     * Measures Piece.calculateLegalMoves() for every piece of the player to move.
+     *
+     * @param blackhole What consumes the moves so that they are not optimized away.
+     */
+    @Benchmark
+    public void calculateLegalMoves(final Blackhole blackhole) {
+        for (final Piece piece : this.board.getCurrentPlayer().getActivePieces()) {
+            blackhole.consume(piece.calculateLegalMoves(this.board));
+        }
+    }
+
+    /**
+     * Measures Move.execute() for every legal move of the player to move.
+     *
+     * @param blackhole What consumes the boards so that they are not optimized away.
+     */
+    @Benchmark
+    public void executeMoves(final Blackhole blackhole) {
+        for (final Move move : this.moves) {
+            blackhole.consume(move.execute());
+        }
+    }
+
+    /**
+     * Measures StandardBoardEvaluator.evaluateMove() on a new board, which includes generating both players' moves.
+     *
+     * @param freshBoardState What holds the new board.
+     * @return The score of the board.
+     */
+    @Benchmark
+    public int evaluateBoard(final FreshBoardState freshBoardState) {
+        return this.boardEvaluator.evaluateMove(freshBoardState.board, 0);
+    }
+
+    /**
+     * Measures StandardBoardEvaluator.evaluateMove() on the search's board.
+     *
+     * @return The score of the board.
+     */
+    @Benchmark
+    public int evaluateSearchBoard() {
+        return this.boardEvaluator.evaluateMove(this.searchBoard, 0);
+    }
+
+    /**
+     * Measures a minimax search of the position.
+     *
+     * @return The move chosen by the search.
+     */
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public Move miniMax() {
+        return this.miniMax.execute(this.board);
+    }
+
+    /**
+     * Measures an alpha-beta search of the position, starting from an empty transposition table.
+     *
+     * @param alphaBetaState What holds the search.
+     * @return The move chosen by the search.
+     */
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public Move alphaBeta(final AlphaBetaState alphaBetaState) {
+        return alphaBetaState.alphaBeta.execute(this.board);
+    }
+
+    /**
+     * Measures an alpha-beta search of the position with its root moves spread over the common ForkJoinPool, to be
+     * compared with alphaBeta().
+     *
+     * @param parallelRootSearchState What holds the search.
+     * @return The move chosen by the search.
+     */
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public Move parallelRootSearch(final ParallelRootSearchState parallelRootSearchState) {
+        return parallelRootSearchState.parallelRootSearch.execute(this.board);
+    }
+
+    /**
+     * Runs every benchmark with the GC profiler, which reports the bytes allocated per operation.
+     *
+     * @param args The command line arguments, which are not used.
+     * @throws RunnerException If JMH fails to run the benchmarks.
+     */
+    public static void main(final String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(EngineBenchmark.class.getSimpleName())
+                                       .addProfiler(GCProfiler.class)
+                                       .build()).run();
+    }
+}
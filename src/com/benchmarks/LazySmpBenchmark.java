@@ -0,0 +1,95 @@
+package com.benchmarks;
+
+import com.benchmarks.EngineBenchmark.BenchmarkPosition;
+import com.chess.engine.board.Board;
+import com.chess.engine.player.ai.movestrategy.LazySmp;
+import com.chess.engine.player.ai.movestrategy.SearchLimits;
+import com.chess.engine.player.ai.movestrategy.SearchResult;
+import com.chess.engine.utils.FenUtils;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Holds the JMH benchmark of the Lazy SMP search's scaling, i.e., the time it takes to reach a fixed depth with 1, 2,
+ * 4, 8, and 16 threads. The transposition table is cleared before every search, so that no search is answered by the
+ * entries of the one before it.
+ * <p>
+ * Like EngineBenchmark, it needs jmh-core and jmh-generator-annprocess on the classpath.
+ *
+ * @author Jamie Canada
+ * @since 10/27/25
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class LazySmpBenchmark {
+    private static final int SEARCH_DEPTH = 5;
+    private static final long MOVE_TIME_MILLIS = 600_000;
+
+    @Param({ "OPENING", "MIDDLEGAME", "ENDGAME" })
+    private BenchmarkPosition position;
+
+    @Param({ "1", "2", "4", "8", "16" })
+    private int numThreads;
+
+    private PrintStream standardOut;
+    private Board board;
+    private LazySmp lazySmp;
+
+    /**
+     * Builds the position's board and the search once per trial, and silences System.out, since the search reports
+     * every iteration there.
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        this.board = FenUtils.createBoard(this.position.getFen());
+        this.lazySmp = new LazySmp(SEARCH_DEPTH, MOVE_TIME_MILLIS, this.numThreads);
+        this.standardOut = System.out;
+        System.setOut(new PrintStream(OutputStream.nullOutputStream()));
+    }
+
+    /**
+     * Clears the transposition table before every search.
+     */
+    @Setup(Level.Invocation)
+    public void clearTranspositionTable() {
+        this.lazySmp.getTranspositionTable().clear();
+    }
+
+    /**
+     * Restores System.out after the trial.
+     */
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        System.setOut(this.standardOut);
+    }
+
+    /**
+     * Measures the time a Lazy SMP search takes to reach the fixed depth.
+     *
+     * @return The result of the search.
+     */
+    @Benchmark
+    public SearchResult timeToDepth() {
+        return this.lazySmp.execute(this.board, SearchLimits.depth(SEARCH_DEPTH));
+    }
+
+    /**
+     * Runs the scaling benchmark.
+     *
+     * @param args The command line arguments, which are not used.
+     * @throws RunnerException If JMH fails to run the benchmark.
+     */
+    public static void main(final String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(LazySmpBenchmark.class.getSimpleName()).build()).run();
+    }
+}
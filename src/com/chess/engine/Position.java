@@ -4,6 +4,7 @@ import com.google.common.collect.ImmutableMap;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.stream.IntStream;
 
 import static com.chess.engine.utils.BoardUtils.*;
 
@@ -18,6 +19,9 @@ import static com.chess.engine.utils.BoardUtils.*;
  */
 public record Position(int rank, int file) {
     public static final Map<Integer, Position> ALL_BOARD_POSITIONS_CACHE = createAllBoardPositions();
+    private static final Position[] ALL_BOARD_POSITIONS = IntStream.range(0, BOARD_NUM_SQUARES)
+                                                                   .mapToObj(ALL_BOARD_POSITIONS_CACHE::get)
+                                                                   .toArray(Position[]::new);
 
     /**
      * Returns a list of all possible positions on the chessboard based on a rank and file.
@@ -37,6 +41,17 @@ public record Position(int rank, int file) {
         return ImmutableMap.copyOf(positionsMap);
     }
 
+    /**
+     * Returns the position of the square with the given index. Unlike ALL_BOARD_POSITIONS_CACHE, the index is not
+     * boxed, which matters in the loops of the move generators.
+     *
+     * @param squareIndex The index of the square, between 0 (inclusive) and 63 (inclusive).
+     * @return The position of the square with the given index.
+     */
+    public static Position getPosition(final int squareIndex) {
+        return ALL_BOARD_POSITIONS[squareIndex];
+    }
+
     /**
      * Returns the index of a given position's rank and file of a square or piece on a chessboard.
      * The index will be between 0 (inclusive) and 63 (inclusive).
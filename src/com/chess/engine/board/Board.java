@@ -3,11 +3,16 @@ package com.chess.engine.board;
 import com.chess.engine.Alliance;
 import com.chess.engine.Position;
 import com.chess.engine.moves.Move;
+import com.chess.engine.moves.pawn.attack.EnPassantAttack;
 import com.chess.engine.pieces.*;
+import com.chess.engine.pieces.Piece.PieceType;
 import com.chess.engine.player.BlackPlayer;
 import com.chess.engine.player.Player;
 import com.chess.engine.player.WhitePlayer;
-import com.google.common.collect.ImmutableList;
+import com.chess.engine.utils.BitboardUtils;
+import com.chess.engine.utils.LegalityUtils;
+import com.google.common.base.Supplier;
+import com.google.common.base.Suppliers;
 import com.google.common.collect.Iterables;
 
 import java.util.*;
@@ -16,24 +21,37 @@ import static com.chess.engine.Alliance.*;
 import static com.chess.engine.Position.ALL_BOARD_POSITIONS_CACHE;
 import static com.chess.engine.Position.getPositionIndex;
 import static com.chess.engine.board.Square.*;
+import static com.chess.engine.utils.BitboardUtils.*;
 import static com.chess.engine.utils.BoardUtils.*;
+import static com.chess.engine.utils.CastlingUtils.calculateCastlingRights;
+import static com.chess.engine.utils.LegalityUtils.*;
+import static com.chess.engine.utils.ZobristUtils.calculateZobristKey;
 
 /**
  * Represents the chessboard seen in the game of chess. The board consists of squares and may or may not have pieces
- * on those squares.
+ * on those squares. The pieces are kept in a bitboard per alliance and piece type, alongside an array that maps each
+ * square to its piece (if any). The active pieces and their moves are only calculated the first time they are asked
+ * for, since many boards (e.g., those that are only checked for legality) never need them. Every board also has a
+ * zobrist key, which a move updates from the previous board's key rather than hashing the whole board again, and
+ * which boards use to tell whether they hold the same position.
  *
  * @author Jamie Canada
  * @since 10/07/25
  */
 public class Board {
-    private final List<Square> gameboard;
-    private final Collection<Piece> whitePieces, blackPieces;
+    private final Piece[] boardConfig;
+    private final long[] pieceBitboards;
+    private final long whiteOccupancy, blackOccupancy, occupancy;
+    private final Supplier<Collection<Piece>> whitePieces, blackPieces;
+    private final Supplier<Collection<Move>> whitePieceMoves, blackPieceMoves;
 
     private final WhitePlayer whitePlayer;
     private final BlackPlayer blackPlayer;
     private final Player currentPlayer;
 
     private final Pawn enPassantPawn;
+    private final int castlingRights;
+    private final long zobristKey;
 
     /**
      * Creates a Board object with input from the builder.
@@ -41,39 +59,28 @@ public class Board {
      * @param builder What will set the pieces and set the move maker.
      */
     private Board(final Builder builder) {
-        gameboard = createGameBoard(builder);
-        this.whitePieces = calculateActivePieces(this.gameboard, WHITE);
-        this.blackPieces = calculateActivePieces(this.gameboard, BLACK);
+        this.boardConfig = builder.boardConfig.clone();
+        this.pieceBitboards = builder.pieceBitboards.clone();
+        this.whiteOccupancy = calculateOccupancy(this.pieceBitboards, WHITE);
+        this.blackOccupancy = calculateOccupancy(this.pieceBitboards, BLACK);
+        this.occupancy = this.whiteOccupancy | this.blackOccupancy;
+        // Suppliers.memoize() calculates each value once, even when several threads ask for it at the same time
+        this.whitePieces = Suppliers.memoize(() -> calculateActivePieces(this.boardConfig, this.whiteOccupancy));
+        this.blackPieces = Suppliers.memoize(() -> calculateActivePieces(this.boardConfig, this.blackOccupancy));
+        this.whitePieceMoves = Suppliers.memoize(() -> calculateLegalMoves(this, this.whitePieces.get()));
+        this.blackPieceMoves = Suppliers.memoize(() -> calculateLegalMoves(this, this.blackPieces.get()));
 
         this.enPassantPawn = builder.enPassantPawn;
+        this.castlingRights = calculateCastlingRights(this);
 
-        final Collection<Move> whiteLegalMoves = calculateLegalMoves(this, this.whitePieces);
-        final Collection<Move> blackLegalMoves = calculateLegalMoves(this, this.blackPieces);
-
-        this.whitePlayer = new WhitePlayer(this, whiteLegalMoves, blackLegalMoves);
-        this.blackPlayer = new BlackPlayer(this, whiteLegalMoves, blackLegalMoves);
+        this.whitePlayer = new WhitePlayer(this);
+        this.blackPlayer = new BlackPlayer(this);
 
         this.currentPlayer = builder.nextMoveMaker.choosePlayer(this.whitePlayer, this.blackPlayer);
-    }
-
-    /**
-     * Returns an array of all the chess squares on the chessboard. The squares will (not) have pieces on them based
-     * off the builder.
-     *
-     * @param builder What sets the pieces on a new chessboard.
-     * @return An array of all the chess squares on the chessboard.
-     */
-    private static List<Square> createGameBoard(final Builder builder) {
-        final Square[] squares = new Square[BOARD_NUM_SQUARES];
-
-        for (int i = 0; i < squares.length; i++) {
-            final int rank = i / RANK_NUM_SQUARES, file = i % FILE_NUM_SQUARES;
-            final int piecePositionIndex = getPositionIndex(rank, file);
-            final Position squarePosition = ALL_BOARD_POSITIONS_CACHE.get(piecePositionIndex);
-            squares[i] = createSquare(squarePosition, builder.boardConfig.get(piecePositionIndex));
-        }
 
-        return ImmutableList.copyOf(squares);
+        // A board built by a move gets its key from the move, and any other board is hashed from scratch
+        this.zobristKey = builder.zobristKey != null ? builder.zobristKey : calculateZobristKey(this);
+        assert this.zobristKey == calculateZobristKey(this) : "The incremental zobrist key does not match the board";
     }
 
     /**
@@ -103,7 +110,130 @@ public class Board {
      * @return The square with the given position.
      */
     public Square getSquare(final Position squarePosition) {
-        return this.gameboard.get(getPositionIndex(squarePosition.rank(), squarePosition.file()));
+        return createSquare(squarePosition,
+                            this.boardConfig[getPositionIndex(squarePosition.rank(), squarePosition.file())]);
+    }
+
+    /**
+     * Returns the piece on the square with the given index, or null if the square is empty.
+     *
+     * @param squareIndex The index of the square to look at.
+     * @return The piece on the square with the given index, or null if the square is empty.
+     */
+    public Piece getPiece(final int squareIndex) {
+        return this.boardConfig[squareIndex];
+    }
+
+    /**
+     * Returns whether the square with the given index has a chess piece on it.
+     *
+     * @param squareIndex The index of the square to look at.
+     * @return Whether the square with the given index has a chess piece on it.
+     */
+    public boolean isSquareOccupied(final int squareIndex) {
+        return isSquareSet(this.occupancy, squareIndex);
+    }
+
+    /**
+     * Returns the bitboard of the pieces with the given alliance and type.
+     *
+     * @param alliance  The pieces' alliance.
+     * @param pieceType The pieces' type.
+     * @return The bitboard of the pieces with the given alliance and type.
+     */
+    public long getPieceBitboard(final Alliance alliance, final PieceType pieceType) {
+        return this.pieceBitboards[getBitboardIndex(alliance, pieceType)];
+    }
+
+    /**
+     * Returns the bitboard of all the squares occupied by the given alliance's pieces.
+     *
+     * @param alliance The pieces' alliance.
+     * @return The bitboard of all the squares occupied by the given alliance's pieces.
+     */
+    public long getOccupancy(final Alliance alliance) {
+        return alliance.isBlack() ? this.blackOccupancy : this.whiteOccupancy;
+    }
+
+    /**
+     * Returns the bitboard of all the occupied squares.
+     *
+     * @return The bitboard of all the occupied squares.
+     */
+    public long getOccupancy() {
+        return this.occupancy;
+    }
+
+    /**
+     * Returns whether the square is attacked by any piece of the given alliance. The attack tables are read from the
+     * square outwards, so neither player's moves have to be calculated.
+     *
+     * @param squareIndex The index of the square.
+     * @param byAlliance  The attacking alliance.
+     * @return Whether the square is attacked by any piece of the given alliance.
+     */
+    public boolean isSquareAttacked(final int squareIndex, final Alliance byAlliance) {
+        return BitboardUtils.isSquareAttacked(this.pieceBitboards, this.occupancy, squareIndex, byAlliance.ordinal());
+    }
+
+    /**
+     * Returns the bitboard of the opponent's pieces that give check to the king of the given alliance.
+     *
+     * @param alliance The king's alliance.
+     * @return The bitboard of the opponent's pieces that give check to the king of the given alliance.
+     */
+    public long getCheckers(final Alliance alliance) {
+        return calculateAttackers(this.pieceBitboards,
+                                  this.occupancy,
+                                  getKingIndex(alliance),
+                                  alliance.ordinal() ^ 1);
+    }
+
+    /**
+     * Returns the bitboard of the pieces of the given alliance that are pinned to their king.
+     *
+     * @param alliance The pieces' alliance.
+     * @return The bitboard of the pieces of the given alliance that are pinned to their king.
+     */
+    public long getPinnedPieces(final Alliance alliance) {
+        return calculatePinnedPieces(this.pieceBitboards, this.occupancy, getKingIndex(alliance), alliance.ordinal());
+    }
+
+    /**
+     * Returns whether the move keeps the mover's king out of check, given the checkers and pinned pieces of the
+     * mover's alliance (see LegalityUtils). The move is never performed, so no board is built to find out.
+     *
+     * @param move         The move of one of the board's pieces.
+     * @param checkers     The bitboard of the opponent's pieces that give check to the mover's king.
+     * @param pinnedPieces The bitboard of the mover's pieces that are pinned to the king.
+     * @return Whether the move keeps the mover's king out of check.
+     */
+    public boolean isLegalMove(final Move move, final long checkers, final long pinnedPieces) {
+        if (move.isCastle()) {
+            // A castle is only generated when the king is not in check and neither crosses nor lands on an attacked square
+            return true;
+        }
+        final Alliance alliance = move.getMovedPiece().getPieceAlliance();
+
+        return LegalityUtils.isLegalMove(this.pieceBitboards,
+                                         this.occupancy,
+                                         alliance.ordinal(),
+                                         getKingIndex(alliance),
+                                         checkers,
+                                         pinnedPieces,
+                                         move.getCurrentIndex(),
+                                         move.getDestinationIndex(),
+                                         move instanceof EnPassantAttack);
+    }
+
+    /**
+     * Returns the index of the square the king of the given alliance is on.
+     *
+     * @param alliance The king's alliance.
+     * @return The index of the square the king of the given alliance is on.
+     */
+    private int getKingIndex(final Alliance alliance) {
+        return getLowestSquare(getPieceBitboard(alliance, PieceType.KING));
     }
 
     /**
@@ -113,7 +243,18 @@ public class Board {
      * @return A list of a player's active pieces based on their alliance.
      */
     public Collection<Piece> getPlayerPieces(final Alliance alliance) {
-        return alliance.isBlack() ? this.blackPieces : this.whitePieces;
+        return alliance.isBlack() ? this.blackPieces.get() : this.whitePieces.get();
+    }
+
+    /**
+     * Returns the moves of a player's pieces based on their alliance. Unlike the player's legal moves, these do not
+     * include castles.
+     *
+     * @param alliance The player's alliance.
+     * @return The moves of a player's pieces based on their alliance.
+     */
+    public Collection<Move> getPieceMoves(final Alliance alliance) {
+        return alliance.isBlack() ? this.blackPieceMoves.get() : this.whitePieceMoves.get();
     }
 
     /**
@@ -135,6 +276,15 @@ public class Board {
         return this.currentPlayer;
     }
 
+    /**
+     * Returns the status of the game for the current player, which is worked out at most once per board.
+     *
+     * @return The status of the game for the current player.
+     */
+    public GameStatus getGameStatus() {
+        return this.currentPlayer.getGameStatus();
+    }
+
     /**
      * Returns an iterable of white's and black players' legal moves.
      *
@@ -154,6 +304,57 @@ public class Board {
         return this.enPassantPawn;
     }
 
+    /**
+     * Returns the castling rights of both players (see CastlingUtils).
+     *
+     * @return The castling rights of both players.
+     */
+    public int getCastlingRights() {
+        return this.castlingRights;
+    }
+
+    /**
+     * Returns the zobrist key of the chessboard.
+     *
+     * @return The zobrist key of the chessboard.
+     */
+    public long getZobristKey() {
+        return this.zobristKey;
+    }
+
+    /**
+     * Returns whether the board and the other board hold the same position, meaning the same pieces on the same
+     * squares, the same move maker, the same castling rights, and the same en passant pawn.
+     *
+     * @param other The other object in question.
+     * @return Whether the board and the other board hold the same position.
+     */
+    @Override
+    public boolean equals(final Object other) {
+        if (this == other) {
+            return true;
+        }
+        if (!(other instanceof Board otherBoard)) {
+            return false;
+        }
+
+        return this.zobristKey == otherBoard.getZobristKey() &&
+               this.castlingRights == otherBoard.getCastlingRights() &&
+               this.currentPlayer.getAlliance() == otherBoard.getCurrentPlayer().getAlliance() &&
+               Objects.equals(this.enPassantPawn, otherBoard.getEnPassantPawn()) &&
+               Arrays.equals(this.pieceBitboards, otherBoard.pieceBitboards);
+    }
+
+    /**
+     * Returns a hashcode for the chessboard based on its zobrist key.
+     *
+     * @return A hashcode for the chessboard.
+     */
+    @Override
+    public int hashCode() {
+        return Long.hashCode(this.zobristKey);
+    }
+
     /**
      * Returns the String representation of the chessboard.
      *
@@ -163,7 +364,7 @@ public class Board {
     public String toString() {
         final StringBuilder builder = new StringBuilder();
         for (int i = 0; i < BOARD_NUM_SQUARES; i++) {
-            final String squareText = this.gameboard.get(i).toString();
+            final String squareText = createSquare(ALL_BOARD_POSITIONS_CACHE.get(i), this.boardConfig[i]).toString();
             builder.append(String.format("%3s", squareText));
             if ((i + 1) % RANK_NUM_SQUARES == 0) {
                 builder.append("\n");
@@ -181,15 +382,18 @@ public class Board {
      * @since 10/09/25
      */
     public static class Builder {
-        final HashMap<Integer, Piece> boardConfig;
+        final Piece[] boardConfig;
+        final long[] pieceBitboards;
         private Alliance nextMoveMaker;
         Pawn enPassantPawn;
+        Long zobristKey;
 
         /**
          * Creates a Builder object that will create a chessboard.
          */
         public Builder() {
-            this.boardConfig = new HashMap<>();
+            this.boardConfig = new Piece[BOARD_NUM_SQUARES];
+            this.pieceBitboards = new long[NUM_PIECE_BITBOARDS];
         }
 
         /**
@@ -209,7 +413,13 @@ public class Board {
          */
         public Builder setPiece(final Piece piece) {
             final int pieceRank = piece.getPiecePosition().rank(), pieceFile = piece.getPiecePosition().file();
-            this.boardConfig.put(getPositionIndex(pieceRank, pieceFile), piece);
+            final int pieceIndex = getPositionIndex(pieceRank, pieceFile);
+            final Piece replacedPiece = this.boardConfig[pieceIndex];
+            if (replacedPiece != null) {
+                this.pieceBitboards[getBitboardIndex(replacedPiece)] &= ~getSquareBit(pieceIndex);
+            }
+            this.boardConfig[pieceIndex] = piece;
+            this.pieceBitboards[getBitboardIndex(piece)] |= getSquareBit(pieceIndex);
             return this;
         }
 
@@ -224,6 +434,16 @@ public class Board {
             return this;
         }
 
+        /**
+         * Returns the piece set on the given square, or null if there is none.
+         *
+         * @param squareIndex The index of the square.
+         * @return The piece set on the given square, or null if there is none.
+         */
+        public Piece getPiece(final int squareIndex) {
+            return this.boardConfig[squareIndex];
+        }
+
         /**
          * Returns the en passant pawn.
          *
@@ -242,5 +462,17 @@ public class Board {
             this.enPassantPawn = movedPawn;
             return this;
         }
+
+        /**
+         * Returns the builder after the zobrist key of the board to build is set. Without a key, the board is hashed
+         * from scratch.
+         *
+         * @param zobristKey The zobrist key of the board to build.
+         * @return The builder after the zobrist key of the board to build is set.
+         */
+        public Builder setZobristKey(final long zobristKey) {
+            this.zobristKey = zobristKey;
+            return this;
+        }
     }
 }
@@ -0,0 +1,48 @@
+package com.chess.engine.board;
+
+/**
+ * Represents the status of the game for the player making a move on a board.
+ * E.g., the player may be in CHECKMATE.
+ *
+ * @author Jamie Canada
+ * @since 10/28/25
+ */
+public enum GameStatus {
+    ONGOING {
+        /**
+         * Returns whether the game is over.
+         *
+         * @return Whether the game is over.
+         */
+        @Override
+        public boolean isGameOver() {
+            return false;
+        }
+    },
+    CHECKMATE,
+    STALEMATE;
+
+    /**
+     * Returns whether the game is over, i.e., the player making a move has no legal moves.
+     *
+     * @return Whether the game is over.
+     */
+    public boolean isGameOver() {
+        return true;
+    }
+
+    /**
+     * Returns the status of a game in which the player making a move does or does not have a legal move.
+     *
+     * @param hasLegalMove Whether the player making a move has at least one legal move.
+     * @param inCheck      Whether the player making a move is in check.
+     * @return The status of the game.
+     */
+    public static GameStatus of(final boolean hasLegalMove, final boolean inCheck) {
+        if (hasLegalMove) {
+            return ONGOING;
+        }
+
+        return inCheck ? CHECKMATE : STALEMATE;
+    }
+}
@@ -0,0 +1,998 @@
+package com.chess.engine.board;
+
+import com.chess.engine.Alliance;
+import com.chess.engine.moves.Move;
+import com.chess.engine.moves.pawn.PawnPromotion;
+import com.chess.engine.pieces.Pawn;
+import com.chess.engine.pieces.Piece;
+import com.chess.engine.pieces.Piece.PieceType;
+import com.chess.engine.utils.BitboardUtils;
+import com.chess.engine.utils.ExchangeUtils;
+
+import java.util.Arrays;
+
+import static com.chess.engine.Position.getPositionIndex;
+import static com.chess.engine.utils.BitboardUtils.*;
+import static com.chess.engine.utils.BoardUtils.*;
+import static com.chess.engine.utils.CastlingUtils.*;
+import static com.chess.engine.utils.LegalityUtils.*;
+import static com.chess.engine.utils.MagicBitboardUtils.*;
+import static com.chess.engine.utils.ZobristUtils.*;
+
+/**
+ * Represents a mutable chessboard that is only used by the search. Unlike Board, a move is performed in place with
+ * makeMove() and taken back with unmakeMove(), and everything needed to take a move back is kept on an undo stack.
+ * Moves are encoded as ints and generated into a buffer that belongs to the current ply, so searching a position
+ * does not create any objects. Move objects are only created at the edges of the search (see findMove()), and Board
+ * remains the snapshot of the game that everything else works with.
+ *
+ * @author Jamie Canada
+ * @since 10/19/25
+ */
+public class SearchBoard {
+    public static final int MAX_PLY = 128, MAX_MOVES = 256;
+    public static final int NO_MOVE = 0, NO_PIECE = -1, NO_SQUARE = -1;
+
+    // A move is encoded as | captured piece type (3 bits) | moved piece type (3 bits) | flags (4 bits) |
+    // destination index (6 bits) | current index (6 bits) |. The low 16 bits (the move key) already tell the moves of
+    // a position apart, and are all the transposition table keeps, while the piece types spare the search from
+    // looking the pieces up on the board when it orders a move or takes it back
+    public static final int QUIET_FLAG = 0, DOUBLE_PAWN_PUSH_FLAG = 1, KINGSIDE_CASTLE_FLAG = 2,
+                            QUEENSIDE_CASTLE_FLAG = 3, CAPTURE_FLAG = 4, EN_PASSANT_FLAG = 5, PROMOTION_FLAG = 8;
+    private static final int SQUARE_MASK = 0x3F, DESTINATION_SHIFT = 6, FLAGS_SHIFT = 12, PROMOTION_TYPE_MASK = 3;
+    private static final int FLAGS_MASK = 0xF, MOVE_KEY_MASK = 0xFFFF;
+    private static final int MOVED_PIECE_SHIFT = 16, CAPTURED_PIECE_SHIFT = 19, PIECE_TYPE_MASK = 7;
+    private static final PieceType[] PROMOTION_TYPES = { PieceType.KNIGHT,
+                                                         PieceType.BISHOP,
+                                                         PieceType.ROOK,
+                                                         PieceType.QUEEN };
+    private static final int KNIGHT_PROMOTION = 0, BISHOP_PROMOTION = 1, ROOK_PROMOTION = 2, QUEEN_PROMOTION = 3;
+
+    private static final Alliance[] ALLIANCES = Alliance.values();
+    private static final PieceType[] PIECE_TYPES = PieceType.values();
+    // In the order generateMoves() has always generated them, after the pawns
+    private static final PieceType[] NON_PAWN_TYPES = { PieceType.KNIGHT,
+                                                        PieceType.BISHOP,
+                                                        PieceType.ROOK,
+                                                        PieceType.QUEEN,
+                                                        PieceType.KING };
+
+    private final long[] pieceBitboards;
+    private final long[] occupancies;
+    private final int[] boardConfig;
+    private int currentAlliance;
+    private int castlingRights;
+    private int enPassantIndex;
+    private int ply;
+    private long zobristKey;
+
+    private final int[] castlingRightsStack, enPassantIndexStack;
+    private final long[] zobristKeyStack;
+    // The status of the game at each ply, or null until it is asked for
+    private final GameStatus[] gameStatuses;
+    private final int[][] moveBuffers;
+    private final int[] scratchMoves;
+    private final int[] exchangeGains;
+
+    /**
+     * Creates a SearchBoard object with the same pieces, move maker, castles, and en passant pawn as the given board.
+     *
+     * @param board The board to copy.
+     */
+    public SearchBoard(final Board board) {
+        this.pieceBitboards = new long[NUM_PIECE_BITBOARDS];
+        this.occupancies = new long[ALLIANCES.length];
+        this.boardConfig = new int[BOARD_NUM_SQUARES];
+
+        this.castlingRightsStack = new int[MAX_PLY];
+        this.enPassantIndexStack = new int[MAX_PLY];
+        this.zobristKeyStack = new long[MAX_PLY];
+        this.gameStatuses = new GameStatus[MAX_PLY];
+        this.moveBuffers = new int[MAX_PLY][MAX_MOVES];
+        this.scratchMoves = new int[MAX_MOVES];
+        this.exchangeGains = new int[ExchangeUtils.MAX_EXCHANGE_LENGTH];
+
+        setPosition(board);
+    }
+
+    /**
+     * Sets up the same pieces, move maker, castles, and en passant pawn as the given board, so that a search can reuse
+     * the search board (and its move buffers) for another position.
+     *
+     * @param board The board to copy.
+     */
+    public void setPosition(final Board board) {
+        Arrays.fill(this.pieceBitboards, 0L);
+        Arrays.fill(this.occupancies, 0L);
+        Arrays.fill(this.boardConfig, NO_PIECE);
+
+        for (int i = 0; i < BOARD_NUM_SQUARES; i++) {
+            final Piece piece = board.getPiece(i);
+            if (piece != null) {
+                addPiece(getBitboardIndex(piece), i);
+            }
+        }
+
+        this.currentAlliance = board.getCurrentPlayer().getAlliance().ordinal();
+        this.castlingRights = board.getCastlingRights();
+        this.enPassantIndex = calculateEnPassantIndex(board.getEnPassantPawn());
+        this.ply = 0;
+        this.zobristKey = board.getZobristKey();
+        this.gameStatuses[0] = null;
+    }
+
+    /**
+     * Returns the index of the square the en passant pawn skipped over, or NO_SQUARE without an en passant pawn.
+     *
+     * @param enPassantPawn The pawn that just advanced by two squares.
+     * @return The index of the square the en passant pawn skipped over.
+     */
+    private static int calculateEnPassantIndex(final Pawn enPassantPawn) {
+        if (enPassantPawn == null) {
+            return NO_SQUARE;
+        }
+        final int pawnIndex = getPositionIndex(enPassantPawn.getPiecePosition().rank(),
+                                               enPassantPawn.getPiecePosition().file());
+
+        return pawnIndex + (enPassantPawn.getPieceAlliance().isWhite() ? RANK_NUM_SQUARES : -RANK_NUM_SQUARES);
+    }
+
+    /**
+     * Returns the key of an encoded move, i.e., the move without its piece types.
+     *
+     * @param currentIndex     Where the piece currently is.
+     * @param destinationIndex Where the piece wants to move to.
+     * @param flags            What kind of move it is.
+     * @return The key of an encoded move.
+     */
+    public static int encodeMove(final int currentIndex, final int destinationIndex, final int flags) {
+        return currentIndex | (destinationIndex << DESTINATION_SHIFT) | (flags << FLAGS_SHIFT);
+    }
+
+    /**
+     * Returns an encoded move.
+     *
+     * @param currentIndex       Where the piece currently is.
+     * @param destinationIndex   Where the piece wants to move to.
+     * @param flags              What kind of move it is.
+     * @param movedPieceIndex    The bitboard index of the moved piece.
+     * @param capturedPieceIndex The bitboard index of the captured piece, or NO_PIECE.
+     * @return An encoded move.
+     */
+    private static int encodeMove(final int currentIndex,
+                                  final int destinationIndex,
+                                  final int flags,
+                                  final int movedPieceIndex,
+                                  final int capturedPieceIndex) {
+        final int capturedPieceType = capturedPieceIndex == NO_PIECE ? 0 : capturedPieceIndex % NUM_PIECE_TYPES;
+        return encodeMove(currentIndex, destinationIndex, flags) |
+               (movedPieceIndex % NUM_PIECE_TYPES) << MOVED_PIECE_SHIFT |
+               capturedPieceType << CAPTURED_PIECE_SHIFT;
+    }
+
+    /**
+     * Returns the key of the encoded move, which is what the transposition table keeps of a move.
+     *
+     * @param move The encoded move.
+     * @return The key of the encoded move.
+     */
+    public static int getMoveKey(final int move) {
+        return move & MOVE_KEY_MASK;
+    }
+
+    /**
+     * Returns the index of the square the encoded move starts from.
+     *
+     * @param move The encoded move.
+     * @return The index of the square the encoded move starts from.
+     */
+    public static int getCurrentIndex(final int move) {
+        return move & SQUARE_MASK;
+    }
+
+    /**
+     * Returns the index of the square the encoded move goes to.
+     *
+     * @param move The encoded move.
+     * @return The index of the square the encoded move goes to.
+     */
+    public static int getDestinationIndex(final int move) {
+        return (move >>> DESTINATION_SHIFT) & SQUARE_MASK;
+    }
+
+    /**
+     * Returns the flags of the encoded move.
+     *
+     * @param move The encoded move.
+     * @return The flags of the encoded move.
+     */
+    public static int getFlags(final int move) {
+        return (move >>> FLAGS_SHIFT) & FLAGS_MASK;
+    }
+
+    /**
+     * Returns the type of the piece the encoded move moves.
+     *
+     * @param move The encoded move.
+     * @return The type of the piece the encoded move moves.
+     */
+    public static PieceType getMovedPieceType(final int move) {
+        return PIECE_TYPES[(move >>> MOVED_PIECE_SHIFT) & PIECE_TYPE_MASK];
+    }
+
+    /**
+     * Returns the type of the piece the encoded move captures, or null if it captures nothing.
+     *
+     * @param move The encoded move.
+     * @return The type of the piece the encoded move captures, or null if it captures nothing.
+     */
+    public static PieceType getCapturedPieceType(final int move) {
+        return isCapture(move) ? PIECE_TYPES[(move >>> CAPTURED_PIECE_SHIFT) & PIECE_TYPE_MASK] : null;
+    }
+
+    /**
+     * Returns whether the encoded move captures a piece.
+     *
+     * @param move The encoded move.
+     * @return Whether the encoded move captures a piece.
+     */
+    public static boolean isCapture(final int move) {
+        return (getFlags(move) & CAPTURE_FLAG) != 0;
+    }
+
+    /**
+     * Returns whether the encoded move promotes a pawn.
+     *
+     * @param move The encoded move.
+     * @return Whether the encoded move promotes a pawn.
+     */
+    public static boolean isPromotion(final int move) {
+        return (getFlags(move) & PROMOTION_FLAG) != 0;
+    }
+
+    /**
+     * Returns the type of piece a pawn is promoted to by the encoded move.
+     *
+     * @param move The encoded move.
+     * @return The type of piece a pawn is promoted to by the encoded move.
+     */
+    public static PieceType getPromotionType(final int move) {
+        return PROMOTION_TYPES[getFlags(move) & PROMOTION_TYPE_MASK];
+    }
+
+    /**
+     * Returns the alliance of the player making a move.
+     *
+     * @return The alliance of the player making a move.
+     */
+    public Alliance getCurrentAlliance() {
+        return ALLIANCES[this.currentAlliance];
+    }
+
+    /**
+     * Returns how many moves have been made since the board was created.
+     *
+     * @return How many moves have been made since the board was created.
+     */
+    public int getPly() {
+        return this.ply;
+    }
+
+    /**
+     * Returns the zobrist key of the current position, which is the same key a Board holding the position has.
+     *
+     * @return The zobrist key of the current position.
+     */
+    public long getZobristKey() {
+        return this.zobristKey;
+    }
+
+    /**
+     * Returns the bitboard of the pieces with the given alliance and type.
+     *
+     * @param alliance  The pieces' alliance.
+     * @param pieceType The pieces' type.
+     * @return The bitboard of the pieces with the given alliance and type.
+     */
+    public long getPieceBitboard(final Alliance alliance, final PieceType pieceType) {
+        return this.pieceBitboards[getBitboardIndex(alliance, pieceType)];
+    }
+
+    /**
+     * Returns the bitboard of all the squares occupied by the given alliance's pieces.
+     *
+     * @param alliance The pieces' alliance.
+     * @return The bitboard of all the squares occupied by the given alliance's pieces.
+     */
+    public long getOccupancy(final Alliance alliance) {
+        return this.occupancies[alliance.ordinal()];
+    }
+
+    /**
+     * Returns the type of the piece on the given square, or null if the square is empty.
+     *
+     * @param squareIndex The index of the square.
+     * @return The type of the piece on the given square, or null if the square is empty.
+     */
+    public PieceType getPieceType(final int squareIndex) {
+        final int pieceIndex = this.boardConfig[squareIndex];
+        return pieceIndex == NO_PIECE ? null : PIECE_TYPES[pieceIndex % NUM_PIECE_TYPES];
+    }
+
+    /**
+     * Returns the move buffer that belongs to the current ply. Each ply has its own buffer, so a move made from this
+     * ply does not overwrite the moves still to be searched.
+     *
+     * @return The move buffer that belongs to the current ply.
+     */
+    public int[] getMoveBuffer() {
+        return this.moveBuffers[this.ply];
+    }
+
+    /**
+     * Places a piece on an empty square.
+     *
+     * @param pieceIndex  The bitboard index of the piece.
+     * @param squareIndex The index of the square.
+     */
+    private void addPiece(final int pieceIndex, final int squareIndex) {
+        final long squareBit = getSquareBit(squareIndex);
+        this.pieceBitboards[pieceIndex] |= squareBit;
+        this.occupancies[pieceIndex / NUM_PIECE_TYPES] |= squareBit;
+        this.boardConfig[squareIndex] = pieceIndex;
+        this.zobristKey ^= getPieceKey(pieceIndex, squareIndex);
+    }
+
+    /**
+     * Removes the piece from a square.
+     *
+     * @param squareIndex The index of the square.
+     * @return The bitboard index of the removed piece.
+     */
+    private int removePiece(final int squareIndex) {
+        final int pieceIndex = this.boardConfig[squareIndex];
+        final long squareBit = getSquareBit(squareIndex);
+        this.pieceBitboards[pieceIndex] &= ~squareBit;
+        this.occupancies[pieceIndex / NUM_PIECE_TYPES] &= ~squareBit;
+        this.boardConfig[squareIndex] = NO_PIECE;
+        this.zobristKey ^= getPieceKey(pieceIndex, squareIndex);
+
+        return pieceIndex;
+    }
+
+    /**
+     * Moves the piece from one square to an empty square.
+     *
+     * @param currentIndex     Where the piece currently is.
+     * @param destinationIndex Where the piece moves to.
+     */
+    private void movePiece(final int currentIndex, final int destinationIndex) {
+        addPiece(removePiece(currentIndex), destinationIndex);
+    }
+
+    /**
+     * Performs the encoded move in place. A move that leaves the mover's king in check is taken back right away.
+     *
+     * @param move The encoded move to perform.
+     * @return Whether the move was legal and is now on the board.
+     */
+    public boolean makeMove(final int move) {
+        final int currentIndex = getCurrentIndex(move), destinationIndex = getDestinationIndex(move);
+        final int flags = getFlags(move);
+        final int movingAlliance = this.currentAlliance;
+
+        this.castlingRightsStack[this.ply] = this.castlingRights;
+        this.enPassantIndexStack[this.ply] = this.enPassantIndex;
+        this.zobristKeyStack[this.ply] = this.zobristKey;
+
+        if (flags == EN_PASSANT_FLAG) {
+            removePiece(getEnPassantPawnIndex(destinationIndex, movingAlliance));
+        } else if ((flags & CAPTURE_FLAG) != 0) {
+            removePiece(destinationIndex);
+        }
+
+        movePiece(currentIndex, destinationIndex);
+        if ((flags & PROMOTION_FLAG) != 0) {
+            removePiece(destinationIndex);
+            addPiece(getPieceIndex(movingAlliance, getPromotionType(move)), destinationIndex);
+        } else if (flags == KINGSIDE_CASTLE_FLAG) {
+            movePiece(destinationIndex + 1, destinationIndex - 1);
+        } else if (flags == QUEENSIDE_CASTLE_FLAG) {
+            movePiece(destinationIndex - 2, destinationIndex + 1);
+        }
+
+        // The pieces are already hashed by addPiece() and removePiece(), which leaves the rest of the position
+        this.zobristKey ^= getCastlingKey(this.castlingRights) ^ getEnPassantKey(getEnPassantFile(this.enPassantIndex));
+        this.enPassantIndex = flags == DOUBLE_PAWN_PUSH_FLAG ? (currentIndex + destinationIndex) / 2 : NO_SQUARE;
+        this.castlingRights &= getCastlingMask(currentIndex) & getCastlingMask(destinationIndex);
+        this.zobristKey ^= getCastlingKey(this.castlingRights) ^ getEnPassantKey(getEnPassantFile(this.enPassantIndex));
+        this.zobristKey ^= BLACK_TO_MOVE_KEY;
+        this.currentAlliance ^= 1;
+        this.ply++;
+        this.gameStatuses[this.ply] = null;
+
+        if (isKingAttacked(movingAlliance)) {
+            unmakeMove(move);
+            return false;
+        }
+
+        return true;
+    }
+
+    /**
+     * Takes back the encoded move, which must be the last move performed.
+     *
+     * @param move The encoded move to take back.
+     */
+    public void unmakeMove(final int move) {
+        this.ply--;
+        this.currentAlliance ^= 1;
+        this.castlingRights = this.castlingRightsStack[this.ply];
+        this.enPassantIndex = this.enPassantIndexStack[this.ply];
+
+        final int currentIndex = getCurrentIndex(move), destinationIndex = getDestinationIndex(move);
+        final int flags = getFlags(move);
+        final int movingAlliance = this.currentAlliance;
+
+        if ((flags & PROMOTION_FLAG) != 0) {
+            removePiece(destinationIndex);
+            addPiece(getPieceIndex(movingAlliance, PieceType.PAWN), destinationIndex);
+        } else if (flags == KINGSIDE_CASTLE_FLAG) {
+            movePiece(destinationIndex - 1, destinationIndex + 1);
+        } else if (flags == QUEENSIDE_CASTLE_FLAG) {
+            movePiece(destinationIndex + 1, destinationIndex - 2);
+        }
+        movePiece(destinationIndex, currentIndex);
+
+        if (flags == EN_PASSANT_FLAG) {
+            addPiece(getPieceIndex(movingAlliance ^ 1, PieceType.PAWN),
+                     getEnPassantPawnIndex(destinationIndex, movingAlliance));
+        } else if ((flags & CAPTURE_FLAG) != 0) {
+            addPiece(getPieceIndex(movingAlliance ^ 1, getCapturedPieceType(move)), destinationIndex);
+        }
+        this.zobristKey = this.zobristKeyStack[this.ply];
+    }
+
+    /**
+     * Passes the move to the opponent without moving a piece. The en passant pawn can no longer be captured, while
+     * the castles stay the same. The player must not be in check, since the opponent could then capture the king.
+     */
+    public void makeNullMove() {
+        this.castlingRightsStack[this.ply] = this.castlingRights;
+        this.enPassantIndexStack[this.ply] = this.enPassantIndex;
+        this.zobristKeyStack[this.ply] = this.zobristKey;
+
+        this.zobristKey ^= getEnPassantKey(getEnPassantFile(this.enPassantIndex)) ^ BLACK_TO_MOVE_KEY;
+        this.enPassantIndex = NO_SQUARE;
+        this.currentAlliance ^= 1;
+        this.ply++;
+        this.gameStatuses[this.ply] = null;
+    }
+
+    /**
+     * Takes back the null move, which must be the last move performed.
+     */
+    public void unmakeNullMove() {
+        this.ply--;
+        this.currentAlliance ^= 1;
+        this.enPassantIndex = this.enPassantIndexStack[this.ply];
+        this.zobristKey = this.zobristKeyStack[this.ply];
+    }
+
+    /**
+     * Returns whether the player making a move has a piece other than pawns and the king. Without one, passing is
+     * often the best move (zugzwang), so the search cannot trust a null move.
+     *
+     * @return Whether the player making a move has a piece other than pawns and the king.
+     */
+    public boolean hasNonPawnMaterial() {
+        final int alliance = this.currentAlliance;
+        return (this.occupancies[alliance] &
+                ~this.pieceBitboards[getPieceIndex(alliance, PieceType.PAWN)] &
+                ~this.pieceBitboards[getPieceIndex(alliance, PieceType.KING)]) != 0;
+    }
+
+    /**
+     * Returns the file of the en passant square, or -1 without one.
+     *
+     * @param enPassantIndex The index of the square the en passant pawn skipped over, or NO_SQUARE.
+     * @return The file of the en passant square, or -1 without one.
+     */
+    private static int getEnPassantFile(final int enPassantIndex) {
+        return enPassantIndex == NO_SQUARE ? -1 : enPassantIndex % FILE_NUM_SQUARES;
+    }
+
+    /**
+     * Returns the index of the pawn captured en passant.
+     *
+     * @param destinationIndex Where the capturing pawn moves to.
+     * @param movingAlliance   The capturing pawn's alliance.
+     * @return The index of the pawn captured en passant.
+     */
+    private static int getEnPassantPawnIndex(final int destinationIndex, final int movingAlliance) {
+        return destinationIndex + (ALLIANCES[movingAlliance].isWhite() ? RANK_NUM_SQUARES : -RANK_NUM_SQUARES);
+    }
+
+    /**
+     * Returns the bitboard index of the piece with the given alliance and type.
+     *
+     * @param alliance  The piece's alliance ordinal.
+     * @param pieceType The piece's type.
+     * @return The bitboard index of the piece with the given alliance and type.
+     */
+    private static int getPieceIndex(final int alliance, final PieceType pieceType) {
+        return alliance * NUM_PIECE_TYPES + pieceType.ordinal();
+    }
+
+    /**
+     * Returns whether the king of the given alliance is attacked by the other alliance.
+     *
+     * @param alliance The king's alliance ordinal.
+     * @return Whether the king of the given alliance is attacked by the other alliance.
+     */
+    private boolean isKingAttacked(final int alliance) {
+        final long kingBitboard = this.pieceBitboards[getPieceIndex(alliance, PieceType.KING)];
+        return isSquareAttacked(getLowestSquare(kingBitboard), alliance ^ 1);
+    }
+
+    /**
+     * Returns whether the player making a move is in check.
+     *
+     * @return Whether the player making a move is in check.
+     */
+    public boolean isInCheck() {
+        return isKingAttacked(this.currentAlliance);
+    }
+
+    /**
+     * Returns whether the given alliance's king is in check.
+     *
+     * @param alliance The king's alliance.
+     * @return Whether the given alliance's king is in check.
+     */
+    public boolean isInCheck(final Alliance alliance) {
+        return isKingAttacked(alliance.ordinal());
+    }
+
+    /**
+     * Returns whether the square is attacked by any piece of the given alliance.
+     *
+     * @param squareIndex The index of the square.
+     * @param alliance    The attacking alliance's ordinal.
+     * @return Whether the square is attacked by any piece of the given alliance.
+     */
+    private boolean isSquareAttacked(final int squareIndex, final int alliance) {
+        return BitboardUtils.isSquareAttacked(this.pieceBitboards, getOccupancy(), squareIndex, alliance);
+    }
+
+    /**
+     * Generates the moves of the player making a move into the given buffer. The moves may still leave the player's
+     * king in check, which makeMove() finds out.
+     *
+     * @param moves The buffer to write the encoded moves into.
+     * @return The number of moves written into the buffer.
+     */
+    public int generateMoves(final int[] moves) {
+        return generateMoves(this.currentAlliance, moves);
+    }
+
+    /**
+     * Generates the captures and promotions of the player making a move into the given buffer, which is all that a
+     * quiescence search looks at. Like generateMoves(), the moves may still leave the player's king in check.
+     *
+     * @param moves The buffer to write the encoded moves into.
+     * @return The number of moves written into the buffer.
+     */
+    public int generateCaptures(final int[] moves) {
+        final int numMoves = generateMoves(this.currentAlliance, moves);
+        int numCaptures = 0;
+        for (int i = 0; i < numMoves; i++) {
+            if (isCapture(moves[i]) || isPromotion(moves[i])) {
+                moves[numCaptures++] = moves[i];
+            }
+        }
+
+        return numCaptures;
+    }
+
+    /**
+     * Generates only the legal moves of the player making a move into the given buffer. The pieces that give check
+     * and the pieces pinned to the king are worked out once (see LegalityUtils), so no move has to be made to find out
+     * whether it leaves the king in check, and in double check only the king's moves are generated at all.
+     *
+     * @param moves The buffer to write the encoded moves into.
+     * @return The number of moves written into the buffer.
+     */
+    public int generateLegalMoves(final int[] moves) {
+        final int alliance = this.currentAlliance;
+        final int kingIndex = getLowestSquare(this.pieceBitboards[getPieceIndex(alliance, PieceType.KING)]);
+        final long checkers = calculateAttackers(this.pieceBitboards, getOccupancy(), kingIndex, alliance ^ 1);
+        final int numMoves = Long.bitCount(checkers) > 1 ?
+                             generatePieceMoves(alliance, PieceType.KING, moves, 0) :
+                             generateMoves(alliance, moves);
+
+        return filterLegalMoves(moves, numMoves, kingIndex, checkers);
+    }
+
+    /**
+     * Keeps only the legal moves at the front of the buffer, in the order they were generated.
+     *
+     * @param moves     The buffer of the player making a move's encoded moves.
+     * @param numMoves  The number of moves in the buffer.
+     * @param kingIndex The index of the square of the player making a move's king.
+     * @param checkers  The bitboard of the opponent's pieces that give check.
+     * @return The number of legal moves at the front of the buffer.
+     */
+    private int filterLegalMoves(final int[] moves, final int numMoves, final int kingIndex, final long checkers) {
+        final int alliance = this.currentAlliance;
+        final long occupancy = getOccupancy();
+        final long pinnedPieces = calculatePinnedPieces(this.pieceBitboards, occupancy, kingIndex, alliance);
+        int numLegalMoves = 0;
+        for (int i = 0; i < numMoves; i++) {
+            final int move = moves[i];
+            if (isLegalMove(this.pieceBitboards,
+                            occupancy,
+                            alliance,
+                            kingIndex,
+                            checkers,
+                            pinnedPieces,
+                            getCurrentIndex(move),
+                            getDestinationIndex(move),
+                            getFlags(move) == EN_PASSANT_FLAG)) {
+                moves[numLegalMoves++] = move;
+            }
+        }
+
+        return numLegalMoves;
+    }
+
+    /**
+     * Returns the number of moves the given alliance has on the board, castles included. Like the moves of a Player,
+     * these may still leave the king in check.
+     *
+     * @param alliance The alliance whose moves to count.
+     * @return The number of moves the given alliance has on the board.
+     */
+    public int countMoves(final Alliance alliance) {
+        final int allianceOrdinal = alliance.ordinal();
+        // Only the pawn moves and castles are generated, since every other piece has a move to each square it attacks
+        // that the player does not occupy
+        int numMoves = generateCastles(allianceOrdinal,
+                                       this.scratchMoves,
+                                       generatePawnMoves(allianceOrdinal, this.scratchMoves, 0));
+        final long notPlayerOccupancy = ~this.occupancies[allianceOrdinal], occupancy = getOccupancy();
+        for (final PieceType pieceType : NON_PAWN_TYPES) {
+            for (long pieces = this.pieceBitboards[getPieceIndex(allianceOrdinal, pieceType)];
+                 pieces != 0;
+                 pieces = clearLowestSquare(pieces)) {
+                numMoves += Long.bitCount(getPieceAttacks(pieceType, getLowestSquare(pieces), occupancy) &
+                                          notPlayerOccupancy);
+            }
+        }
+
+        return numMoves;
+    }
+
+    /**
+     * Returns whether the player making a move has at least one legal move. The moves are generated one piece type at
+     * a time, starting with the king's, and the search stops at the first legal one. The pawns come last, since they
+     * take the longest to generate, and the castles are never needed: a king that can castle can also step onto the
+     * square next to it.
+     *
+     * @return Whether the player making a move has at least one legal move.
+     */
+    public boolean hasLegalMoves() {
+        final int alliance = this.currentAlliance;
+        final int kingIndex = getLowestSquare(this.pieceBitboards[getPieceIndex(alliance, PieceType.KING)]);
+        final long checkers = calculateAttackers(this.pieceBitboards, getOccupancy(), kingIndex, alliance ^ 1);
+        final int[] moves = this.scratchMoves;
+        if (filterLegalMoves(moves, generatePieceMoves(alliance, PieceType.KING, moves, 0), kingIndex, checkers) > 0) {
+            return true;
+        }
+        if (Long.bitCount(checkers) > 1) {
+            // Only the king can escape a double check
+            return false;
+        }
+        for (final PieceType pieceType : NON_PAWN_TYPES) {
+            if (pieceType != PieceType.KING &&
+                filterLegalMoves(moves, generatePieceMoves(alliance, pieceType, moves, 0), kingIndex, checkers) > 0) {
+                return true;
+            }
+        }
+
+        return filterLegalMoves(moves, generatePawnMoves(alliance, moves, 0), kingIndex, checkers) > 0;
+    }
+
+    /**
+     * Returns the status of the game for the player making a move. The status is worked out at most once per ply and
+     * kept until a move is made from the ply before it, so the search and the evaluator can both ask for it.
+     *
+     * @return The status of the game for the player making a move.
+     */
+    public GameStatus getGameStatus() {
+        GameStatus gameStatus = this.gameStatuses[this.ply];
+        if (gameStatus == null) {
+            gameStatus = GameStatus.of(hasLegalMoves(), isInCheck());
+            this.gameStatuses[this.ply] = gameStatus;
+        }
+
+        return gameStatus;
+    }
+
+    /**
+     * Returns whether the player making a move is in checkmate. A player who is not in check is never looked at any
+     * further, which keeps the question cheap at the leaves of the search.
+     *
+     * @return Whether the player making a move is in checkmate.
+     */
+    public boolean isInCheckmate() {
+        return isInCheck() && getGameStatus() == GameStatus.CHECKMATE;
+    }
+
+    /**
+     * Returns whether the player making a move is in stalemate.
+     *
+     * @return Whether the player making a move is in stalemate.
+     */
+    public boolean isInStalemate() {
+        return getGameStatus() == GameStatus.STALEMATE;
+    }
+
+    /**
+     * Returns how much material the player making a move wins (or loses, if negative) by the encoded move once every
+     * capture on its destination square has played out (see ExchangeUtils). The board is left as it is.
+     *
+     * @param move The encoded move of the player making a move.
+     * @return How much material the move wins once the captures on its destination square have played out.
+     */
+    public int evaluateExchange(final int move) {
+        return ExchangeUtils.evaluateExchange(this.pieceBitboards,
+                                              getOccupancy(),
+                                              this.currentAlliance,
+                                              getCurrentIndex(move),
+                                              getDestinationIndex(move),
+                                              getMovedPieceType(move),
+                                              getCapturedPieceType(move),
+                                              isPromotion(move) ? getPromotionType(move) : null,
+                                              getFlags(move) == EN_PASSANT_FLAG,
+                                              this.exchangeGains);
+    }
+
+    /**
+     * Returns the encoded move that matches the given move, or NO_MOVE if the move cannot be made on this board.
+     *
+     * @param move The move to look for.
+     * @return The encoded move that matches the given move.
+     */
+    public int findMove(final Move move) {
+        final int numMoves = generateMoves(this.currentAlliance, this.scratchMoves);
+        for (int i = 0; i < numMoves; i++) {
+            final int searchMove = this.scratchMoves[i];
+            if (getCurrentIndex(searchMove) == move.getCurrentIndex() &&
+                getDestinationIndex(searchMove) == move.getDestinationIndex() &&
+                isPromotion(searchMove) == move instanceof PawnPromotion &&
+                (!isPromotion(searchMove) ||
+                 getPromotionType(searchMove) == ((PawnPromotion) move).getPromotionType())) {
+                return searchMove;
+            }
+        }
+
+        return NO_MOVE;
+    }
+
+    /**
+     * Generates the moves of the given alliance into the given buffer.
+     *
+     * @param alliance The alliance ordinal of the player whose moves are generated.
+     * @param moves    The buffer to write the encoded moves into.
+     * @return The number of moves written into the buffer.
+     */
+    private int generateMoves(final int alliance, final int[] moves) {
+        int numMoves = generatePawnMoves(alliance, moves, 0);
+        for (final PieceType pieceType : NON_PAWN_TYPES) {
+            numMoves = generatePieceMoves(alliance, pieceType, moves, numMoves);
+        }
+
+        return generateCastles(alliance, moves, numMoves);
+    }
+
+    /**
+     * Generates the pawn advances, jumps, attacks, en passant attacks, and promotions of the given alliance.
+     *
+     * @param alliance The pawns' alliance ordinal.
+     * @param moves    The buffer to write the encoded moves into.
+     * @param numMoves The number of moves already in the buffer.
+     * @return The number of moves in the buffer afterwards.
+     */
+    private int generatePawnMoves(final int alliance, final int[] moves, int numMoves) {
+        final boolean isWhite = ALLIANCES[alliance].isWhite();
+        final int rankStep = isWhite ? -1 : 1, initialRank = isWhite ? 6 : 1, promotionRank = isWhite ? 0 : 7;
+        final long opponentOccupancy = this.occupancies[alliance ^ 1];
+        final int pawn = getPieceIndex(alliance, PieceType.PAWN);
+
+        for (long pawns = this.pieceBitboards[pawn];
+             pawns != 0;
+             pawns = clearLowestSquare(pawns)) {
+            final int currentIndex = getLowestSquare(pawns);
+            final int rank = currentIndex / RANK_NUM_SQUARES, file = currentIndex % FILE_NUM_SQUARES;
+            final int destRank = rank + rankStep;
+
+            final int advanceIndex = getPositionIndex(destRank, file);
+            if (this.boardConfig[advanceIndex] == NO_PIECE) {
+                if (destRank == promotionRank) {
+                    numMoves = addPromotions(currentIndex, advanceIndex, NO_PIECE, moves, numMoves);
+                } else {
+                    moves[numMoves++] = encodeMove(currentIndex, advanceIndex, QUIET_FLAG, pawn, NO_PIECE);
+                    if (rank == initialRank) {
+                        final int jumpIndex = getPositionIndex(destRank + rankStep, file);
+                        if (this.boardConfig[jumpIndex] == NO_PIECE) {
+                            moves[numMoves++] = encodeMove(currentIndex, jumpIndex, DOUBLE_PAWN_PUSH_FLAG, pawn,
+                                                           NO_PIECE);
+                        }
+                    }
+                }
+            }
+
+            final long attacks = getPawnAttacks(alliance, currentIndex);
+            for (long targets = attacks & opponentOccupancy; targets != 0; targets = clearLowestSquare(targets)) {
+                final int attackIndex = getLowestSquare(targets);
+                final int capturedPiece = this.boardConfig[attackIndex];
+                if (destRank == promotionRank) {
+                    numMoves = addPromotions(currentIndex, attackIndex, capturedPiece, moves, numMoves);
+                } else {
+                    moves[numMoves++] = encodeMove(currentIndex, attackIndex, CAPTURE_FLAG, pawn, capturedPiece);
+                }
+            }
+            if (this.enPassantIndex != NO_SQUARE && isSquareSet(attacks, this.enPassantIndex)) {
+                moves[numMoves++] = encodeMove(currentIndex, this.enPassantIndex, EN_PASSANT_FLAG, pawn, pawn);
+            }
+        }
+
+        return numMoves;
+    }
+
+    /**
+     * Adds a promotion to every piece type a pawn can be promoted to, starting with the queen.
+     *
+     * @param currentIndex     Where the pawn currently is.
+     * @param destinationIndex Where the pawn is promoted.
+     * @param capturedPiece    The bitboard index of the piece the promotion captures, or NO_PIECE.
+     * @param moves            The buffer to write the encoded moves into.
+     * @param numMoves         The number of moves already in the buffer.
+     * @return The number of moves in the buffer afterwards.
+     */
+    private static int addPromotions(final int currentIndex,
+                                     final int destinationIndex,
+                                     final int capturedPiece,
+                                     final int[] moves,
+                                     int numMoves) {
+        final int flags = PROMOTION_FLAG | (capturedPiece == NO_PIECE ? QUIET_FLAG : CAPTURE_FLAG);
+        final int pawn = PieceType.PAWN.ordinal();
+        moves[numMoves++] = encodeMove(currentIndex, destinationIndex, flags | QUEEN_PROMOTION, pawn, capturedPiece);
+        moves[numMoves++] = encodeMove(currentIndex, destinationIndex, flags | KNIGHT_PROMOTION, pawn, capturedPiece);
+        moves[numMoves++] = encodeMove(currentIndex, destinationIndex, flags | ROOK_PROMOTION, pawn, capturedPiece);
+        moves[numMoves++] = encodeMove(currentIndex, destinationIndex, flags | BISHOP_PROMOTION, pawn, capturedPiece);
+
+        return numMoves;
+    }
+
+    /**
+     * Generates the moves of the given alliance's pieces of one type other than the pawn. The squares a piece attacks
+     * come from the attack tables, so only the squares it can actually move to are looked at.
+     *
+     * @param alliance  The pieces' alliance ordinal.
+     * @param pieceType The pieces' type.
+     * @param moves     The buffer to write the encoded moves into.
+     * @param numMoves  The number of moves already in the buffer.
+     * @return The number of moves in the buffer afterwards.
+     */
+    private int generatePieceMoves(final int alliance, final PieceType pieceType, final int[] moves, int numMoves) {
+        final long notPlayerOccupancy = ~this.occupancies[alliance], occupancy = getOccupancy();
+        final int movedPiece = getPieceIndex(alliance, pieceType);
+
+        for (long pieces = this.pieceBitboards[movedPiece];
+             pieces != 0;
+             pieces = clearLowestSquare(pieces)) {
+            final int currentIndex = getLowestSquare(pieces);
+            for (long targets = getPieceAttacks(pieceType, currentIndex, occupancy) & notPlayerOccupancy;
+                 targets != 0;
+                 targets = clearLowestSquare(targets)) {
+                final int destIndex = getLowestSquare(targets);
+                final int capturedPiece = this.boardConfig[destIndex];
+                moves[numMoves++] = encodeMove(currentIndex,
+                                               destIndex,
+                                               capturedPiece == NO_PIECE ? QUIET_FLAG : CAPTURE_FLAG,
+                                               movedPiece,
+                                               capturedPiece);
+            }
+        }
+
+        return numMoves;
+    }
+
+    /**
+     * Returns the bitboard of the squares a piece other than a pawn attacks from the given square.
+     *
+     * @param pieceType   The piece's type.
+     * @param squareIndex The index of the piece's square.
+     * @param occupancy   The bitboard of all the occupied squares, which blocks the sliding pieces.
+     * @return The bitboard of the squares a piece other than a pawn attacks from the given square.
+     */
+    private static long getPieceAttacks(final PieceType pieceType, final int squareIndex, final long occupancy) {
+        return switch (pieceType) {
+            case KNIGHT -> getKnightAttacks(squareIndex);
+            case KING -> getKingAttacks(squareIndex);
+            default -> getSlidingAttacks(pieceType, squareIndex, occupancy);
+        };
+    }
+
+    /**
+     * Returns the bitboard of all the occupied squares.
+     *
+     * @return The bitboard of all the occupied squares.
+     */
+    private long getOccupancy() {
+        return this.occupancies[Alliance.WHITE.ordinal()] | this.occupancies[Alliance.BLACK.ordinal()];
+    }
+
+    /**
+     * Generates the castles of the given alliance. The king may not be in check or pass over an attacked square, and
+     * the squares between the king and the rook must be empty.
+     *
+     * @param alliance The king's alliance ordinal.
+     * @param moves    The buffer to write the encoded moves into.
+     * @param numMoves The number of moves already in the buffer.
+     * @return The number of moves in the buffer afterwards.
+     */
+    private int generateCastles(final int alliance, final int[] moves, int numMoves) {
+        final boolean isWhite = ALLIANCES[alliance].isWhite();
+        final int kingIndex = isWhite ? WHITE_KING_INDEX : BLACK_KING_INDEX;
+        final int kingsideRight = isWhite ? WHITE_KINGSIDE : BLACK_KINGSIDE;
+        final int queensideRight = isWhite ? WHITE_QUEENSIDE : BLACK_QUEENSIDE;
+        final int king = getPieceIndex(alliance, PieceType.KING);
+
+        if ((this.castlingRights & (kingsideRight | queensideRight)) == 0 ||
+            isSquareAttacked(kingIndex, alliance ^ 1)) {
+            return numMoves;
+        }
+        if ((this.castlingRights & kingsideRight) != 0 &&
+            this.boardConfig[kingIndex + 1] == NO_PIECE &&
+            this.boardConfig[kingIndex + 2] == NO_PIECE &&
+            !isSquareAttacked(kingIndex + 1, alliance ^ 1)) {
+            moves[numMoves++] = encodeMove(kingIndex, kingIndex + 2, KINGSIDE_CASTLE_FLAG, king, NO_PIECE);
+        }
+        if ((this.castlingRights & queensideRight) != 0 &&
+            this.boardConfig[kingIndex - 1] == NO_PIECE &&
+            this.boardConfig[kingIndex - 2] == NO_PIECE &&
+            this.boardConfig[kingIndex - 3] == NO_PIECE &&
+            !isSquareAttacked(kingIndex - 1, alliance ^ 1)) {
+            moves[numMoves++] = encodeMove(kingIndex, kingIndex - 2, QUEENSIDE_CASTLE_FLAG, king, NO_PIECE);
+        }
+
+        return numMoves;
+    }
+
+    /**
+     * Returns the String representation of the search board, in the same layout as the board's.
+     *
+     * @return The String representation of the search board.
+     */
+    @Override
+    public String toString() {
+        final StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < BOARD_NUM_SQUARES; i++) {
+            final int pieceIndex = this.boardConfig[i];
+            String squareText = "-";
+            if (pieceIndex != NO_PIECE) {
+                final String pieceName = PIECE_TYPES[pieceIndex % NUM_PIECE_TYPES].toString();
+                squareText = ALLIANCES[pieceIndex / NUM_PIECE_TYPES].isBlack() ? pieceName.toLowerCase() : pieceName;
+            }
+            builder.append(String.format("%3s", squareText));
+            if ((i + 1) % RANK_NUM_SQUARES == 0) {
+                builder.append("\n");
+            }
+        }
+
+        return builder.toString();
+    }
+}
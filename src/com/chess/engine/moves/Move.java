@@ -4,10 +4,13 @@ import com.chess.engine.Position;
 import com.chess.engine.board.Board;
 import com.chess.engine.board.Board.Builder;
 import com.chess.engine.moves.misc.NullMove;
+import com.chess.engine.pieces.Pawn;
 import com.chess.engine.pieces.Piece;
 import com.chess.engine.utils.BuilderUtils;
 
 import static com.chess.engine.Position.getPositionIndex;
+import static com.chess.engine.utils.CastlingUtils.getCastlingMask;
+import static com.chess.engine.utils.ZobristUtils.*;
 
 /**
  * Represents a move made in chess. Castling, pawn promotion, and attacking are all examples of a chess move.
@@ -88,12 +91,40 @@ public abstract class Move {
         BuilderUtils.setNonMovingPieces(builder, this.board, this.movedPiece);
 
         // Place the moved piece and switch the move maker
-        builder.setPiece(this.movedPiece.movePiece(this));
+        final Piece movedPiece = this.movedPiece.movePiece(this);
+        builder.setPiece(movedPiece);
         builder.setMoveMaker(this.board.getCurrentPlayer().getOpponent().getAlliance());
+        builder.setZobristKey(updateZobristKey(movedPiece, getAttackedPiece(), null));
 
         return builder.build();
     }
 
+    /**
+     * Returns the zobrist key of the board after the move, updated from the key of the board before the move. The
+     * moved piece is hashed out of its current square and into its new one, the captured piece (if any) is hashed out,
+     * and the castling rights, en passant file, and move maker are swapped for the new ones.
+     *
+     * @param movedPiece    The moved piece in its new position.
+     * @param capturedPiece The captured piece, or null if the move is not an attack.
+     * @param enPassantPawn The pawn that can be captured en passant after the move, or null if there is none.
+     * @return The zobrist key of the board after the move.
+     */
+    protected long updateZobristKey(final Piece movedPiece, final Piece capturedPiece, final Pawn enPassantPawn) {
+        final int castlingRights = this.board.getCastlingRights() &
+                                   getCastlingMask(getCurrentIndex()) &
+                                   getCastlingMask(getDestinationIndex());
+
+        long zobristKey = this.board.getZobristKey();
+        zobristKey ^= getPieceKey(this.movedPiece) ^ getPieceKey(movedPiece);
+        if (capturedPiece != null) {
+            zobristKey ^= getPieceKey(capturedPiece);
+        }
+        zobristKey ^= getCastlingKey(this.board.getCastlingRights()) ^ getCastlingKey(castlingRights);
+        zobristKey ^= getEnPassantKey(this.board.getEnPassantPawn()) ^ getEnPassantKey(enPassantPawn);
+
+        return zobristKey ^ BLACK_TO_MOVE_KEY;
+    }
+
     /**
      * Returns the piece's current position.
      *
@@ -11,6 +11,7 @@ import static com.chess.engine.Position.getPositionIndex;
 import static com.chess.engine.utils.BuilderUtils.setNonMovingCastlePieces;
 import static com.chess.engine.utils.PiecePositions.NFM_BR_POSITIONS_CACHE;
 import static com.chess.engine.utils.PiecePositions.NFM_WR_POSITIONS_CACHE;
+import static com.chess.engine.utils.ZobristUtils.getPieceKey;
 
 /**
  * Represents a castle move. Castling involves the king and one of the rooks and has some conditions in order to be
@@ -72,14 +73,20 @@ public abstract class CastleMove extends Move {
 
         setNonMovingCastlePieces(builder, this.board, this.movedPiece, this.castleRook);
 
-        builder.setPiece(this.movedPiece.movePiece(this));
+        final Piece movedKing = this.movedPiece.movePiece(this);
+        builder.setPiece(movedKing);
         // TODO: look into the first move on normal pieces
         final int rookDestinationIndex = getPositionIndex(rookDestinationPosition.rank(),
                                                           rookDestinationPosition.file());
-        builder.setPiece(this.movedPiece.getPieceAlliance().isBlack() ?
-                         NFM_BR_POSITIONS_CACHE.get(rookDestinationIndex) :
-                         NFM_WR_POSITIONS_CACHE.get(rookDestinationIndex));
+        final Piece movedRook = this.movedPiece.getPieceAlliance().isBlack() ?
+                                NFM_BR_POSITIONS_CACHE.get(rookDestinationIndex) :
+                                NFM_WR_POSITIONS_CACHE.get(rookDestinationIndex);
+        builder.setPiece(movedRook);
         builder.setMoveMaker(this.board.getCurrentPlayer().getOpponent().getAlliance());
+        // The king's move already takes away the castling rights, so only the rook's squares are left to hash
+        builder.setZobristKey(updateZobristKey(movedKing, null, null) ^
+                              getPieceKey(this.castleRook) ^
+                              getPieceKey(movedRook));
 
         return builder.build();
     }
@@ -2,29 +2,66 @@ package com.chess.engine.moves.misc;
 
 import com.chess.engine.Position;
 import com.chess.engine.board.Board;
+import com.chess.engine.board.Board.Builder;
 import com.chess.engine.moves.Move;
+import com.chess.engine.pieces.Piece;
+
+import static com.chess.engine.utils.ZobristUtils.BLACK_TO_MOVE_KEY;
+import static com.chess.engine.utils.ZobristUtils.getEnPassantKey;
 
 /**
- * Represents a null move. A null move is a move that does not exist on the chessboard. This class extends the Move
- * class, and may implement some of its methods.
+ * Represents a null move. A null move is a move that does not exist on the chessboard: the player making a move passes
+ * it to the opponent without moving a piece. Without a board, the null move stands in for a move that could not be
+ * found. This class extends the Move class, and may implement some of its methods.
  *
  * @author Jamie Canada
  * @since 10/09/25
  */
 public class NullMove extends Move {
     /**
-     * Creates a NullMove object affiliated with the chessboard.
+     * Creates a NullMove object that stands in for a move that could not be found.
      */
     public NullMove() {
         super(null, new Position(8, 8));
     }
 
     /**
-     * Throws a runtime exception because a non-existing move should not be able to be performed.
+     * Creates a NullMove object affiliated with the chessboard, which passes the move to the opponent.
+     *
+     * @param board What the move takes place on.
+     */
+    public NullMove(final Board board) {
+        super(board, new Position(8, 8));
+    }
+
+    /**
+     * Returns a new board with the same pieces and the opponent making a move. The en passant pawn can no longer be
+     * captured, while the castles stay the same since no piece has moved.
+     *
+     * @return A new board with the same pieces and the opponent making a move.
      */
     @Override
     public Board execute() {
-        throw new RuntimeException("A null move cannot be performed.");
+        if (this.board == null) {
+            throw new RuntimeException("A null move without a board cannot be performed.");
+        }
+        if (this.board.getCurrentPlayer().isInCheck()) {
+            throw new RuntimeException("A null move cannot be performed while in check.");
+        }
+
+        final Builder builder = new Builder();
+        for (final Piece piece : this.board.getCurrentPlayer().getActivePieces()) {
+            builder.setPiece(piece);
+        }
+        for (final Piece piece : this.board.getCurrentPlayer().getOpponent().getActivePieces()) {
+            builder.setPiece(piece);
+        }
+        builder.setMoveMaker(this.board.getCurrentPlayer().getOpponent().getAlliance());
+        builder.setZobristKey(this.board.getZobristKey() ^
+                              getEnPassantKey(this.board.getEnPassantPawn()) ^
+                              BLACK_TO_MOVE_KEY);
+
+        return builder.build();
     }
 
     /**
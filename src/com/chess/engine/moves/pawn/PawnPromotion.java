@@ -1,17 +1,14 @@
 package com.chess.engine.moves.pawn;
 
-import com.chess.engine.Position;
 import com.chess.engine.board.Board;
 import com.chess.engine.board.Board.Builder;
 import com.chess.engine.moves.Move;
 import com.chess.engine.pieces.Pawn;
 import com.chess.engine.pieces.Piece;
-import com.chess.engine.pieces.Queen;
+import com.chess.engine.pieces.Piece.PieceType;
 
-import static com.chess.engine.Position.getPositionIndex;
 import static com.chess.engine.utils.BuilderUtils.*;
-import static com.chess.engine.utils.PiecePositions.FM_BQ_POSITIONS_CACHE;
-import static com.chess.engine.utils.PiecePositions.FM_WQ_POSITIONS_CACHE;
+import static com.chess.engine.utils.PiecePositions.getCachedPiece;
 
 /**
  * Represents the promoting of a pawn after advancing to its last rank. The player can decide to promote the pawn to a
@@ -22,53 +19,79 @@ import static com.chess.engine.utils.PiecePositions.FM_WQ_POSITIONS_CACHE;
  * @since 10/14/25
  */
 public class PawnPromotion extends Move {
+    public static final PieceType[] PROMOTION_TYPES = { PieceType.QUEEN,
+                                                        PieceType.ROOK,
+                                                        PieceType.BISHOP,
+                                                        PieceType.KNIGHT };
+
     final Move pawnMove;
     final Pawn promotedPawn;
+    final PieceType promotionType;
 
     /**
-     * Creates a PawnPromotion object by using a move parameter that follow the decorator pattern, utilizing the
-     * decorated move's board, moved piece, and destination position attributes.
+     * Creates a PawnPromotion object to a queen by using a move parameter that follow the decorator pattern, utilizing
+     * the decorated move's board, moved piece, and destination position attributes.
      *
      * @param pawnMove The move the pawn performed before the promotion.
      */
     public PawnPromotion(final Move pawnMove) {
+        this(pawnMove, PieceType.QUEEN);
+    }
+
+    /**
+     * Creates a PawnPromotion object by using a move parameter that follow the decorator pattern, utilizing the
+     * decorated move's board, moved piece, and destination position attributes.
+     *
+     * @param pawnMove      The move the pawn performed before the promotion.
+     * @param promotionType What the pawn is promoted to (a knight, bishop, rook, or queen).
+     */
+    public PawnPromotion(final Move pawnMove, final PieceType promotionType) {
         super(pawnMove.getBoard(), pawnMove.getMovedPiece(), pawnMove.getDestinationPosition());
         this.pawnMove = pawnMove;
         this.promotedPawn = (Pawn) pawnMove.getMovedPiece();
+        this.promotionType = promotionType;
     }
 
     /**
-     * Returns a new board based off the move performed.
+     * Returns a new board based off the move performed. The promoted piece takes the pawn's place on the destination
+     * square, capturing the piece on it (if any).
      *
      * @return A new board based off the move performed.
      */
     @Override
     public Board execute() {
-        final Board pawnMovedBoard = this.pawnMove.execute();
         final Builder builder = new Builder();
 
-        setNonMovingPieces(builder, pawnMovedBoard, this.promotedPawn);
+        setNonMovingPieces(builder, this.board, this.promotedPawn);
 
-        final Position promotionPosition = this.promotedPawn.getPiecePosition();
-        final int promotionIndex = getPositionIndex(promotionPosition.rank(), promotionPosition.file());
-        final Queen promotedPiece = (Queen) (this.promotedPawn.getPieceAlliance().isBlack() ?
-                                             FM_BQ_POSITIONS_CACHE.get(promotionIndex) :
-                                             FM_WQ_POSITIONS_CACHE.get(promotionIndex));
-        builder.setPiece(promotedPiece.movePiece(this));
-        // getCurrentPlayer() because of pawnMovedBoard setting the move maker previously
-        builder.setMoveMaker(pawnMovedBoard.getCurrentPlayer().getAlliance());
+        final Piece promotedPiece = getCachedPiece(this.promotedPawn.getPieceAlliance(),
+                                                   this.promotionType,
+                                                   false,
+                                                   getDestinationIndex());
+        builder.setPiece(promotedPiece);
+        builder.setMoveMaker(this.board.getCurrentPlayer().getOpponent().getAlliance());
+        builder.setZobristKey(updateZobristKey(promotedPiece, getAttackedPiece(), null));
 
         return builder.build();
     }
 
     /**
-     * Returns whether the move is an attack.
+     * Returns what the pawn is promoted to.
+     *
+     * @return What the pawn is promoted to.
+     */
+    public PieceType getPromotionType() {
+        return this.promotionType;
+    }
+
+    /**
+     * Returns whether the move is an attack, which is the case when the pawn captures on its last rank.
      *
      * @return Whether the move is an attack.
      */
     @Override
     public boolean isAttack() {
-        return super.isAttack();
+        return this.pawnMove.isAttack();
     }
 
     /**
@@ -78,7 +101,7 @@ public class PawnPromotion extends Move {
      */
     @Override
     public Piece getAttackedPiece() {
-        return super.getAttackedPiece();
+        return this.pawnMove.getAttackedPiece();
     }
 
     /**
@@ -89,7 +112,10 @@ public class PawnPromotion extends Move {
      */
     @Override
     public boolean equals(Object other) {
-        return this == other || other instanceof PawnPromotion && super.equals(other);
+        return this == other ||
+               other instanceof PawnPromotion otherPromotion &&
+               super.equals(other) &&
+               this.promotionType == otherPromotion.getPromotionType();
     }
 
     /**
@@ -99,7 +125,7 @@ public class PawnPromotion extends Move {
      */
     @Override
     public int hashCode() {
-        return this.pawnMove.hashCode() + (31 * promotedPawn.hashCode());
+        return this.pawnMove.hashCode() + (31 * promotedPawn.hashCode()) + this.promotionType.hashCode();
     }
 
     /**
@@ -109,6 +135,6 @@ public class PawnPromotion extends Move {
      */
     @Override
     public String toString() {
-        return "";
+        return this.pawnMove + "=" + this.promotionType;
     }
 }
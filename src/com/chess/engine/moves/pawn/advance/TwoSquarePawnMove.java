@@ -45,6 +45,7 @@ public class TwoSquarePawnMove extends Move {
         // Once the pawn advances by two squares, it is marked as an en passant pawn only for the next move
         builder.setEnPassantPawn(movedPawn);
         builder.setMoveMaker(this.board.getCurrentPlayer().getOpponent().getAlliance());
+        builder.setZobristKey(updateZobristKey(movedPawn, null, movedPawn));
 
         return builder.build();
     }
@@ -44,8 +44,11 @@ public class EnPassantAttack extends PawnAttackMove {
 
         setNonMovingEnPassantPieces(builder, this.board, this.movedPiece, this.getAttackedPiece());
 
-        builder.setPiece(this.movedPiece.movePiece(this));
+        final Piece movedPawn = this.movedPiece.movePiece(this);
+        builder.setPiece(movedPawn);
         builder.setMoveMaker(this.board.getCurrentPlayer().getOpponent().getAlliance());
+        // The captured pawn is not on the destination square, but updateZobristKey() hashes it out of its own square
+        builder.setZobristKey(updateZobristKey(movedPawn, this.getAttackedPiece(), null));
 
         return builder.build();
     }
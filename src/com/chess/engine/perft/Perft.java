@@ -0,0 +1,216 @@
+package com.chess.engine.perft;
+
+import com.chess.engine.board.Board;
+import com.chess.engine.moves.Move;
+import com.chess.engine.moves.MoveTransition;
+import com.chess.engine.moves.pawn.PawnPromotion;
+import com.chess.engine.utils.FenUtils;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+import static com.chess.engine.utils.BoardUtils.getPositionAtIndex;
+
+/**
+ * Represents the perft (performance test) tool, which counts every leaf node of the move tree down to a given depth.
+ * Since the node counts of the standard positions are well known, perft checks that the move generator and
+ * Board/Player.makeMove are correct, and the time it takes measures how fast they are.
+ * <p>
+ * Perft can remember the node counts of positions it has already counted in a hash table, and it can count the root
+ * moves on separate threads of a fork-join pool.
+ *
+ * @author Jamie Canada
+ * @since 10/22/25
+ */
+public class Perft implements AutoCloseable {
+    private final PerftHashTable hashTable;
+    private final ForkJoinPool forkJoinPool;
+
+    /**
+     * Creates a Perft object that counts on a single thread without a hash table.
+     */
+    public Perft() {
+        this(0, 1);
+    }
+
+    /**
+     * Creates a Perft object with an optional hash table and fork-join pool.
+     *
+     * @param hashSizeMb How many megabytes the hash table may take up, or 0 without a hash table.
+     * @param numThreads How many threads count the root moves, or 1 to count on the calling thread.
+     */
+    public Perft(final int hashSizeMb, final int numThreads) {
+        if (numThreads < 1) {
+            throw new IllegalArgumentException("Perft needs at least 1 thread, not " + numThreads + ".");
+        }
+        this.hashTable = hashSizeMb > 0 ? new PerftHashTable(hashSizeMb) : null;
+        this.forkJoinPool = numThreads > 1 ? new ForkJoinPool(numThreads) : null;
+    }
+
+    /**
+     * Returns how many leaf nodes are reached from the board after the given number of plies.
+     *
+     * @param board What the moves take place on.
+     * @param depth How many plies to count.
+     * @return How many leaf nodes are reached from the board after the given number of plies.
+     */
+    public long countNodes(final Board board, final int depth) {
+        if (depth == 0) {
+            return 1L;
+        }
+
+        long nodes = 0L;
+        for (final long moveNodes : divide(board, depth).values()) {
+            nodes += moveNodes;
+        }
+
+        return nodes;
+    }
+
+    /**
+     * Returns the node count below each of the board's legal root moves, in the order the moves were generated. The
+     * counts of the root moves are split across the fork-join pool's threads when there is one.
+     *
+     * @param board What the moves take place on.
+     * @param depth How many plies to count, including the root move.
+     * @return The node count below each of the board's legal root moves.
+     */
+    public Map<Move, Long> divide(final Board board, final int depth) {
+        if (depth < 1) {
+            throw new IllegalArgumentException("Perft can only divide at a depth of at least 1, not " + depth + ".");
+        }
+
+        final Map<Move, Long> divide = new LinkedHashMap<>();
+        final Map<Move, ForkJoinTask<Long>> tasks = new LinkedHashMap<>();
+        for (final Move move : board.getCurrentPlayer().getLegalMoves()) {
+            final MoveTransition transition = board.getCurrentPlayer().makeMove(move);
+            if (!transition.getMoveStatus().isDone()) {
+                continue;
+            }
+            final Board transitionBoard = transition.getTransitionBoard();
+            if (this.forkJoinPool == null) {
+                divide.put(move, count(transitionBoard, depth - 1));
+            } else {
+                tasks.put(move, this.forkJoinPool.submit(() -> count(transitionBoard, depth - 1)));
+            }
+        }
+        tasks.forEach((move, task) -> divide.put(move, task.join()));
+
+        return divide;
+    }
+
+    /**
+     * Returns how many leaf nodes are reached from the board after the given number of plies. The moves at the last
+     * ply are counted without being made, since a player's legal moves never leave the king in check.
+     *
+     * @param board What the moves take place on.
+     * @param depth How many plies to count.
+     * @return How many leaf nodes are reached from the board after the given number of plies.
+     */
+    private long count(final Board board, final int depth) {
+        if (depth == 0) {
+            return 1L;
+        }
+        if (this.hashTable != null) {
+            final long nodes = this.hashTable.probe(board.getZobristKey(), depth);
+            if (nodes != PerftHashTable.NO_ENTRY) {
+                return nodes;
+            }
+        }
+
+        long nodes = 0L;
+        if (depth == 1) {
+            nodes = board.getCurrentPlayer().getLegalMoves().size();
+        } else {
+            for (final Move move : board.getCurrentPlayer().getLegalMoves()) {
+                nodes += count(move.execute(), depth - 1);
+            }
+        }
+
+        if (this.hashTable != null) {
+            this.hashTable.store(board.getZobristKey(), depth, nodes);
+        }
+
+        return nodes;
+    }
+
+    /**
+     * Shuts down the fork-join pool, if there is one.
+     */
+    @Override
+    public void close() {
+        if (this.forkJoinPool != null) {
+            this.forkJoinPool.shutdown();
+        }
+    }
+
+    /**
+     * Returns the move in coordinate notation, i.e., the source and destination squares followed by the promotion
+     * type (e.g., "e2e4" or "e7e8q").
+     *
+     * @param move The move to write down.
+     * @return The move in coordinate notation.
+     */
+    public static String toCoordinateNotation(final Move move) {
+        final String notation = getPositionAtIndex(move.getCurrentIndex()) +
+                                getPositionAtIndex(move.getDestinationIndex());
+        if (move instanceof PawnPromotion promotion) {
+            return notation + promotion.getPromotionType().toString().toLowerCase();
+        }
+
+        return notation;
+    }
+
+    /**
+     * Runs perft from the command line and prints the node count, the time it took, and the nodes per second.
+     * <p>
+     * Usage: Perft &lt;depth&gt; [--fen "&lt;FEN&gt;" | --position &lt;name&gt;] [--divide] [--hash &lt;MB&gt;]
+     * [--threads &lt;count&gt;]
+     *
+     * @param args The command line arguments.
+     */
+    public static void main(final String[] args) {
+        int depth = 5, hashSizeMb = 0, numThreads = 1;
+        boolean shouldDivide = false;
+        PerftPosition position = PerftPosition.INITIAL;
+        String fen = null;
+
+        for (int i = 0; i < args.length; i++) {
+            switch (args[i]) {
+                case "--fen" -> fen = args[++i];
+                case "--position" -> position = PerftPosition.valueOf(args[++i].toUpperCase());
+                case "--divide" -> shouldDivide = true;
+                case "--hash" -> hashSizeMb = Integer.parseInt(args[++i]);
+                case "--threads" -> numThreads = Integer.parseInt(args[++i]);
+                default -> depth = Integer.parseInt(args[i]);
+            }
+        }
+
+        final Board board = fen != null ? FenUtils.createBoard(fen) : position.createBoard();
+        try (final Perft perft = new Perft(hashSizeMb, numThreads)) {
+            final long startTime = System.nanoTime();
+            long nodes = 0L;
+            if (shouldDivide) {
+                for (final Map.Entry<Move, Long> entry : perft.divide(board, depth).entrySet()) {
+                    System.out.printf("%s: %d\n", toCoordinateNotation(entry.getKey()), entry.getValue());
+                    nodes += entry.getValue();
+                }
+                System.out.println();
+            } else {
+                nodes = perft.countNodes(board, depth);
+            }
+            final long elapsedNanos = Math.max(System.nanoTime() - startTime, 1L);
+
+            System.out.printf("Depth: %d\nNodes: %d\nTime: %d ms\nNodes/second: %d\n",
+                              depth,
+                              nodes,
+                              elapsedNanos / 1_000_000L,
+                              nodes * 1_000_000_000L / elapsedNanos);
+            if (fen == null && depth <= position.getMaxDepth()) {
+                System.out.printf("Expected: %d\n", position.getNodeCount(depth));
+            }
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package com.chess.engine.perft;
+
+/**
+ * Represents a fixed-size table of perft node counts, so that a position reached again through a different move order
+ * at the same remaining depth is counted only once.
+ * <p>
+ * An entry is kept as two longs: the position's zobrist key XOR the entry's data, and the data itself, which packs the
+ * remaining depth and the node count. Threads share the table without locks; if two threads write the same slot at
+ * once, the key no longer matches the data and the torn entry reads as a miss instead of a wrong count.
+ *
+ * @author Jamie Canada
+ * @since 10/22/25
+ */
+public class PerftHashTable {
+    public static final long NO_ENTRY = -1L;
+
+    private static final int ENTRY_NUM_BYTES = 2 * Long.BYTES;
+    private static final int BYTES_PER_MB = 1024 * 1024;
+
+    // The data is packed as | node count (56 bits) | depth (8 bits)
+    private static final int NODES_SHIFT = 8;
+    private static final long DEPTH_MASK = 0xFFL;
+
+    // Spreads the depths across the table so that one position's counts at different depths don't share a slot
+    private static final long DEPTH_KEY_MULTIPLIER = 0x9E3779B97F4A7C15L;
+
+    private final long[] keys;
+    private final long[] data;
+    private final int indexMask;
+
+    /**
+     * Creates a PerftHashTable object that takes up about the given number of megabytes. The number of entries is
+     * rounded down to a power of two so that a key maps to a slot with a mask.
+     *
+     * @param sizeMb How many megabytes the table may take up.
+     */
+    public PerftHashTable(final int sizeMb) {
+        if (sizeMb <= 0) {
+            throw new IllegalArgumentException("The perft hash table needs at least 1 MB, not " + sizeMb + ".");
+        }
+        final long maxEntries = (long) sizeMb * BYTES_PER_MB / ENTRY_NUM_BYTES;
+        final int numEntries = (int) Math.min(Long.highestOneBit(maxEntries), 1 << 30);
+
+        this.keys = new long[numEntries];
+        this.data = new long[numEntries];
+        this.indexMask = numEntries - 1;
+    }
+
+    /**
+     * Returns the node count stored for the position at the given depth, or NO_ENTRY if there is none.
+     *
+     * @param zobristKey The zobrist key of the position.
+     * @param depth      How many plies are left to count.
+     * @return The node count stored for the position at the given depth, or NO_ENTRY if there is none.
+     */
+    public long probe(final long zobristKey, final int depth) {
+        final int index = getIndex(zobristKey, depth);
+        final long entry = this.data[index];
+        if ((this.keys[index] ^ entry) == zobristKey && (entry & DEPTH_MASK) == depth) {
+            return entry >>> NODES_SHIFT;
+        }
+
+        return NO_ENTRY;
+    }
+
+    /**
+     * Stores the node count of the position at the given depth, replacing whatever was in the slot.
+     *
+     * @param zobristKey The zobrist key of the position.
+     * @param depth      How many plies were counted.
+     * @param nodes      How many nodes were counted.
+     */
+    public void store(final long zobristKey, final int depth, final long nodes) {
+        final int index = getIndex(zobristKey, depth);
+        final long entry = nodes << NODES_SHIFT | depth & DEPTH_MASK;
+        this.keys[index] = zobristKey ^ entry;
+        this.data[index] = entry;
+    }
+
+    /**
+     * Returns the slot of the given key and depth.
+     *
+     * @param zobristKey The zobrist key of the position.
+     * @param depth      How many plies are left to count.
+     * @return The slot of the given key and depth.
+     */
+    private int getIndex(final long zobristKey, final int depth) {
+        return (int) (zobristKey ^ depth * DEPTH_KEY_MULTIPLIER) & this.indexMask;
+    }
+
+    /**
+     * Returns how many entries the table can hold.
+     *
+     * @return How many entries the table can hold.
+     */
+    public int getNumEntries() {
+        return this.data.length;
+    }
+}
@@ -0,0 +1,78 @@
+package com.chess.engine.perft;
+
+import com.chess.engine.board.Board;
+import com.chess.engine.utils.FenUtils;
+
+/**
+ * Represents the standard perft positions along with their well-known node counts. Between them, these positions
+ * cover castling through and out of check, en passant (including discovered checks), promotions and underpromotions,
+ * and pins, so a move generator that matches all of them is very likely correct.
+ *
+ * @author Jamie Canada
+ * @since 10/22/25
+ */
+public enum PerftPosition {
+    INITIAL("rnbqkbnr/pppppppp/8/8/8/8/PPPPPPPP/RNBQKBNR w KQkq - 0 1",
+            20L, 400L, 8_902L, 197_281L, 4_865_609L, 119_060_324L),
+    KIWIPETE("r3k2r/p1ppqpb1/bn2pnp1/3PN3/1p2P3/2N2Q1p/PPPBBPPP/R3K2R w KQkq - 0 1",
+             48L, 2_039L, 97_862L, 4_085_603L, 193_690_690L),
+    POSITION_3("8/2p5/3p4/KP5r/1R3p1k/8/4P1P1/8 w - - 0 1",
+               14L, 191L, 2_812L, 43_238L, 674_624L, 11_030_083L),
+    POSITION_4("r3k2r/Pppp1ppp/1b3nbN/nP6/BBP1P3/q4N2/Pp1P2PP/R2Q1RK1 w kq - 0 1",
+               6L, 264L, 9_467L, 422_333L, 15_833_292L),
+    POSITION_5("rnbq1k1r/pp1Pbppp/2p5/8/2B5/8/PPP1NnPP/RNBQK2R w KQ - 1 8",
+               44L, 1_486L, 62_379L, 2_103_487L, 89_941_194L),
+    POSITION_6("r4rk1/1pp1qppp/p1np1n2/2b1p1B1/2B1P1b1/P1NP1N2/1PP1QPPP/R4RK1 w - - 0 10",
+               46L, 2_079L, 89_890L, 3_894_594L, 164_075_551L);
+
+    private final String fen;
+    private final long[] nodeCounts;
+
+    /**
+     * Creates a PerftPosition with its FEN string and node counts.
+     *
+     * @param fen        The FEN string of the position.
+     * @param nodeCounts The node counts from a depth of 1 onward.
+     */
+    PerftPosition(final String fen, final long... nodeCounts) {
+        this.fen = fen;
+        this.nodeCounts = nodeCounts;
+    }
+
+    /**
+     * Returns the FEN string of the position.
+     *
+     * @return The FEN string of the position.
+     */
+    public String getFen() {
+        return this.fen;
+    }
+
+    /**
+     * Returns the chessboard of the position.
+     *
+     * @return The chessboard of the position.
+     */
+    public Board createBoard() {
+        return FenUtils.createBoard(this.fen);
+    }
+
+    /**
+     * Returns the deepest depth with a known node count.
+     *
+     * @return The deepest depth with a known node count.
+     */
+    public int getMaxDepth() {
+        return this.nodeCounts.length;
+    }
+
+    /**
+     * Returns the known node count at the given depth.
+     *
+     * @param depth How many plies are counted, from 1 to getMaxDepth().
+     * @return The known node count at the given depth.
+     */
+    public long getNodeCount(final int depth) {
+        return this.nodeCounts[depth - 1];
+    }
+}
@@ -9,11 +9,11 @@ import com.google.common.collect.ImmutableList;
 import java.util.ArrayList;
 import java.util.List;
 
-import static com.chess.engine.utils.PieceConstants.BISHOP_FILE_OFFSETS;
-import static com.chess.engine.utils.PieceConstants.BISHOP_RANK_OFFSETS;
+import static com.chess.engine.Position.getPositionIndex;
+import static com.chess.engine.utils.MagicBitboardUtils.getBishopAttacks;
 import static com.chess.engine.utils.PiecePositions.NFM_BB_POSITIONS_CACHE;
 import static com.chess.engine.utils.PiecePositions.NFM_WB_POSITIONS_CACHE;
-import static com.chess.engine.utils.PieceUtils.calculateSlidingLegalMoves;
+import static com.chess.engine.utils.PieceUtils.calculateLegalMovesFromAttacks;
 
 /**
  * Represents the bishop piece in chess. The bishop can move diagonally any number of squares. This class extends
@@ -55,16 +55,13 @@ public class Bishop extends Piece {
     @Override
     public List<Move> calculateLegalMoves(final Board board) {
         final List<Move> legalMoves = new ArrayList<>();
-        final int sourceRank = this.piecePosition.rank(), sourceFile = this.piecePosition.file();
+        final int sourceIndex = getPositionIndex(this.piecePosition.rank(), this.piecePosition.file());
 
-        calculateSlidingLegalMoves(sourceRank,
-                                   BISHOP_RANK_OFFSETS,
-                                   sourceFile,
-                                   BISHOP_FILE_OFFSETS,
-                                   board,
-                                   this.pieceAlliance,
-                                   this,
-                                   legalMoves);
+        calculateLegalMovesFromAttacks(getBishopAttacks(sourceIndex, board.getOccupancy()),
+                                       board,
+                                       this.pieceAlliance,
+                                       this,
+                                       legalMoves);
 
         return ImmutableList.copyOf(legalMoves);
     }
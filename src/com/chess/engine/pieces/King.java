@@ -9,8 +9,8 @@ import com.google.common.collect.ImmutableList;
 import java.util.ArrayList;
 import java.util.List;
 
-import static com.chess.engine.utils.PieceConstants.QUEEN_KING_RANK_OFFSETS;
-import static com.chess.engine.utils.PieceConstants.QUEEN_KING_FILE_OFFSETS;
+import static com.chess.engine.Position.getPositionIndex;
+import static com.chess.engine.utils.BitboardUtils.getKingAttacks;
 import static com.chess.engine.utils.PiecePositions.NFM_BK_POSITIONS_CACHE;
 import static com.chess.engine.utils.PiecePositions.NFM_WK_POSITIONS_CACHE;
 import static com.chess.engine.utils.PieceUtils.*;
@@ -54,15 +54,9 @@ public class King extends Piece {
     @Override
     public List<Move> calculateLegalMoves(final Board board) {
         final List<Move> legalMoves = new ArrayList<>();
-        final int sourceRank = this.piecePosition.rank(), sourceFile = this.piecePosition.file();
-        calculateNonSlidingLegalMoves(sourceRank,
-                                      QUEEN_KING_RANK_OFFSETS,
-                                      sourceFile,
-                                      QUEEN_KING_FILE_OFFSETS,
-                                      board,
-                                      this.pieceAlliance,
-                                      this,
-                                      legalMoves);
+        final int sourceIndex = getPositionIndex(this.piecePosition.rank(), this.piecePosition.file());
+
+        calculateLegalMovesFromAttacks(getKingAttacks(sourceIndex), board, this.pieceAlliance, this, legalMoves);
 
         return ImmutableList.copyOf(legalMoves);
     }
@@ -9,10 +9,11 @@ import com.google.common.collect.ImmutableList;
 import java.util.ArrayList;
 import java.util.List;
 
-import static com.chess.engine.utils.PieceConstants.*;
+import static com.chess.engine.Position.getPositionIndex;
+import static com.chess.engine.utils.BitboardUtils.getKnightAttacks;
 import static com.chess.engine.utils.PiecePositions.NFM_BN_POSITIONS_CACHE;
 import static com.chess.engine.utils.PiecePositions.NFM_WN_POSITIONS_CACHE;
-import static com.chess.engine.utils.PieceUtils.calculateNonSlidingLegalMoves;
+import static com.chess.engine.utils.PieceUtils.calculateLegalMovesFromAttacks;
 
 /**
  * Represents the knight piece in chess. The knight can move in an L-shape: two squares one direction then one square
@@ -53,16 +54,9 @@ public class Knight extends Piece {
     @Override
     public List<Move> calculateLegalMoves(final Board board) {
         final List<Move> legalMoves = new ArrayList<>();
-        final int sourceRank = this.piecePosition.rank(), sourceFile = this.piecePosition.file();
+        final int sourceIndex = getPositionIndex(this.piecePosition.rank(), this.piecePosition.file());
 
-        calculateNonSlidingLegalMoves(sourceRank,
-                                      KNIGHT_RANK_OFFSETS,
-                                      sourceFile,
-                                      KNIGHT_FILE_OFFSETS,
-                                      board,
-                                      this.pieceAlliance,
-                                      this,
-                                      legalMoves);
+        calculateLegalMovesFromAttacks(getKnightAttacks(sourceIndex), board, this.pieceAlliance, this, legalMoves);
 
         return ImmutableList.copyOf(legalMoves);
     }
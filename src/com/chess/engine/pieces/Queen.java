@@ -9,11 +9,11 @@ import com.google.common.collect.ImmutableList;
 import java.util.ArrayList;
 import java.util.List;
 
-import static com.chess.engine.utils.PieceConstants.QUEEN_KING_FILE_OFFSETS;
-import static com.chess.engine.utils.PieceConstants.QUEEN_KING_RANK_OFFSETS;
+import static com.chess.engine.Position.getPositionIndex;
+import static com.chess.engine.utils.MagicBitboardUtils.getQueenAttacks;
 import static com.chess.engine.utils.PiecePositions.NFM_BQ_POSITIONS_CACHE;
 import static com.chess.engine.utils.PiecePositions.NFM_WQ_POSITIONS_CACHE;
-import static com.chess.engine.utils.PieceUtils.calculateSlidingLegalMoves;
+import static com.chess.engine.utils.PieceUtils.calculateLegalMovesFromAttacks;
 
 /**
  * Represents the queen piece in chess. The queen can move diagonally, horizontally, or vertically any number of
@@ -54,16 +54,13 @@ public class Queen extends Piece {
     @Override
     public List<Move> calculateLegalMoves(final Board board) {
         final List<Move> legalMoves = new ArrayList<>();
-        final int sourceRank = this.piecePosition.rank(), sourceFile = this.piecePosition.file();
+        final int sourceIndex = getPositionIndex(this.piecePosition.rank(), this.piecePosition.file());
 
-        calculateSlidingLegalMoves(sourceRank,
-                                   QUEEN_KING_RANK_OFFSETS,
-                                   sourceFile,
-                                   QUEEN_KING_FILE_OFFSETS,
-                                   board,
-                                   this.pieceAlliance,
-                                   this,
-                                   legalMoves);
+        calculateLegalMovesFromAttacks(getQueenAttacks(sourceIndex, board.getOccupancy()),
+                                       board,
+                                       this.pieceAlliance,
+                                       this,
+                                       legalMoves);
 
         return ImmutableList.copyOf(legalMoves);
     }
@@ -9,11 +9,11 @@ import com.google.common.collect.ImmutableList;
 import java.util.ArrayList;
 import java.util.List;
 
-import static com.chess.engine.utils.PieceConstants.ROOK_FILE_OFFSETS;
-import static com.chess.engine.utils.PieceConstants.ROOK_RANK_OFFSETS;
+import static com.chess.engine.Position.getPositionIndex;
+import static com.chess.engine.utils.MagicBitboardUtils.getRookAttacks;
 import static com.chess.engine.utils.PiecePositions.NFM_BR_POSITIONS_CACHE;
 import static com.chess.engine.utils.PiecePositions.NFM_WR_POSITIONS_CACHE;
-import static com.chess.engine.utils.PieceUtils.calculateSlidingLegalMoves;
+import static com.chess.engine.utils.PieceUtils.calculateLegalMovesFromAttacks;
 
 /**
  * Represents the rook piece in chess. The rook can move horizontally or vertically any number of squares. This class
@@ -54,16 +54,13 @@ public class Rook extends Piece {
     @Override
     public List<Move> calculateLegalMoves(final Board board) {
         final List<Move> legalMoves = new ArrayList<>();
-        final int sourceRank = this.piecePosition.rank(), sourceFile = this.piecePosition.file();
+        final int sourceIndex = getPositionIndex(this.piecePosition.rank(), this.piecePosition.file());
 
-        calculateSlidingLegalMoves(sourceRank,
-                                   ROOK_RANK_OFFSETS,
-                                   sourceFile,
-                                   ROOK_FILE_OFFSETS,
-                                   board,
-                                   this.pieceAlliance,
-                                   this,
-                                   legalMoves);
+        calculateLegalMovesFromAttacks(getRookAttacks(sourceIndex, board.getOccupancy()),
+                                       board,
+                                       this.pieceAlliance,
+                                       this,
+                                       legalMoves);
 
         return ImmutableList.copyOf(legalMoves);
     }
@@ -26,16 +26,12 @@ import static com.chess.engine.utils.PlayerUtils.*;
 public class BlackPlayer extends Player {
 
     /**
-     * Creates a BlackPlayer object for a given board with its moves and the opponent's moves.
+     * Creates a BlackPlayer object for a given board.
      *
-     * @param board           What the black player moves pieces on.
-     * @param blackLegalMoves The player's moves.
-     * @param whiteLegalMoves The opponent's moves.
+     * @param board What the black player moves pieces on.
      */
-    public BlackPlayer(final Board board,
-                       final Collection<Move> whiteLegalMoves,
-                       final Collection<Move> blackLegalMoves) {
-        super(board, blackLegalMoves, whiteLegalMoves);
+    public BlackPlayer(final Board board) {
+        super(board);
     }
 
     /**
@@ -71,19 +67,16 @@ public class BlackPlayer extends Player {
     /**
      * Returns a list of all the black player's available castles.
      *
-     * @param playerLegals   The black player's legal moves.
-     * @param opponentLegals The white player's legal moves.
+     * @param playerLegals The black player's legal moves.
      * @return A list of all the black player's available castles.
      */
     @Override
-    protected Collection<Move> calculatePlayerCastles(final Collection<Move> playerLegals,
-                                                      final Collection<Move> opponentLegals) {
+    protected Collection<Move> calculatePlayerCastles(final Collection<Move> playerLegals) {
         return calculateCastles(this.playerKing,
                                 this,
                                 this.board,
                                 KINGSIDE_CASTLE_FILES,
-                                QUEENSIDE_CASTLE_FILES,
-                                opponentLegals);
+                                QUEENSIDE_CASTLE_FILES);
     }
 
     /**
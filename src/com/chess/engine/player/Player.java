@@ -2,21 +2,28 @@ package com.chess.engine.player;
 
 import com.chess.engine.Alliance;
 import com.chess.engine.board.Board;
+import com.chess.engine.board.GameStatus;
 import com.chess.engine.moves.Move;
 import com.chess.engine.moves.MoveTransition;
 import com.chess.engine.pieces.King;
 import com.chess.engine.pieces.Piece;
+import com.chess.engine.pieces.Piece.PieceType;
+import com.google.common.base.Supplier;
+import com.google.common.base.Suppliers;
 import com.google.common.collect.ImmutableList;
-import com.google.common.collect.Iterables;
 
 import java.util.Collection;
 
 import static com.chess.engine.moves.MoveStatus.*;
-import static com.chess.engine.utils.PlayerUtils.*;
+import static com.chess.engine.utils.BitboardUtils.EMPTY_BITBOARD;
+import static com.chess.engine.utils.BitboardUtils.getLowestSquare;
 
 /**
  * Represents one of the participants in the game of chess. The player will perform moves on pieces based on their
- * alliance and can capture the opponent's pieces when permitted.
+ * alliance and can capture the opponent's pieces when permitted. The player's legal moves and whether the player is
+ * in check are calculated the first time they are asked for and then remembered. The legal moves are strictly legal,
+ * since the pieces that give check and the pieces pinned to the king are worked out before the moves are kept, so a
+ * move never has to be performed to find out whether it leaves the king in check.
  *
  * @author Jamie Canada
  * @since 10/09/25
@@ -24,27 +31,26 @@ import static com.chess.engine.utils.PlayerUtils.*;
 public abstract class Player {
     protected final Board board;
     protected final King playerKing;
-    protected final Collection<Move> legalMoves;
-    private final boolean inCheck;
+    private final Supplier<Collection<Move>> castles, legalMoves;
+    private final Supplier<Boolean> inCheck;
+    private final Supplier<GameStatus> gameStatus;
 
     public static final int[] KINGSIDE_CASTLE_FILES = { 5, 6, 7 }, QUEENSIDE_CASTLE_FILES = { 1, 2, 3, 0 };
     public static final int WHITE_CASTLE_RANK = 7, BLACK_CASTLE_RANK = 0;
 
     /**
-     * Creates a Player object for a given board with its moves and the opponent's moves.
+     * Creates a Player object for a given board. The moves of the player's and the opponent's pieces are taken from
+     * the board once they are needed.
      *
-     * @param board         What the player moves pieces on.
-     * @param legalMoves    The player's moves.
-     * @param opponentMoves The opponent's moves.
+     * @param board What the player moves pieces on.
      */
-    Player(final Board board,
-           final Collection<Move> legalMoves,
-           final Collection<Move> opponentMoves) {
+    Player(final Board board) {
         this.board = board;
-        playerKing = validateKing();
-        this.legalMoves = ImmutableList.copyOf(Iterables.concat(legalMoves,
-                                                                calculatePlayerCastles(legalMoves, opponentMoves)));
-        this.inCheck = !calculateAttacksOnKing(this.playerKing.getPiecePosition(), opponentMoves).isEmpty();
+        this.playerKing = validateKing();
+        this.castles = Suppliers.memoize(() -> calculatePlayerCastles(this.board.getPieceMoves(getAlliance())));
+        this.legalMoves = Suppliers.memoize(this::calculateLegalMoves);
+        this.inCheck = Suppliers.memoize(() -> this.board.isSquareAttacked(getKingIndex(), getOpponentAlliance()));
+        this.gameStatus = Suppliers.memoize(() -> GameStatus.of(hasEscapeMoves(), isInCheck()));
     }
 
     /**
@@ -71,12 +77,10 @@ public abstract class Player {
     /**
      * Returns a Collection of all the player's available castles.
      *
-     * @param playerLegals   The player's legal moves.
-     * @param opponentLegals The opponent's legal moves.
+     * @param playerLegals The player's legal moves.
      * @return A Collection of all the player's available castles.
      */
-    protected abstract Collection<Move> calculatePlayerCastles(final Collection<Move> playerLegals,
-                                                               final Collection<Move> opponentLegals);
+    protected abstract Collection<Move> calculatePlayerCastles(final Collection<Move> playerLegals);
 
     /**
      * Returns a king for the player to use.
@@ -84,13 +88,50 @@ public abstract class Player {
      * @return A king for the player to use.
      */
     private King validateKing() {
-        for (final Piece piece : getActivePieces()) {
-            if (piece.getPieceType().isKing()) {
-                return (King) piece;
+        final long kingBitboard = this.board.getPieceBitboard(getAlliance(), PieceType.KING);
+        if (kingBitboard == EMPTY_BITBOARD) {
+            throw new RuntimeException("Chess cannot be played without a king!");
+        }
+
+        return (King) this.board.getPiece(getLowestSquare(kingBitboard));
+    }
+
+    /**
+     * Returns the player's legal moves, which are the moves of the player's pieces that keep the king out of check
+     * along with the player's castles. The checkers and pinned pieces are asked of the board once, and every move is
+     * then kept or left out without being performed.
+     *
+     * @return The player's legal moves.
+     */
+    private Collection<Move> calculateLegalMoves() {
+        final long checkers = this.board.getCheckers(getAlliance());
+        final long pinnedPieces = this.board.getPinnedPieces(getAlliance());
+        final ImmutableList.Builder<Move> legalMoves = ImmutableList.builder();
+        for (final Move move : this.board.getPieceMoves(getAlliance())) {
+            if (this.board.isLegalMove(move, checkers, pinnedPieces)) {
+                legalMoves.add(move);
             }
         }
 
-        throw new RuntimeException("Chess cannot be played without a king!");
+        return legalMoves.addAll(this.castles.get()).build();
+    }
+
+    /**
+     * Returns the index of the square the player's king is on.
+     *
+     * @return The index of the square the player's king is on.
+     */
+    private int getKingIndex() {
+        return getLowestSquare(this.board.getPieceBitboard(getAlliance(), PieceType.KING));
+    }
+
+    /**
+     * Returns the opponent's alliance.
+     *
+     * @return The opponent's alliance.
+     */
+    private Alliance getOpponentAlliance() {
+        return getAlliance().isWhite() ? Alliance.BLACK : Alliance.WHITE;
     }
 
     /**
@@ -100,7 +141,7 @@ public abstract class Player {
      * @return Whether the move in the list is legal.
      */
     public boolean isMoveLegal(final Move move) {
-        return this.legalMoves.contains(move);
+        return this.legalMoves.get().contains(move);
     }
 
     /**
@@ -118,7 +159,17 @@ public abstract class Player {
      * @return The player's legal moves.
      */
     public Collection<Move> getLegalMoves() {
-        return this.legalMoves;
+        return this.legalMoves.get();
+    }
+
+    /**
+     * Returns the number of moves of the player's pieces and castles, including the moves that leave the king in
+     * check. This is the player's mobility, which is counted the same way as SearchBoard.countMoves().
+     *
+     * @return The number of moves of the player's pieces and castles.
+     */
+    public int getMobility() {
+        return this.board.getPieceMoves(getAlliance()).size() + this.castles.get().size();
     }
 
     /**
@@ -127,7 +178,17 @@ public abstract class Player {
      * @return Whether the player's king is in check.
      */
     public boolean isInCheck() {
-        return this.inCheck;
+        return this.inCheck.get();
+    }
+
+    /**
+     * Returns the status of the game as if the player were making a move, which is worked out the first time it is
+     * asked for and then remembered.
+     *
+     * @return The status of the game as if the player were making a move.
+     */
+    public GameStatus getGameStatus() {
+        return this.gameStatus.get();
     }
 
     /**
@@ -136,7 +197,7 @@ public abstract class Player {
      * @return Whether the player's king is in checkmate.
      */
     public boolean isInCheckmate() {
-        return this.inCheck && !hasEscapeMoves();
+        return getGameStatus() == GameStatus.CHECKMATE;
     }
 
     /**
@@ -145,18 +206,21 @@ public abstract class Player {
      * @return Whether the player's king is in stalemate.
      */
     public boolean isInStalemate() {
-        return !this.inCheck && !hasEscapeMoves();
+        return getGameStatus() == GameStatus.STALEMATE;
     }
 
     /**
-     * Returns whether the player's king can escape from being in check.
+     * Returns whether the player has a move to escape with, i.e., any legal move at all. The search stops at the first
+     * legal move of the player's pieces, and the castles are never needed: a king that can castle can also step onto
+     * the square next to it.
      *
-     * @return Whether the player's king can escape from being in check.
+     * @return Whether the player has a move to escape with.
      */
     protected boolean hasEscapeMoves() {
-        for (final Move move : this.legalMoves) {
-            final MoveTransition transition = makeMove(move);
-            if (transition.getMoveStatus().isDone()) {
+        final long checkers = this.board.getCheckers(getAlliance());
+        final long pinnedPieces = this.board.getPinnedPieces(getAlliance());
+        for (final Move move : this.board.getPieceMoves(getAlliance())) {
+            if (this.board.isLegalMove(move, checkers, pinnedPieces)) {
                 return true;
             }
         }
@@ -181,18 +245,11 @@ public abstract class Player {
      */
     public MoveTransition makeMove(final Move move) {
         if (!isMoveLegal(move)) {
-            return new MoveTransition(this.board, move, ILLEGAL_MOVE);
-        }
-
-        final Board transitionBoard = move.execute();
-        final Player currentPlayer = transitionBoard.getCurrentPlayer();
-        final King opponentKing = currentPlayer.getOpponent().getPlayerKing();
-        final Collection<Move> attacksOnKing = calculateAttacksOnKing(opponentKing.getPiecePosition(),
-                                                                      currentPlayer.getLegalMoves());
-        if (!attacksOnKing.isEmpty()) {
-            return new MoveTransition(this.board, move, IN_CHECK);
+            // A move of the player's pieces that is not legal would leave the player's king in check
+            final boolean isPieceMove = this.board.getPieceMoves(getAlliance()).contains(move);
+            return new MoveTransition(this.board, move, isPieceMove ? IN_CHECK : ILLEGAL_MOVE);
         }
 
-        return new MoveTransition(transitionBoard, move, DONE);
+        return new MoveTransition(move.execute(), move, DONE);
     }
 }
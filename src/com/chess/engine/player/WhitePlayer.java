@@ -21,16 +21,12 @@ import static com.chess.engine.utils.PlayerUtils.*;
 public class WhitePlayer extends Player {
 
     /**
-     * Creates a WhitePlayer object for a given board with its moves and the opponent's moves.
+     * Creates a WhitePlayer object for a given board.
      *
-     * @param board           What the white player moves pieces on.
-     * @param whiteLegalMoves The player's moves.
-     * @param blackLegalMoves The opponent's moves.
+     * @param board What the white player moves pieces on.
      */
-    public WhitePlayer(final Board board,
-                       final Collection<Move> whiteLegalMoves,
-                       final Collection<Move> blackLegalMoves) {
-        super(board, whiteLegalMoves, blackLegalMoves);
+    public WhitePlayer(final Board board) {
+        super(board);
     }
 
     /**
@@ -66,19 +62,16 @@ public class WhitePlayer extends Player {
     /**
      * Returns a list of all the white player's available castles.
      *
-     * @param playerLegals   The white player's legal moves.
-     * @param opponentLegals The black player's legal moves.
+     * @param playerLegals The white player's legal moves.
      * @return A list of all the white player's available castles.
      */
     @Override
-    protected Collection<Move> calculatePlayerCastles(final Collection<Move> playerLegals,
-                                                      final Collection<Move> opponentLegals) {
+    protected Collection<Move> calculatePlayerCastles(final Collection<Move> playerLegals) {
         return calculateCastles(this.playerKing,
                                 this,
                                 this.board,
                                 KINGSIDE_CASTLE_FILES,
-                                QUEENSIDE_CASTLE_FILES,
-                                opponentLegals);
+                                QUEENSIDE_CASTLE_FILES);
     }
 
     /**
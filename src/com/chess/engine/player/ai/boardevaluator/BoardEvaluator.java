@@ -1,6 +1,7 @@
 package com.chess.engine.player.ai.boardevaluator;
 
 import com.chess.engine.board.Board;
+import com.chess.engine.board.SearchBoard;
 
 /**
  * Represents the board evaluator for a given chessboard. This class will have different types of board evaluators
@@ -19,4 +20,13 @@ public interface BoardEvaluator {
      */
     int evaluateMove(final Board board, final int depth);
 
+    /**
+     * Returns the score of a move after it is evaluated on the search's board.
+     *
+     * @param board What the move takes place on.
+     * @param depth How many plies of moves to look at.
+     * @return The score of a move after it is evaluated on the search's board.
+     */
+    int evaluateMove(final SearchBoard board, final int depth);
+
 }
@@ -2,7 +2,9 @@ package com.chess.engine.player.ai.boardevaluator;
 
 import com.chess.engine.Alliance;
 import com.chess.engine.board.Board;
+import com.chess.engine.board.SearchBoard;
 import com.chess.engine.pieces.Piece;
+import com.chess.engine.pieces.Piece.PieceType;
 import com.chess.engine.player.Player;
 
 /**
@@ -10,7 +12,34 @@ import com.chess.engine.player.Player;
  * the squares, as well as the chess pieces and their initial positions.
  */
 public final class StandardBoardEvaluator implements BoardEvaluator {
+    // How far a quiet move (one that captures, promotes, and checks nothing) may move the score, which only changes
+    // through mobility and rarely by a pawn in a single ply
+    public static final int FUTILITY_MARGIN = PieceType.PAWN.getPieceValue();
     private static final int CHECK_BONUS = 50, CHECKMATE_BONUS = 10000, DEPTH_BONUS = 10, CASTLE_BONUS = 60;
+    private static final PieceType[] PIECE_TYPES = PieceType.values();
+
+    /**
+     * Returns whether the score can only come from a checkmate. The material and mobility of a real game never add up
+     * to half of the checkmate bonus, so any score beyond that is a checkmate.
+     *
+     * @param score A score from the board evaluator.
+     * @return Whether the score can only come from a checkmate.
+     */
+    public static boolean isCheckmateScore(final int score) {
+        return Math.abs(score) >= CHECKMATE_BONUS / 2;
+    }
+
+    /**
+     * Returns whether the score can only come from a checkmate that the player making a move delivers, rather than
+     * one they are on the receiving end of.
+     *
+     * @param moverScore A score from the board evaluator, as seen by the player making a move (i.e., negated for
+     *                   black).
+     * @return Whether the score can only come from a checkmate the player making a move delivers.
+     */
+    public static boolean isWinningCheckmateScore(final int moverScore) {
+        return moverScore >= CHECKMATE_BONUS / 2;
+    }
 
     /**
      * Returns the score of a move after it is evaluated from a standard board.
@@ -25,6 +54,18 @@ public final class StandardBoardEvaluator implements BoardEvaluator {
                scorePlayer(board, board.getPlayer(Alliance.BLACK), depth);
     }
 
+    /**
+     * Returns the score of a move after it is evaluated from a standard board, using the same scores as for a Board.
+     *
+     * @param board What the move takes place on.
+     * @param depth How many plies of moves to look at.
+     * @return The score of a move after it is evaluated from a standard board.
+     */
+    @Override
+    public int evaluateMove(final SearchBoard board, final int depth) {
+        return scorePlayer(board, Alliance.WHITE, depth) - scorePlayer(board, Alliance.BLACK, depth);
+    }
+
     /**
      * Returns the score of a player based on the number of active pieces, whether the move puts the opponent in check,
      * whether the move puts the opponent in checkmate, whether the move is a castle, and how many legal moves the
@@ -41,6 +82,65 @@ public final class StandardBoardEvaluator implements BoardEvaluator {
                scoreCastle(player);
     }
 
+    /**
+     * Returns the score of a player on the search's board. A SearchBoard does not track whether a player castled, so
+     * there is no castle score, just as Player.isCastled() never gives one.
+     *
+     * @param board    What the move takes place on.
+     * @param alliance The player's alliance.
+     * @param depth    How many plies it takes to reach the board.
+     * @return The score of a player on the search's board.
+     */
+    private int scorePlayer(final SearchBoard board, final Alliance alliance, final int depth) {
+        final Alliance opponent = alliance.isWhite() ? Alliance.BLACK : Alliance.WHITE;
+        return scorePieces(board, alliance) +
+               board.countMoves(alliance) +
+               scoreCheck(board, opponent) +
+               scoreCheckmate(board, opponent, depth);
+    }
+
+    /**
+     * Returns a score based on whether the opponent is in check on the search's board.
+     *
+     * @param board    What the pieces are on.
+     * @param opponent The opponent's alliance.
+     * @return A score based on whether the opponent is in check on the search's board.
+     */
+    private int scoreCheck(final SearchBoard board, final Alliance opponent) {
+        return board.isInCheck(opponent) ? CHECK_BONUS : 0;
+    }
+
+    /**
+     * Returns a score based on the depth at which the opponent is in checkmate on the search's board. Only the
+     * player making a move can be in checkmate.
+     *
+     * @param board    What the pieces are on.
+     * @param opponent The opponent's alliance.
+     * @param depth    How many plies it takes to reach checkmate.
+     * @return A score based on the depth at which the opponent is in checkmate on the search's board.
+     */
+    private int scoreCheckmate(final SearchBoard board, final Alliance opponent, final int depth) {
+        return board.getCurrentAlliance() == opponent && board.isInCheckmate() ?
+               CHECKMATE_BONUS * scoreDepthBonus(depth) :
+               0;
+    }
+
+    /**
+     * Returns a score based on the sum of all the player's pieces' values on the search's board.
+     *
+     * @param board    What the pieces are on.
+     * @param alliance The player's alliance.
+     * @return A score based on the sum of all the player's pieces' values on the search's board.
+     */
+    private int scorePieces(final SearchBoard board, final Alliance alliance) {
+        int pieceValueScore = 0;
+        for (final PieceType pieceType : PIECE_TYPES) {
+            pieceValueScore += Long.bitCount(board.getPieceBitboard(alliance, pieceType)) * pieceType.getPieceValue();
+        }
+
+        return pieceValueScore;
+    }
+
     /**
      * Returns a score based on the sum of all the player's active pieces' values.
      *
@@ -57,13 +157,13 @@ public final class StandardBoardEvaluator implements BoardEvaluator {
     }
 
     /**
-     * Returns a score based on how many legal moves the player currently has.
+     * Returns a score based on how many moves the player currently has (see Player.getMobility()).
      *
      * @param player Who is performing the move.
-     * @return A score based on how many legal moves the player currently has.
+     * @return A score based on how many moves the player currently has.
      */
     private int scoreMobility(final Player player) {
-        return player.getLegalMoves().size();
+        return player.getMobility();
     }
 
     /**
@@ -0,0 +1,323 @@
+package com.chess.engine.player.ai.moveordering;
+
+import com.chess.engine.Alliance;
+import com.chess.engine.board.SearchBoard;
+
+import java.util.Arrays;
+
+import static com.chess.engine.board.SearchBoard.*;
+import static com.chess.engine.utils.BoardUtils.BOARD_NUM_SQUARES;
+
+/**
+ * Represents the move ordering of a search. Alpha-beta pruning skips the most moves when the best move of a position
+ * is searched first, so the moves of every ply are scored and searched from the highest score to the lowest:
+ * <ol>
+ *     <li>The best move the transposition table holds for the position (the hash move).</li>
+ *     <li>Captures and promotions, by most valuable victim, then least valuable attacker (MVV-LVA), so that a pawn
+ *     taking a queen comes before a queen taking a pawn.</li>
+ *     <li>The killer moves of the ply, i.e., the last two quiet moves that caused a cutoff at the same ply, since a
+ *     move that refutes one position often refutes its siblings too.</li>
+ *     <li>The other quiet moves, by their history score, which grows every time a move from the same square to the
+ *     same square causes a cutoff anywhere in the search.</li>
+ *     <li>The losing captures and promotions, i.e., those the static exchange evaluation says lose material once
+ *     the opponent recaptures, by MVV-LVA.</li>
+ * </ol>
+ * Only a capture whose attacker is worth more than its victim (or a promotion) can lose material, so the static
+ * exchange evaluation is skipped for every other capture.
+ * The moves are not sorted up front. Instead, selectMove() picks the best of the moves not yet searched, so a ply
+ * that is cut off by its first move never pays for sorting the rest.
+ *
+ * @author Jamie Canada
+ * @since 10/26/25
+ */
+public class MoveOrderer {
+    private static final int HASH_MOVE_SCORE = 1 << 30, CAPTURE_SCORE = 1 << 29, KILLER_SCORE = 1 << 28;
+    // A losing capture's MVV-LVA score never lifts it halfway back to 0, while no other move scores that low
+    private static final int LOSING_CAPTURE_SCORE = -CAPTURE_SCORE;
+
+    // The victim is weighted so that it always outweighs the attacker, even when the attacker is a king
+    private static final int VICTIM_WEIGHT = 128;
+
+    // The history scores are halved once one of them reaches this, so that they stay below the killer score
+    private static final int MAX_HISTORY_SCORE = 1 << 20;
+
+    private static final int NUM_KILLER_MOVES = 2;
+
+    private final boolean heuristicsEnabled;
+    private final int[][] moveScores;
+    private final int[][] killerMoves;
+    private final int[][] historyScores;
+
+    private long cutoffs, firstMoveCutoffs;
+
+    /**
+     * Creates a MoveOrderer object that uses every heuristic.
+     */
+    public MoveOrderer() {
+        this(true);
+    }
+
+    /**
+     * Creates a MoveOrderer object.
+     *
+     * @param heuristicsEnabled Whether the captures, killer moves, and history scores are used. Without them, only the
+     *                          hash move is moved to the front, which is how the search ordered its moves before.
+     */
+    private MoveOrderer(final boolean heuristicsEnabled) {
+        this.heuristicsEnabled = heuristicsEnabled;
+        this.moveScores = new int[MAX_PLY][MAX_MOVES];
+        this.killerMoves = new int[MAX_PLY][NUM_KILLER_MOVES];
+        this.historyScores = new int[Alliance.values().length * BOARD_NUM_SQUARES][BOARD_NUM_SQUARES];
+    }
+
+    /**
+     * Returns a move orderer that only searches the hash move first and leaves the other moves in the order they were
+     * generated in. It is there to measure what the heuristics save.
+     *
+     * @return A move orderer that only searches the hash move first.
+     */
+    public static MoveOrderer hashMoveOnly() {
+        return new MoveOrderer(false);
+    }
+
+    /**
+     * Scores the generated moves of the current ply, so that selectMove() can pick them from best to worst.
+     *
+     * @param board    The search's board, which is on the position the moves were generated from.
+     * @param moves    The buffer of generated moves.
+     * @param numMoves How many moves are in the buffer.
+     * @param hashMove The key of the best move the transposition table holds for the position, or NO_MOVE.
+     */
+    public void scoreMoves(final SearchBoard board, final int[] moves, final int numMoves, final int hashMove) {
+        final int ply = board.getPly();
+        final int[] scores = this.moveScores[ply];
+        for (int i = 0; i < numMoves; i++) {
+            final int move = moves[i];
+            if (getMoveKey(move) == hashMove) {
+                scores[i] = HASH_MOVE_SCORE;
+            } else if (!this.heuristicsEnabled) {
+                scores[i] = 0;
+            } else if (isCapture(move) || isPromotion(move)) {
+                scores[i] = isLosingCapture(board, move) ? LOSING_CAPTURE_SCORE + scoreCapture(move) :
+                                                           CAPTURE_SCORE + scoreCapture(move);
+            } else if (move == this.killerMoves[ply][0]) {
+                scores[i] = KILLER_SCORE + 1;
+            } else if (move == this.killerMoves[ply][1]) {
+                scores[i] = KILLER_SCORE;
+            } else {
+                scores[i] = getHistoryScore(board, move);
+            }
+        }
+    }
+
+    /**
+     * Scores the generated captures and promotions of the current ply by MVV-LVA, with the losing ones last.
+     *
+     * @param board    The search's board, which is on the position the moves were generated from.
+     * @param moves    The buffer of generated captures and promotions.
+     * @param numMoves How many moves are in the buffer.
+     */
+    public void scoreCaptures(final SearchBoard board, final int[] moves, final int numMoves) {
+        final int[] scores = this.moveScores[board.getPly()];
+        for (int i = 0; i < numMoves; i++) {
+            final int move = moves[i];
+            if (!this.heuristicsEnabled) {
+                scores[i] = 0;
+            } else {
+                scores[i] = isLosingCapture(board, move) ? LOSING_CAPTURE_SCORE + scoreCapture(move) :
+                                                           scoreCapture(move);
+            }
+        }
+    }
+
+    /**
+     * Returns the best of the moves from the given index on, after swapping it (and its score) to the given index.
+     *
+     * @param board    The search's board, which is on the position the moves were generated from.
+     * @param moves    The buffer of scored moves.
+     * @param numMoves How many moves are in the buffer.
+     * @param index    How many moves were already picked.
+     * @return The best of the moves not yet picked.
+     */
+    public int selectMove(final SearchBoard board, final int[] moves, final int numMoves, final int index) {
+        final int[] scores = this.moveScores[board.getPly()];
+        int bestIndex = index;
+        for (int i = index + 1; i < numMoves; i++) {
+            if (scores[i] > scores[bestIndex]) {
+                bestIndex = i;
+            }
+        }
+        if (bestIndex != index) {
+            final int move = moves[bestIndex], score = scores[bestIndex];
+            moves[bestIndex] = moves[index];
+            scores[bestIndex] = scores[index];
+            moves[index] = move;
+            scores[index] = score;
+        }
+
+        return moves[index];
+    }
+
+    /**
+     * Returns whether the move selectMove() picked at the given index was scored as a losing capture, so that the
+     * search can skip it without evaluating the exchange again.
+     *
+     * @param ply   The ply the moves were scored at.
+     * @param index The index the move was picked at.
+     * @return Whether the move picked at the given index was scored as a losing capture.
+     */
+    public boolean isLosingCapture(final int ply, final int index) {
+        return this.moveScores[ply][index] < LOSING_CAPTURE_SCORE / 2;
+    }
+
+    /**
+     * Records a move that caused a cutoff. A quiet move becomes the ply's first killer move and has its history score
+     * raised by the square of the remaining depth, since a cutoff far from the leaves saves the most.
+     *
+     * @param board            The search's board, which is on the position the move was made from.
+     * @param move             The encoded move that caused the cutoff.
+     * @param depth            How many plies were left to search.
+     * @param numMovesSearched How many legal moves were searched in the position, the move included.
+     */
+    public void recordCutoff(final SearchBoard board, final int move, final int depth, final int numMovesSearched) {
+        this.cutoffs++;
+        if (numMovesSearched == 1) {
+            this.firstMoveCutoffs++;
+        }
+        if (!this.heuristicsEnabled || isCapture(move) || isPromotion(move)) {
+            return;
+        }
+
+        final int[] killerMoves = this.killerMoves[board.getPly()];
+        if (killerMoves[0] != move) {
+            killerMoves[1] = killerMoves[0];
+            killerMoves[0] = move;
+        }
+
+        final int historyIndex = board.getCurrentAlliance().ordinal() * BOARD_NUM_SQUARES + getCurrentIndex(move);
+        final int[] historyScores = this.historyScores[historyIndex];
+        historyScores[getDestinationIndex(move)] += depth * depth;
+        if (historyScores[getDestinationIndex(move)] >= MAX_HISTORY_SCORE) {
+            ageHistory();
+        }
+    }
+
+    /**
+     * Prepares the move orderer for a new search. The killer moves only apply to the positions of the last search, so
+     * they are cleared, while the history scores are halved so that they still count, but less than new ones.
+     */
+    public void newSearch() {
+        for (final int[] killerMoves : this.killerMoves) {
+            Arrays.fill(killerMoves, NO_MOVE);
+        }
+        ageHistory();
+    }
+
+    /**
+     * Resets the cutoff counters.
+     */
+    public void resetCounters() {
+        this.cutoffs = this.firstMoveCutoffs = 0;
+    }
+
+    /**
+     * Returns whether the move is a capture or promotion that loses material once the opponent recaptures. A
+     * capture of a piece worth at least as much as the attacker never does, so only the others are evaluated.
+     *
+     * @param board The search's board, which is on the position the move is made from.
+     * @param move  The encoded move.
+     * @return Whether the move is a capture or promotion that loses material once the opponent recaptures.
+     */
+    private static boolean isLosingCapture(final SearchBoard board, final int move) {
+        if (isPromotion(move)) {
+            return board.evaluateExchange(move) < 0;
+        }
+        if (!isCapture(move) ||
+            getCapturedPieceType(move).getPieceValue() >= getMovedPieceType(move).getPieceValue()) {
+            return false;
+        }
+
+        return board.evaluateExchange(move) < 0;
+    }
+
+    /**
+     * Returns the MVV-LVA score of a capture or promotion. A promotion counts the piece it promotes to as part of
+     * what it wins. Both pieces are read from the encoded move, so the board is never looked at.
+     *
+     * @param move The encoded capture or promotion.
+     * @return The MVV-LVA score of a capture or promotion.
+     */
+    private static int scoreCapture(final int move) {
+        int victimValue = 0;
+        if (isCapture(move)) {
+            victimValue = getCapturedPieceType(move).getPieceValue();
+        }
+        if (isPromotion(move)) {
+            victimValue += getPromotionType(move).getPieceValue();
+        }
+
+        return victimValue * VICTIM_WEIGHT - getMovedPieceType(move).getPieceValue();
+    }
+
+    /**
+     * Returns the history score of a quiet move.
+     *
+     * @param board The search's board, which is on the position the move is made from.
+     * @param move  The encoded quiet move.
+     * @return The history score of a quiet move.
+     */
+    private int getHistoryScore(final SearchBoard board, final int move) {
+        return this.historyScores[board.getCurrentAlliance().ordinal() * BOARD_NUM_SQUARES + getCurrentIndex(move)]
+                                 [getDestinationIndex(move)];
+    }
+
+    /**
+     * Halves every history score.
+     */
+    private void ageHistory() {
+        for (final int[] historyScores : this.historyScores) {
+            for (int i = 0; i < historyScores.length; i++) {
+                historyScores[i] >>= 1;
+            }
+        }
+    }
+
+    /**
+     * Returns how many cutoffs the search had.
+     *
+     * @return How many cutoffs the search had.
+     */
+    public long getCutoffs() {
+        return this.cutoffs;
+    }
+
+    /**
+     * Returns how many of the cutoffs were caused by the first move searched.
+     *
+     * @return How many of the cutoffs were caused by the first move searched.
+     */
+    public long getFirstMoveCutoffs() {
+        return this.firstMoveCutoffs;
+    }
+
+    /**
+     * Returns the share of the cutoffs that were caused by the first move searched, which is how often the ordering
+     * put a refutation first.
+     *
+     * @return The share of the cutoffs that were caused by the first move searched.
+     */
+    public double getFirstMoveCutoffRate() {
+        return this.cutoffs == 0 ? 0 : (double) this.firstMoveCutoffs / this.cutoffs;
+    }
+
+    /**
+     * Returns the String representation of the move orderer's counters.
+     *
+     * @return The String representation of the move orderer's counters.
+     */
+    @Override
+    public String toString() {
+        return String.format("MoveOrderer[cutoffs = %d, first move cutoffs = %d (%.1f%%)]",
+                             this.cutoffs, this.firstMoveCutoffs, 100 * getFirstMoveCutoffRate());
+    }
+}
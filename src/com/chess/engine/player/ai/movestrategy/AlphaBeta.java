@@ -0,0 +1,720 @@
+package com.chess.engine.player.ai.movestrategy;
+
+import com.chess.engine.Alliance;
+import com.chess.engine.board.Board;
+import com.chess.engine.board.SearchBoard;
+import com.chess.engine.moves.Move;
+import com.chess.engine.player.Player;
+import com.chess.engine.player.ai.boardevaluator.BoardEvaluator;
+import com.chess.engine.player.ai.boardevaluator.StandardBoardEvaluator;
+import com.chess.engine.player.ai.moveordering.MoveOrderer;
+import com.chess.engine.player.ai.transposition.TranspositionTable;
+import com.google.common.collect.Iterables;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static com.chess.engine.player.ai.movestrategy.SearchLimits.NO_LIMIT;
+import static com.chess.engine.player.ai.transposition.TranspositionTable.*;
+
+/**
+ * Represents the minimax move strategy with alpha-beta pruning. Alpha is the score the maximizing (white) player is
+ * already guaranteed, and beta is the score the minimizing (black) player is already guaranteed. Once a ply proves
+ * that its player can do no better than what the other player already has elsewhere, the remaining moves of that ply
+ * are skipped, since they cannot change the result.
+ * <p>
+ * The result of every searched position is kept in a transposition table, so a position reached again through a
+ * different move order is not searched twice. The moves of every position are searched in the order of the move
+ * orderer, starting with the best move the table holds for the position (see MoveOrderer).
+ * <p>
+ * Once the depth runs out, a quiescence search plays out the captures and promotions before a board is evaluated, so
+ * that a position in the middle of an exchange is not scored as if the last capture had no reply.
+ *
+ * @author Jamie Canada
+ * @since 10/17/25
+ */
+public class AlphaBeta implements MoveStrategy {
+    protected static final long NO_DEADLINE = Long.MAX_VALUE;
+
+    // The clock is only looked at once every 1024 boards, since reading it costs more than evaluating a board
+    private static final int CLOCK_CHECK_MASK = 1023;
+
+    // A quiescence search stands pat this close to the end of the search board's stacks
+    private static final int MAX_QUIESCENCE_PLY = SearchBoard.MAX_PLY - 1;
+
+    protected final BoardEvaluator boardEvaluator;
+    private final TranspositionTable transpositionTable;
+    private final MoveOrderer moveOrderer;
+    protected final int searchDepth;
+    protected long boardsEvaluated;
+    private long deadline = NO_DEADLINE;
+    private long maxNodes = NO_LIMIT;
+    private boolean stopped;
+    private volatile boolean stopRequested;
+
+    /**
+     * Creates an AlphaBeta object with an initialized board evaluator and its own transposition table.
+     *
+     * @param searchDepth How many plies of moves to look at.
+     */
+    public AlphaBeta(final int searchDepth) {
+        this(searchDepth, new TranspositionTable());
+    }
+
+    /**
+     * Creates an AlphaBeta object with an initialized board evaluator that shares the given transposition table, so
+     * that the results of earlier searches can be reused.
+     *
+     * @param searchDepth        How many plies of moves to look at.
+     * @param transpositionTable Where the results of searched positions are kept.
+     */
+    public AlphaBeta(final int searchDepth, final TranspositionTable transpositionTable) {
+        this(searchDepth, transpositionTable, new MoveOrderer());
+    }
+
+    /**
+     * Creates an AlphaBeta object with an initialized board evaluator that shares the given transposition table and
+     * orders its moves with the given move orderer.
+     *
+     * @param searchDepth        How many plies of moves to look at.
+     * @param transpositionTable Where the results of searched positions are kept.
+     * @param moveOrderer        What decides the order the moves of a position are searched in.
+     */
+    public AlphaBeta(final int searchDepth,
+                     final TranspositionTable transpositionTable,
+                     final MoveOrderer moveOrderer) {
+        this.boardEvaluator = new StandardBoardEvaluator();
+        this.transpositionTable = transpositionTable;
+        this.moveOrderer = moveOrderer;
+        this.searchDepth = searchDepth;
+    }
+
+    /**
+     * Returns a move based on the minimax algorithm with alpha-beta pruning.
+     *
+     * @param board What the move will take place on.
+     * @return A move based on the minimax algorithm with alpha-beta pruning.
+     */
+    @Override
+    public Move execute(final Board board) {
+        return execute(board, SearchLimits.depth(this.searchDepth)).getBestMove();
+    }
+
+    /**
+     * Returns the result of an alpha-beta search within the given limits. The search looks at a fixed depth, which
+     * is the depth of the limits or else the strategy's own depth. If the search runs out of time or boards, the best
+     * of the root moves searched so far is chosen.
+     *
+     * @param board        What the move will take place on.
+     * @param searchLimits The limits the search must stay within.
+     * @return The result of an alpha-beta search within the given limits.
+     */
+    @Override
+    public SearchResult execute(final Board board, final SearchLimits searchLimits) {
+        final long startTime = System.currentTimeMillis();
+        final int depth = searchLimits.getDepth() == NO_LIMIT && !searchLimits.isMateSearch() ?
+                          this.searchDepth :
+                          searchLimits.getMaxDepth();
+        this.boardsEvaluated = 0;
+
+        System.out.printf("%s is thinking at a depth of %d ...\n",
+                          board.getCurrentPlayer().toString(),
+                          depth);
+
+        final Player currentPlayer = board.getCurrentPlayer();
+        final SearchBoard searchBoard = new SearchBoard(board);
+        this.transpositionTable.newSearch();
+        this.transpositionTable.resetCounters();
+        this.moveOrderer.newSearch();
+        this.moveOrderer.resetCounters();
+        setLimits(searchLimits.getDeadline(startTime), searchLimits.getMaxNodes());
+
+        final List<Move> rootMoves = new ArrayList<>(currentPlayer.getLegalMoves());
+        final int[] rootScores = new int[rootMoves.size()];
+        Move bestMove = searchRoot(searchBoard, currentPlayer.getAlliance(), rootMoves, rootScores, depth);
+        int score = getBestScore(searchBoard, rootScores, depth);
+        if (bestMove == null && this.stopped) {
+            // A search stopped before it finished its first root move still has to play a legal move
+            bestMove = findFirstLegalMove(currentPlayer);
+            score = this.boardEvaluator.evaluateMove(searchBoard, 0);
+        }
+        final SearchResult searchResult = new SearchResult(bestMove,
+                                                           score,
+                                                           getPrincipalVariation(board, searchBoard, bestMove, depth),
+                                                           depth,
+                                                           this.boardsEvaluated,
+                                                           System.currentTimeMillis() - startTime);
+
+        System.out.printf("%s selects %s [boards evaluated = %d, time taken = %d ms]\n",
+                          currentPlayer.toString(),
+                          bestMove,
+                          this.boardsEvaluated,
+                          searchResult.getElapsedMillis());
+
+        return searchResult;
+    }
+
+    /**
+     * Returns the best of the root moves after searching each of them to the given depth. If the search stops early,
+     * the best of the root moves searched so far is returned. The score of every root move is written to the same
+     * index of the scores, so that the caller can order the root moves for a deeper search; a move that leaves the
+     * king in check or was not searched gets the worst score.
+     *
+     * @param searchBoard The search's board, which is on the root position.
+     * @param alliance    The alliance of the player to move.
+     * @param rootMoves   The moves of the player to move, in the order to search them.
+     * @param rootScores  Where the score of every root move is written.
+     * @param depth       How many plies of moves to look at.
+     * @return The best of the root moves, or null if none were searched.
+     */
+    protected Move searchRoot(final SearchBoard searchBoard,
+                              final Alliance alliance,
+                              final List<Move> rootMoves,
+                              final int[] rootScores,
+                              final int depth) {
+        return searchRoot(searchBoard, alliance, rootMoves, rootScores, depth, Integer.MIN_VALUE, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Returns the best of the root moves after searching each of them to the given depth within the given window.
+     * A root score at or below alpha is only an upper bound, and one at or above beta only a lower bound, so a search
+     * whose best score falls outside the window has to be repeated with a wider one to trust its best move.
+     *
+     * @param searchBoard The search's board, which is on the root position.
+     * @param alliance    The alliance of the player to move.
+     * @param rootMoves   The moves of the player to move, in the order to search them.
+     * @param rootScores  Where the score of every root move is written.
+     * @param depth       How many plies of moves to look at.
+     * @param alpha       The lowest score of the window.
+     * @param beta        The highest score of the window.
+     * @return The best of the root moves, or null if none were searched.
+     */
+    protected Move searchRoot(final SearchBoard searchBoard,
+                              final Alliance alliance,
+                              final List<Move> rootMoves,
+                              final int[] rootScores,
+                              final int depth,
+                              final int alpha,
+                              final int beta) {
+        Move bestMove = null;
+        int highestSeenValue = Integer.MIN_VALUE, lowestSeenValue = Integer.MAX_VALUE;
+        Arrays.fill(rootScores, alliance.isWhite() ? Integer.MIN_VALUE : Integer.MAX_VALUE);
+
+        for (int i = 0; i < rootMoves.size(); i++) {
+            final Move move = rootMoves.get(i);
+            final int searchMove = searchBoard.findMove(move);
+            if (searchMove != SearchBoard.NO_MOVE && searchBoard.makeMove(searchMove)) {
+                // The window is widened by one so that a tie with the best move is scored exactly, which keeps the
+                // tie-breaking (the last of the equally scored moves wins) the same as MiniMax
+                final int currentValue = alliance.isWhite() ?
+                                         min(searchBoard,
+                                             depth - 1,
+                                             Math.max(alpha, widenAlpha(highestSeenValue)),
+                                             beta) :
+                                         max(searchBoard,
+                                             depth - 1,
+                                             alpha,
+                                             Math.min(beta, widenBeta(lowestSeenValue)));
+                searchBoard.unmakeMove(searchMove);
+                if (this.stopped) {
+                    break;
+                }
+                rootScores[i] = currentValue;
+                if (alliance.isWhite() && currentValue >= highestSeenValue) {
+                    highestSeenValue = currentValue;
+                    bestMove = move;
+                } else if (alliance.isBlack() && currentValue <= lowestSeenValue) {
+                    lowestSeenValue = currentValue;
+                    bestMove = move;
+                }
+            }
+        }
+
+        return bestMove;
+    }
+
+    /**
+     * Returns the best of the root scores for the player to move, or the score of the root itself when the player
+     * has no legal moves (i.e., a checkmate or stalemate).
+     *
+     * @param searchBoard The search's board, which is on the root position.
+     * @param rootScores  The score of every root move.
+     * @param depth       How many plies of moves were looked at.
+     * @return The best of the root scores for the player to move.
+     */
+    protected int getBestScore(final SearchBoard searchBoard, final int[] rootScores, final int depth) {
+        if (!searchBoard.hasLegalMoves()) {
+            return this.boardEvaluator.evaluateMove(searchBoard, depth);
+        }
+        final boolean isWhite = searchBoard.getCurrentAlliance().isWhite();
+        int bestScore = isWhite ? Integer.MIN_VALUE : Integer.MAX_VALUE;
+        for (final int score : rootScores) {
+            bestScore = isWhite ? Math.max(bestScore, score) : Math.min(bestScore, score);
+        }
+
+        return bestScore;
+    }
+
+    /**
+     * Returns the principal variation, i.e., the best move followed by the best moves the transposition table holds
+     * for the positions after it, up to the given depth.
+     *
+     * @param board       What the best move takes place on.
+     * @param searchBoard The search's board, which is on the root position and is left there.
+     * @param bestMove    The best move of the root, or null.
+     * @param depth       The most moves the principal variation may hold.
+     * @return The principal variation.
+     */
+    protected List<Move> getPrincipalVariation(final Board board,
+                                               final SearchBoard searchBoard,
+                                               final Move bestMove,
+                                               final int depth) {
+        final List<Move> principalVariation = new ArrayList<>();
+        final int[] searchMoves = new int[depth];
+        Board currentBoard = board;
+        Move move = bestMove;
+
+        while (move != null && principalVariation.size() < depth) {
+            final int searchMove = searchBoard.findMove(move);
+            if (searchMove == SearchBoard.NO_MOVE || !searchBoard.makeMove(searchMove)) {
+                break;
+            }
+            searchMoves[principalVariation.size()] = searchMove;
+            principalVariation.add(move);
+            currentBoard = currentBoard.getCurrentPlayer().makeMove(move).getTransitionBoard();
+            move = findMove(currentBoard,
+                            searchBoard,
+                            getMove(this.transpositionTable.probe(searchBoard.getZobristKey())));
+        }
+        for (int i = principalVariation.size() - 1; i >= 0; i--) {
+            searchBoard.unmakeMove(searchMoves[i]);
+        }
+
+        return principalVariation;
+    }
+
+    /**
+     * Returns the board's legal move that matches the encoded move, or null if there is none.
+     *
+     * @param board       What the move takes place on.
+     * @param searchBoard The search's board, which is on the same position as the board.
+     * @param searchMove  The key of the encoded move.
+     * @return The board's legal move that matches the encoded move, or null if there is none.
+     */
+    static Move findMove(final Board board, final SearchBoard searchBoard, final int searchMove) {
+        if (searchMove == SearchBoard.NO_MOVE) {
+            return null;
+        }
+        for (final Move move : board.getCurrentPlayer().getLegalMoves()) {
+            if (SearchBoard.getMoveKey(searchBoard.findMove(move)) == searchMove) {
+                return move;
+            }
+        }
+
+        return null;
+    }
+
+    /**
+     * Sets the deadline and node limit the search stops at, and lets a stopped search run again.
+     *
+     * @param deadline The time in milliseconds (see System.currentTimeMillis()) at which the search stops, or
+     *                 NO_DEADLINE.
+     * @param maxNodes The most boards the search may visit, or SearchLimits.NO_LIMIT.
+     */
+    protected void setLimits(final long deadline, final long maxNodes) {
+        this.deadline = deadline;
+        this.maxNodes = maxNodes;
+        this.stopped = false;
+    }
+
+    /**
+     * Prepares the search for a subtree of a new root move: the board count starts over, the killer moves of the last
+     * subtree are cleared, and the given limits are set (see setLimits()).
+     *
+     * @param deadline The time in milliseconds at which the search stops, or NO_DEADLINE.
+     * @param maxNodes The most boards the search may visit, or SearchLimits.NO_LIMIT.
+     */
+    void newSubtreeSearch(final long deadline, final long maxNodes) {
+        this.boardsEvaluated = 0;
+        this.moveOrderer.newSearch();
+        setLimits(deadline, maxNodes);
+    }
+
+    /**
+     * Returns whether the search stopped at its deadline or node limit, in which case the scores it returned must not
+     * be used.
+     *
+     * @return Whether the search stopped at its deadline or node limit.
+     */
+    protected boolean isStopped() {
+        return this.stopped;
+    }
+
+    /**
+     * Asks a search running on another thread to stop as if it had reached its deadline. The request holds until
+     * clearStopRequest() is called, so it also stops a search that has not started yet.
+     */
+    void requestStop() {
+        this.stopRequested = true;
+    }
+
+    /**
+     * Withdraws a request to stop, so that the next search runs within its own limits again.
+     */
+    void clearStopRequest() {
+        this.stopRequested = false;
+    }
+
+    /**
+     * Returns the first of the player's moves that does not leave the king in check, or null if there is none.
+     *
+     * @param player The player to move.
+     * @return The first of the player's moves that does not leave the king in check, or null if there is none.
+     */
+    protected static Move findFirstLegalMove(final Player player) {
+        return Iterables.find(player.getLegalMoves(), move -> player.makeMove(move).getMoveStatus().isDone(), null);
+    }
+
+    /**
+     * Returns whether the search has reached its node limit, run past its deadline, or been asked to stop. The clock
+     * is only read every so often, so the search may run a little over.
+     *
+     * @return Whether the search has reached its node limit, run past its deadline, or been asked to stop.
+     */
+    private boolean shouldStop() {
+        if (this.stopRequested) {
+            this.stopped = true;
+        } else if (this.maxNodes != NO_LIMIT && this.boardsEvaluated > this.maxNodes) {
+            this.stopped = true;
+        } else if ((this.boardsEvaluated & CLOCK_CHECK_MASK) == 0 && System.currentTimeMillis() >= this.deadline) {
+            this.stopped = true;
+        }
+
+        return this.stopped;
+    }
+
+    /**
+     * Returns the number of boards visited during the last search.
+     *
+     * @return The number of boards visited during the last search.
+     */
+    @Override
+    public long getNumBoardsEvaluated() {
+        return this.boardsEvaluated;
+    }
+
+    /**
+     * Returns the transposition table the search keeps its results in.
+     *
+     * @return The transposition table the search keeps its results in.
+     */
+    public TranspositionTable getTranspositionTable() {
+        return this.transpositionTable;
+    }
+
+    /**
+     * Returns the move orderer the search orders its moves with.
+     *
+     * @return The move orderer the search orders its moves with.
+     */
+    public MoveOrderer getMoveOrderer() {
+        return this.moveOrderer;
+    }
+
+    /**
+     * Returns an as minimized score as possible based on the current player's legal moves per ply. The search of the
+     * ply stops as soon as the score drops to alpha or below.
+     *
+     * @param board What the moves take place on.
+     * @param depth How many plies of moves to look at.
+     * @param alpha The score the maximizing player is already guaranteed.
+     * @param beta  The score the minimizing player is already guaranteed.
+     * @return An as minimized score as possible based on the current player's legal moves per ply.
+     */
+    public int min(final SearchBoard board, final int depth, final int alpha, final int beta) {
+        this.boardsEvaluated++;
+        if (shouldStop()) {
+            return 0;
+        }
+        if (depth == 0) {
+            return quiesceMin(board, alpha, beta);
+        }
+        final long entry = this.transpositionTable.probe(board.getZobristKey());
+        if (isUsableEntry(entry, depth, alpha, beta)) {
+            return getScore(entry);
+        }
+        if (isEndGame(board)) {
+            return this.boardEvaluator.evaluateMove(board, depth);
+        }
+        int lowestSeenValue = Integer.MAX_VALUE, bestMove = SearchBoard.NO_MOVE;
+        final int[] moves = board.getMoveBuffer();
+        final int numMoves = board.generateMoves(moves);
+        this.moveOrderer.scoreMoves(board, moves, numMoves, getMove(entry));
+        int numMovesSearched = 0;
+        for (int i = 0; i < numMoves; i++) {
+            final int move = this.moveOrderer.selectMove(board, moves, numMoves, i);
+            if (board.makeMove(move)) {
+                numMovesSearched++;
+                final int currentValue = max(board, depth - 1, alpha, Math.min(beta, lowestSeenValue));
+                board.unmakeMove(move);
+                // The score of a stopped search is thrown away, so it is not worth storing either
+                if (this.stopped) {
+                    return 0;
+                }
+                if (currentValue <= lowestSeenValue) {
+                    lowestSeenValue = currentValue;
+                    bestMove = move;
+                }
+                if (lowestSeenValue <= alpha) {
+                    this.moveOrderer.recordCutoff(board, move, depth, numMovesSearched);
+                    break;
+                }
+            }
+        }
+        storeEntry(board, bestMove, lowestSeenValue, depth, alpha, beta);
+
+        return lowestSeenValue;
+    }
+
+    /**
+     * Returns an as maximized score as possible based on the current player's legal moves per ply. The search of the
+     * ply stops as soon as the score rises to beta or above.
+     *
+     * @param board What the moves take place on.
+     * @param depth How many plies of moves to look at.
+     * @param alpha The score the maximizing player is already guaranteed.
+     * @param beta  The score the minimizing player is already guaranteed.
+     * @return An as maximized score as possible based on the current player's legal moves per ply.
+     */
+    public int max(final SearchBoard board, final int depth, final int alpha, final int beta) {
+        this.boardsEvaluated++;
+        if (shouldStop()) {
+            return 0;
+        }
+        if (depth == 0) {
+            return quiesceMax(board, alpha, beta);
+        }
+        final long entry = this.transpositionTable.probe(board.getZobristKey());
+        if (isUsableEntry(entry, depth, alpha, beta)) {
+            return getScore(entry);
+        }
+        if (isEndGame(board)) {
+            return this.boardEvaluator.evaluateMove(board, depth);
+        }
+        int highestSeenValue = Integer.MIN_VALUE, bestMove = SearchBoard.NO_MOVE;
+        final int[] moves = board.getMoveBuffer();
+        final int numMoves = board.generateMoves(moves);
+        this.moveOrderer.scoreMoves(board, moves, numMoves, getMove(entry));
+        int numMovesSearched = 0;
+        for (int i = 0; i < numMoves; i++) {
+            final int move = this.moveOrderer.selectMove(board, moves, numMoves, i);
+            if (board.makeMove(move)) {
+                numMovesSearched++;
+                final int currentValue = min(board, depth - 1, Math.max(alpha, highestSeenValue), beta);
+                board.unmakeMove(move);
+                // The score of a stopped search is thrown away, so it is not worth storing either
+                if (this.stopped) {
+                    return 0;
+                }
+                if (currentValue >= highestSeenValue) {
+                    highestSeenValue = currentValue;
+                    bestMove = move;
+                }
+                if (highestSeenValue >= beta) {
+                    this.moveOrderer.recordCutoff(board, move, depth, numMovesSearched);
+                    break;
+                }
+            }
+        }
+        storeEntry(board, bestMove, highestSeenValue, depth, alpha, beta);
+
+        return highestSeenValue;
+    }
+
+    /**
+     * Returns the score of a position at the end of the search for the minimizing player, once the captures and
+     * promotions have played out. The player may stand pat, i.e., take the board's score as it is, since they are
+     * never forced to capture, so only the captures that lower the score further are searched. A player in check
+     * cannot stand pat and searches every move instead.
+     *
+     * @param board What the moves take place on.
+     * @param alpha The score the maximizing player is already guaranteed.
+     * @param beta  The score the minimizing player is already guaranteed.
+     * @return The score of the position once the captures and promotions have played out.
+     */
+    private int quiesceMin(final SearchBoard board, final int alpha, final int beta) {
+        this.boardsEvaluated++;
+        if (shouldStop()) {
+            return 0;
+        }
+        final boolean inCheck = board.isInCheck();
+        int lowestSeenValue = Integer.MAX_VALUE;
+        if (!inCheck || board.getPly() >= MAX_QUIESCENCE_PLY) {
+            lowestSeenValue = this.boardEvaluator.evaluateMove(board, 0);
+            if (lowestSeenValue <= alpha || board.getPly() >= MAX_QUIESCENCE_PLY) {
+                return lowestSeenValue;
+            }
+        }
+        final int[] moves = board.getMoveBuffer();
+        final int numMoves = inCheck ? board.generateMoves(moves) : board.generateCaptures(moves);
+        this.moveOrderer.scoreCaptures(board, moves, numMoves);
+        boolean hasLegalMove = false;
+        for (int i = 0; i < numMoves; i++) {
+            final int move = this.moveOrderer.selectMove(board, moves, numMoves, i);
+            if (board.makeMove(move)) {
+                hasLegalMove = true;
+                final int currentValue = quiesceMax(board, alpha, Math.min(beta, lowestSeenValue));
+                board.unmakeMove(move);
+                if (this.stopped) {
+                    return 0;
+                }
+                lowestSeenValue = Math.min(lowestSeenValue, currentValue);
+                if (lowestSeenValue <= alpha) {
+                    break;
+                }
+            }
+        }
+
+        return inCheck && !hasLegalMove ? this.boardEvaluator.evaluateMove(board, 0) : lowestSeenValue;
+    }
+
+    /**
+     * Returns the score of a position at the end of the search for the maximizing player, once the captures and
+     * promotions have played out. The player may stand pat, i.e., take the board's score as it is, since they are
+     * never forced to capture, so only the captures that raise the score further are searched. A player in check
+     * cannot stand pat and searches every move instead.
+     *
+     * @param board What the moves take place on.
+     * @param alpha The score the maximizing player is already guaranteed.
+     * @param beta  The score the minimizing player is already guaranteed.
+     * @return The score of the position once the captures and promotions have played out.
+     */
+    private int quiesceMax(final SearchBoard board, final int alpha, final int beta) {
+        this.boardsEvaluated++;
+        if (shouldStop()) {
+            return 0;
+        }
+        final boolean inCheck = board.isInCheck();
+        int highestSeenValue = Integer.MIN_VALUE;
+        if (!inCheck || board.getPly() >= MAX_QUIESCENCE_PLY) {
+            highestSeenValue = this.boardEvaluator.evaluateMove(board, 0);
+            if (highestSeenValue >= beta || board.getPly() >= MAX_QUIESCENCE_PLY) {
+                return highestSeenValue;
+            }
+        }
+        final int[] moves = board.getMoveBuffer();
+        final int numMoves = inCheck ? board.generateMoves(moves) : board.generateCaptures(moves);
+        this.moveOrderer.scoreCaptures(board, moves, numMoves);
+        boolean hasLegalMove = false;
+        for (int i = 0; i < numMoves; i++) {
+            final int move = this.moveOrderer.selectMove(board, moves, numMoves, i);
+            if (board.makeMove(move)) {
+                hasLegalMove = true;
+                final int currentValue = quiesceMin(board, Math.max(alpha, highestSeenValue), beta);
+                board.unmakeMove(move);
+                if (this.stopped) {
+                    return 0;
+                }
+                highestSeenValue = Math.max(highestSeenValue, currentValue);
+                if (highestSeenValue >= beta) {
+                    break;
+                }
+            }
+        }
+
+        return inCheck && !hasLegalMove ? this.boardEvaluator.evaluateMove(board, 0) : highestSeenValue;
+    }
+
+    /**
+     * Returns whether the entry's score can be returned without searching the position. The entry must be at least
+     * as deep as the search, and its score must be exact or a bound that already falls outside the window. A
+     * checkmate score grows with the depth left at the checkmate, so it only holds for an entry exactly as deep as the
+     * search; a deeper entry's checkmate would seem nearer than it is and could be preferred over a nearer one.
+     *
+     * @param entry The data of the position's entry, or NO_ENTRY.
+     * @param depth How many plies of moves to look at.
+     * @param alpha The score the maximizing player is already guaranteed.
+     * @param beta  The score the minimizing player is already guaranteed.
+     * @return Whether the entry's score can be returned without searching the position.
+     */
+    private static boolean isUsableEntry(final long entry, final int depth, final int alpha, final int beta) {
+        if (entry == NO_ENTRY || getDepth(entry) < depth) {
+            return false;
+        }
+        final int score = getScore(entry);
+        if (StandardBoardEvaluator.isCheckmateScore(score) && getDepth(entry) != depth) {
+            return false;
+        }
+
+        return switch (getBound(entry)) {
+            case EXACT_BOUND -> true;
+            case LOWER_BOUND -> score >= beta;
+            case UPPER_BOUND -> score <= alpha;
+            default -> false;
+        };
+    }
+
+    /**
+     * Stores the position's score in the transposition table. A score at or below alpha only proves that the
+     * position is worth at most that much, and a score at or above beta only proves that it is worth at least that
+     * much, since the search of the position stopped early.
+     *
+     * @param board    What the moves take place on.
+     * @param bestMove The best encoded move found in the position.
+     * @param score    The score of the position.
+     * @param depth    How many plies of moves were looked at.
+     * @param alpha    The score the maximizing player was already guaranteed.
+     * @param beta     The score the minimizing player was already guaranteed.
+     */
+    private void storeEntry(final SearchBoard board,
+                            final int bestMove,
+                            final int score,
+                            final int depth,
+                            final int alpha,
+                            final int beta) {
+        final int bound = score <= alpha ? UPPER_BOUND : score >= beta ? LOWER_BOUND : EXACT_BOUND;
+        this.transpositionTable.store(board.getZobristKey(), bestMove, score, depth, bound);
+    }
+
+    /**
+     * Returns an alpha one below the highest seen score so that a move scoring the same is not pruned.
+     *
+     * @param highestSeenValue The highest score seen so far.
+     * @return An alpha one below the highest seen score.
+     */
+    private static int widenAlpha(final int highestSeenValue) {
+        return highestSeenValue == Integer.MIN_VALUE ? Integer.MIN_VALUE : highestSeenValue - 1;
+    }
+
+    /**
+     * Returns a beta one above the lowest seen score so that a move scoring the same is not pruned.
+     *
+     * @param lowestSeenValue The lowest score seen so far.
+     * @return A beta one above the lowest seen score.
+     */
+    private static int widenBeta(final int lowestSeenValue) {
+        return lowestSeenValue == Integer.MAX_VALUE ? Integer.MAX_VALUE : lowestSeenValue + 1;
+    }
+
+    /**
+     * Determines whether the game is over. The board remembers the status, so the evaluator does not work it out
+     * again for a board that ends the game.
+     *
+     * @param board What the moves take place on.
+     * @return Whether the game is over.
+     */
+    private static boolean isEndGame(final SearchBoard board) {
+        return board.getGameStatus().isGameOver();
+    }
+
+    /**
+     * Returns the String representation of the alpha-beta move strategy.
+     *
+     * @return The String representation of the alpha-beta move strategy.
+     */
+    @Override
+    public String toString() {
+        return "AlphaBeta";
+    }
+}
@@ -0,0 +1,425 @@
+package com.chess.engine.player.ai.movestrategy;
+
+import com.chess.engine.Alliance;
+import com.chess.engine.board.Board;
+import com.chess.engine.board.SearchBoard;
+import com.chess.engine.moves.Move;
+import com.chess.engine.player.Player;
+import com.chess.engine.player.ai.transposition.TranspositionTable;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static com.chess.engine.player.ai.boardevaluator.StandardBoardEvaluator.isCheckmateScore;
+import static com.chess.engine.player.ai.boardevaluator.StandardBoardEvaluator.isWinningCheckmateScore;
+import static com.chess.engine.player.ai.movestrategy.SearchLimits.NO_LIMIT;
+
+/**
+ * Represents the alpha-beta move strategy with iterative deepening. Instead of searching straight to a fixed depth,
+ * the search looks 1 ply ahead, then 2 plies, then 3, and so on until it reaches the maximum depth or runs out of
+ * time, and the best move of the last iteration that completed is chosen. Since every depth takes several times
+ * longer than the one before it, the shallower iterations cost little, and a move is ready at any point in time.
+ * <p>
+ * Each completed iteration also makes the next one faster: the root moves are searched in the order of their last
+ * scores, and the best moves the iteration left in the transposition table are searched first below the root.
+ * <p>
+ * The score of an iteration is rarely far from the score of the one before it, so each iteration after the first
+ * searches an aspiration window, i.e., a narrow window around the last score, which prunes far more than the full
+ * window. A best score at or below the window's alpha (a fail-low) or at or above its beta (a fail-high) is only a
+ * bound, so the iteration is searched again with that side of the window twice as far from the score, until the
+ * score falls inside the window or the window has grown to the full window. How often that happens is counted, so
+ * that the width of the window can be tuned; a width of 0 always searches the full window.
+ * <p>
+ * The search can also run as one of the threads of a LazySmp search. The threads share the transposition table, so
+ * only the main thread (index 0) reports its progress, and the helper threads search their root moves in a rotated
+ * order, with every other helper skipping the first depth, so that they reach different parts of the tree first.
+ *
+ * @author Jamie Canada
+ * @since 10/24/25
+ */
+public class IterativeDeepening extends AlphaBeta {
+    static final int NO_THREAD_INDEX = -1;
+    // Half a pawn on either side of the last score
+    public static final int DEFAULT_ASPIRATION_WINDOW = 50;
+    // A side of the window that would grow past this is opened all the way instead
+    private static final int MAX_ASPIRATION_WINDOW = 1000;
+
+    private final long moveTimeMillis;
+    private final int aspirationWindow;
+    private final int threadIndex;
+    private long aspirationSearches;
+    private long failLows;
+    private long failHighs;
+
+    /**
+     * Creates an IterativeDeepening object with its own transposition table.
+     *
+     * @param maxDepth       The most plies of moves to look at.
+     * @param moveTimeMillis How many milliseconds the search may take.
+     */
+    public IterativeDeepening(final int maxDepth, final long moveTimeMillis) {
+        this(maxDepth, moveTimeMillis, new TranspositionTable());
+    }
+
+    /**
+     * Creates an IterativeDeepening object that shares the given transposition table, so that the results of earlier
+     * searches can be reused.
+     *
+     * @param maxDepth           The most plies of moves to look at.
+     * @param moveTimeMillis     How many milliseconds the search may take.
+     * @param transpositionTable Where the results of searched positions are kept.
+     */
+    public IterativeDeepening(final int maxDepth,
+                              final long moveTimeMillis,
+                              final TranspositionTable transpositionTable) {
+        this(maxDepth, moveTimeMillis, transpositionTable, DEFAULT_ASPIRATION_WINDOW);
+    }
+
+    /**
+     * Creates an IterativeDeepening object that shares the given transposition table and searches an aspiration
+     * window of the given width.
+     *
+     * @param maxDepth           The most plies of moves to look at.
+     * @param moveTimeMillis     How many milliseconds the search may take.
+     * @param transpositionTable Where the results of searched positions are kept.
+     * @param aspirationWindow   How far either side of the window starts from the last score, or 0 for none.
+     */
+    public IterativeDeepening(final int maxDepth,
+                              final long moveTimeMillis,
+                              final TranspositionTable transpositionTable,
+                              final int aspirationWindow) {
+        this(maxDepth, moveTimeMillis, transpositionTable, aspirationWindow, NO_THREAD_INDEX);
+    }
+
+    /**
+     * Creates an IterativeDeepening object that searches as one of the threads of a LazySmp search, which prepares
+     * the shared transposition table before any of its threads start.
+     *
+     * @param maxDepth           The most plies of moves to look at.
+     * @param moveTimeMillis     How many milliseconds the search may take.
+     * @param transpositionTable Where the results of searched positions are kept.
+     * @param aspirationWindow   How far either side of the window starts from the last score, or 0 for none.
+     * @param threadIndex        The index of the thread among the LazySmp search's threads, or NO_THREAD_INDEX.
+     */
+    IterativeDeepening(final int maxDepth,
+                       final long moveTimeMillis,
+                       final TranspositionTable transpositionTable,
+                       final int aspirationWindow,
+                       final int threadIndex) {
+        super(maxDepth, transpositionTable);
+        if (moveTimeMillis <= 0) {
+            throw new IllegalArgumentException("The search needs a positive move time, not " + moveTimeMillis + ".");
+        }
+        if (aspirationWindow < 0) {
+            throw new IllegalArgumentException("The aspiration window cannot be negative, not " +
+                                               aspirationWindow + ".");
+        }
+        this.moveTimeMillis = moveTimeMillis;
+        this.aspirationWindow = aspirationWindow;
+        this.threadIndex = threadIndex;
+    }
+
+    /**
+     * Returns the best move of the deepest iteration that completed within the move time.
+     *
+     * @param board What the move will take place on.
+     * @return The best move of the deepest iteration that completed within the move time.
+     */
+    @Override
+    public Move execute(final Board board) {
+        return execute(board, new SearchLimits.Builder().setDepth(this.searchDepth)
+                                                        .setMoveTime(this.moveTimeMillis)
+                                                        .build()).getBestMove();
+    }
+
+    /**
+     * Returns the result of the deepest iteration that completed within the given limits. Without a depth limit, the
+     * iterations go on until the time or node limit is reached, up to SearchLimits.MAX_DEPTH. A search for a
+     * checkmate stops at the first iteration that finds one. If not even the first iteration completes, the best of
+     * the root moves it searched is chosen.
+     *
+     * @param board        What the move will take place on.
+     * @param searchLimits The limits the search must stay within.
+     * @return The result of the deepest iteration that completed within the given limits.
+     */
+    @Override
+    public SearchResult execute(final Board board, final SearchLimits searchLimits) {
+        final long startTime = System.currentTimeMillis();
+        final long deadline = searchLimits.getDeadline(startTime);
+        final long timeBudgetMillis = searchLimits.getTimeBudgetMillis();
+        this.boardsEvaluated = 0;
+        this.aspirationSearches = 0;
+        this.failLows = 0;
+        this.failHighs = 0;
+
+        if (isReporting()) {
+            System.out.printf("%s is thinking within %s ...\n", board.getCurrentPlayer().toString(), searchLimits);
+        }
+
+        final Player currentPlayer = board.getCurrentPlayer();
+        final Alliance alliance = currentPlayer.getAlliance();
+        final SearchBoard searchBoard = new SearchBoard(board);
+        if (this.threadIndex == NO_THREAD_INDEX) {
+            getTranspositionTable().newSearch();
+            getTranspositionTable().resetCounters();
+        }
+        getMoveOrderer().newSearch();
+        getMoveOrderer().resetCounters();
+
+        final List<Move> rootMoves = new ArrayList<>(currentPlayer.getLegalMoves());
+        if (this.threadIndex > 0) {
+            Collections.rotate(rootMoves, -this.threadIndex);
+        }
+        final int[] rootScores = new int[rootMoves.size()];
+        Move bestMove = null;
+        int bestScore = 0, completedDepth = 0;
+
+        setLimits(deadline, searchLimits.getMaxNodes());
+        for (int depth = getFirstDepth(); depth <= searchLimits.getMaxDepth(); depth++) {
+            final Move iterationMove = completedDepth == 0 ?
+                                       searchRoot(searchBoard, alliance, rootMoves, rootScores, depth) :
+                                       searchAspirationWindow(searchBoard, alliance, rootMoves, rootScores, depth,
+                                                              bestScore);
+            if (isStopped()) {
+                // Without a completed iteration, the best of the root moves searched so far still has to be played
+                if (completedDepth == 0) {
+                    bestMove = iterationMove != null ? iterationMove : findFirstLegalMove(currentPlayer);
+                    bestScore = iterationMove != null ? getBestScore(searchBoard, rootScores, depth) :
+                                                        this.boardEvaluator.evaluateMove(searchBoard, 0);
+                }
+                break;
+            }
+            bestMove = iterationMove;
+            bestScore = getBestScore(searchBoard, rootScores, depth);
+            completedDepth = depth;
+            orderRootMoves(rootMoves, rootScores, alliance);
+
+            if (isReporting()) {
+                System.out.printf("  depth %d: %s [score = %d, boards evaluated = %d, fail-lows = %d, " +
+                                  "fail-highs = %d, time taken = %d ms]\n",
+                                  depth,
+                                  bestMove,
+                                  bestScore,
+                                  this.boardsEvaluated,
+                                  this.failLows,
+                                  this.failHighs,
+                                  System.currentTimeMillis() - startTime);
+            }
+
+            if (bestMove == null) {
+                break;
+            }
+            // Only a checkmate the player delivers ends a search for one, not a checkmate the player is getting
+            if (searchLimits.isMateSearch() && isWinningCheckmateScore(alliance.isWhite() ? bestScore : -bestScore)) {
+                break;
+            }
+            // The next iteration would take several times longer than this one, so it is only started while it
+            // has a chance of completing
+            if (timeBudgetMillis != NO_LIMIT && System.currentTimeMillis() - startTime >= timeBudgetMillis / 2) {
+                break;
+            }
+        }
+
+        final SearchResult searchResult = new SearchResult(bestMove,
+                                                           bestScore,
+                                                           getPrincipalVariation(board,
+                                                                                 searchBoard,
+                                                                                 bestMove,
+                                                                                 Math.max(completedDepth, 1)),
+                                                           completedDepth,
+                                                           this.boardsEvaluated,
+                                                           System.currentTimeMillis() - startTime);
+        if (isReporting()) {
+            System.out.printf("%s selects %s [depth = %d, boards evaluated = %d, aspiration re-searches = %d/%d, " +
+                              "time taken = %d ms, pv = %s]\n",
+                              currentPlayer.toString(),
+                              bestMove,
+                              completedDepth,
+                              this.boardsEvaluated,
+                              getNumAspirationResearches(),
+                              this.aspirationSearches,
+                              searchResult.getElapsedMillis(),
+                              searchResult.getPrincipalVariation());
+        }
+
+        return searchResult;
+    }
+
+    /**
+     * Returns the best of the root moves after searching them within an aspiration window around the last
+     * iteration's score. The side of the window the best score falls on is widened until the score falls inside it.
+     * Without a window width, or after a checkmate score, which changes from one iteration to the next by far more
+     * than any window, the full window is searched instead.
+     *
+     * @param searchBoard   The search's board, which is on the root position.
+     * @param alliance      The alliance of the player to move.
+     * @param rootMoves     The moves of the player to move, in the order to search them.
+     * @param rootScores    Where the score of every root move is written.
+     * @param depth         How many plies of moves to look at.
+     * @param previousScore The score of the last iteration.
+     * @return The best of the root moves, or null if none were searched.
+     */
+    private Move searchAspirationWindow(final SearchBoard searchBoard,
+                                        final Alliance alliance,
+                                        final List<Move> rootMoves,
+                                        final int[] rootScores,
+                                        final int depth,
+                                        final int previousScore) {
+        if (this.aspirationWindow == 0 || isCheckmateScore(previousScore)) {
+            return searchRoot(searchBoard, alliance, rootMoves, rootScores, depth);
+        }
+        this.aspirationSearches++;
+        int lowerWindow = this.aspirationWindow, upperWindow = this.aspirationWindow;
+        int alpha = getAlpha(previousScore, lowerWindow), beta = getBeta(previousScore, upperWindow);
+        while (true) {
+            final Move iterationMove = searchRoot(searchBoard, alliance, rootMoves, rootScores, depth, alpha, beta);
+            if (isStopped()) {
+                return iterationMove;
+            }
+            final int score = getBestScore(searchBoard, rootScores, depth);
+            if (score <= alpha && alpha != Integer.MIN_VALUE) {
+                this.failLows++;
+                lowerWindow *= 2;
+                alpha = getAlpha(score, lowerWindow);
+            } else if (score >= beta && beta != Integer.MAX_VALUE) {
+                this.failHighs++;
+                upperWindow *= 2;
+                beta = getBeta(score, upperWindow);
+            } else {
+                return iterationMove;
+            }
+        }
+    }
+
+    /**
+     * Returns the alpha of a window that reaches the given distance below the score, or the lowest score once the
+     * window is too wide to be worth narrowing.
+     *
+     * @param score  The score the window is around.
+     * @param window How far below the score the window reaches.
+     * @return The alpha of the window.
+     */
+    private static int getAlpha(final int score, final int window) {
+        return window > MAX_ASPIRATION_WINDOW ? Integer.MIN_VALUE : score - window;
+    }
+
+    /**
+     * Returns the beta of a window that reaches the given distance above the score, or the highest score once the
+     * window is too wide to be worth narrowing.
+     *
+     * @param score  The score the window is around.
+     * @param window How far above the score the window reaches.
+     * @return The beta of the window.
+     */
+    private static int getBeta(final int score, final int window) {
+        return window > MAX_ASPIRATION_WINDOW ? Integer.MAX_VALUE : score + window;
+    }
+
+    /**
+     * Returns the depth of the first iteration. Every other helper thread of a LazySmp search starts one ply deeper,
+     * so that the threads do not all search the same depth at the same time.
+     *
+     * @return The depth of the first iteration.
+     */
+    private int getFirstDepth() {
+        return this.threadIndex > 0 && this.threadIndex % 2 == 1 ? 2 : 1;
+    }
+
+    /**
+     * Returns whether the search prints its progress, which only a search of its own or the main thread of a LazySmp
+     * search does.
+     *
+     * @return Whether the search prints its progress.
+     */
+    private boolean isReporting() {
+        return this.threadIndex == NO_THREAD_INDEX || this.threadIndex == 0;
+    }
+
+    /**
+     * Sorts the root moves from the best score to the worst for the given alliance. The sort is stable, so moves
+     * with the same score keep the order they were searched in.
+     *
+     * @param rootMoves  The moves of the player to move.
+     * @param rootScores The score of every root move, at the same index.
+     * @param alliance   The alliance of the player to move.
+     */
+    private static void orderRootMoves(final List<Move> rootMoves, final int[] rootScores, final Alliance alliance) {
+        for (int i = 1; i < rootScores.length; i++) {
+            final Move move = rootMoves.get(i);
+            final int score = rootScores[i];
+            int j = i - 1;
+            while (j >= 0 && (alliance.isWhite() ? score > rootScores[j] : score < rootScores[j])) {
+                rootMoves.set(j + 1, rootMoves.get(j));
+                rootScores[j + 1] = rootScores[j];
+                j--;
+            }
+            rootMoves.set(j + 1, move);
+            rootScores[j + 1] = score;
+        }
+    }
+
+    /**
+     * Returns how many milliseconds the search may take.
+     *
+     * @return How many milliseconds the search may take.
+     */
+    public long getMoveTimeMillis() {
+        return this.moveTimeMillis;
+    }
+
+    /**
+     * Returns how far either side of the aspiration window starts from the last score, or 0 without one.
+     *
+     * @return How far either side of the aspiration window starts from the last score.
+     */
+    public int getAspirationWindow() {
+        return this.aspirationWindow;
+    }
+
+    /**
+     * Returns how many iterations of the last search started with an aspiration window.
+     *
+     * @return How many iterations of the last search started with an aspiration window.
+     */
+    public long getNumAspirationSearches() {
+        return this.aspirationSearches;
+    }
+
+    /**
+     * Returns how many times an iteration of the last search scored at or below its window and was searched again.
+     *
+     * @return How many fail-lows the last search had.
+     */
+    public long getNumFailLows() {
+        return this.failLows;
+    }
+
+    /**
+     * Returns how many times an iteration of the last search scored at or above its window and was searched again.
+     *
+     * @return How many fail-highs the last search had.
+     */
+    public long getNumFailHighs() {
+        return this.failHighs;
+    }
+
+    /**
+     * Returns how many times an iteration of the last search was searched again with a wider window.
+     *
+     * @return How many aspiration re-searches the last search had.
+     */
+    public long getNumAspirationResearches() {
+        return this.failLows + this.failHighs;
+    }
+
+    /**
+     * Returns the String representation of the iterative deepening move strategy.
+     *
+     * @return The String representation of the iterative deepening move strategy.
+     */
+    @Override
+    public String toString() {
+        return "IterativeDeepening";
+    }
+}
@@ -0,0 +1,203 @@
+package com.chess.engine.player.ai.movestrategy;
+
+import com.chess.engine.board.Board;
+import com.chess.engine.moves.Move;
+import com.chess.engine.player.ai.transposition.TranspositionTable;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Represents the Lazy SMP move strategy, which searches with several threads at once. Every thread runs its own
+ * iterative deepening search of the same root, and the threads only work together through the transposition table
+ * they share: a position one thread has searched is answered from the table when another thread reaches it, and the
+ * best moves the helper threads leave there are searched first by the main thread.
+ * <p>
+ * The helper threads start on different root moves and depths (see IterativeDeepening), so that they fill the table
+ * with the parts of the tree the main thread is about to need. The main thread searches within the given limits and
+ * reports the result; once it is done, the helper threads are stopped.
+ *
+ * @author Jamie Canada
+ * @since 10/27/25
+ */
+public class LazySmp implements MoveStrategy {
+    private final IterativeDeepening[] searches;
+    private final TranspositionTable transpositionTable;
+    private final int searchDepth;
+    private final long moveTimeMillis;
+    private long boardsEvaluated;
+
+    /**
+     * Creates a LazySmp object whose threads share a transposition table of their own.
+     *
+     * @param maxDepth       The most plies of moves to look at.
+     * @param moveTimeMillis How many milliseconds the search may take.
+     * @param numThreads     How many threads search, the main thread included.
+     */
+    public LazySmp(final int maxDepth, final long moveTimeMillis, final int numThreads) {
+        this(maxDepth, moveTimeMillis, numThreads, new TranspositionTable());
+    }
+
+    /**
+     * Creates a LazySmp object whose threads share the given transposition table, so that the results of earlier
+     * searches can be reused.
+     *
+     * @param maxDepth           The most plies of moves to look at.
+     * @param moveTimeMillis     How many milliseconds the search may take.
+     * @param numThreads         How many threads search, the main thread included.
+     * @param transpositionTable Where the results of searched positions are kept.
+     */
+    public LazySmp(final int maxDepth,
+                   final long moveTimeMillis,
+                   final int numThreads,
+                   final TranspositionTable transpositionTable) {
+        if (numThreads <= 0) {
+            throw new IllegalArgumentException("The search needs at least 1 thread, not " + numThreads + ".");
+        }
+        this.searches = new IterativeDeepening[numThreads];
+        for (int i = 0; i < numThreads; i++) {
+            this.searches[i] = new IterativeDeepening(maxDepth,
+                                                      moveTimeMillis,
+                                                      transpositionTable,
+                                                      IterativeDeepening.DEFAULT_ASPIRATION_WINDOW,
+                                                      i);
+        }
+        this.transpositionTable = transpositionTable;
+        this.searchDepth = maxDepth;
+        this.moveTimeMillis = moveTimeMillis;
+    }
+
+    /**
+     * Returns the best move of the main thread's deepest iteration that completed within the move time.
+     *
+     * @param board What the move will take place on.
+     * @return The best move of the main thread's deepest iteration that completed within the move time.
+     */
+    @Override
+    public Move execute(final Board board) {
+        return execute(board, new SearchLimits.Builder().setDepth(this.searchDepth)
+                                                        .setMoveTime(this.moveTimeMillis)
+                                                        .build()).getBestMove();
+    }
+
+    /**
+     * Returns the result of the main thread's search within the given limits, while the helper threads search the
+     * same root up to the same depth. The boards visited by every thread are counted in the result.
+     *
+     * @param board        What the move will take place on.
+     * @param searchLimits The limits the search must stay within.
+     * @return The result of the main thread's search within the given limits.
+     */
+    @Override
+    public SearchResult execute(final Board board, final SearchLimits searchLimits) {
+        final long startTime = System.currentTimeMillis();
+        // The table is prepared before any thread starts, since the threads must not change it under each other
+        this.transpositionTable.newSearch();
+        this.transpositionTable.resetCounters();
+
+        final SearchLimits helperLimits = new SearchLimits.Builder().setDepth(searchLimits.getMaxDepth()).build();
+        final List<Future<SearchResult>> helperResults = new ArrayList<>();
+        final ExecutorService executor = this.searches.length == 1 ? null :
+                                         Executors.newFixedThreadPool(this.searches.length - 1, runnable -> {
+                                             final Thread thread = new Thread(runnable, "LazySmp helper");
+                                             thread.setDaemon(true);
+                                             return thread;
+                                         });
+        final SearchResult mainResult;
+        try {
+            for (int i = 1; i < this.searches.length; i++) {
+                final IterativeDeepening helper = this.searches[i];
+                helper.clearStopRequest();
+                helperResults.add(executor.submit(() -> helper.execute(board, helperLimits)));
+            }
+            mainResult = this.searches[0].execute(board, searchLimits);
+        } finally {
+            for (int i = 1; i < this.searches.length; i++) {
+                this.searches[i].requestStop();
+            }
+            if (executor != null) {
+                executor.shutdown();
+            }
+        }
+        awaitHelpers(helperResults);
+
+        this.boardsEvaluated = 0;
+        for (final IterativeDeepening search : this.searches) {
+            this.boardsEvaluated += search.getNumBoardsEvaluated();
+        }
+        final SearchResult searchResult = new SearchResult(mainResult.getBestMove(),
+                                                           mainResult.getScore(),
+                                                           mainResult.getPrincipalVariation(),
+                                                           mainResult.getDepth(),
+                                                           this.boardsEvaluated,
+                                                           System.currentTimeMillis() - startTime);
+
+        System.out.printf("%s [threads = %d, boards evaluated by all threads = %d, nodes per second = %d]\n",
+                          this,
+                          this.searches.length,
+                          this.boardsEvaluated,
+                          searchResult.getNodesPerSecond());
+
+        return searchResult;
+    }
+
+    /**
+     * Waits for the stopped helper threads to return from their searches.
+     *
+     * @param helperResults The pending results of the helper threads' searches.
+     */
+    private static void awaitHelpers(final List<Future<SearchResult>> helperResults) {
+        for (final Future<SearchResult> helperResult : helperResults) {
+            try {
+                helperResult.get();
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (final ExecutionException e) {
+                throw new RuntimeException(e.getCause());
+            }
+        }
+    }
+
+    /**
+     * Returns the number of boards visited by every thread during the last search.
+     *
+     * @return The number of boards visited by every thread during the last search.
+     */
+    @Override
+    public long getNumBoardsEvaluated() {
+        return this.boardsEvaluated;
+    }
+
+    /**
+     * Returns how many threads search, the main thread included.
+     *
+     * @return How many threads search, the main thread included.
+     */
+    public int getNumThreads() {
+        return this.searches.length;
+    }
+
+    /**
+     * Returns the transposition table the threads share.
+     *
+     * @return The transposition table the threads share.
+     */
+    public TranspositionTable getTranspositionTable() {
+        return this.transpositionTable;
+    }
+
+    /**
+     * Returns the String representation of the Lazy SMP move strategy.
+     *
+     * @return The String representation of the Lazy SMP move strategy.
+     */
+    @Override
+    public String toString() {
+        return "LazySmp";
+    }
+}
@@ -1,11 +1,16 @@
 package com.chess.engine.player.ai.movestrategy;
 
 import com.chess.engine.board.Board;
+import com.chess.engine.board.SearchBoard;
 import com.chess.engine.moves.Move;
-import com.chess.engine.moves.MoveTransition;
 import com.chess.engine.player.Player;
 import com.chess.engine.player.ai.boardevaluator.BoardEvaluator;
 import com.chess.engine.player.ai.boardevaluator.StandardBoardEvaluator;
+import com.google.common.collect.Iterables;
+
+import java.util.List;
+
+import static com.chess.engine.player.ai.movestrategy.SearchLimits.NO_LIMIT;
 
 /**
  * Represents the minimax move strategy. The white player wants to increase their score the most (approaching +inf)
@@ -14,13 +19,26 @@ import com.chess.engine.player.ai.boardevaluator.StandardBoardEvaluator;
  * using a depth, which limits how many plies the player will be searching on. The more plies the player has to search,
  * the longer it takes to search for the best move. Alpha-beta pruning is a technique that can be used to significantly
  * decrease the amount of moves to look at.
+ * <p>
+ * Once the depth runs out, a quiescence search plays out the captures and promotions before a board is evaluated, so
+ * that a position in the middle of an exchange is not scored as if the last capture had no reply.
  *
  * @author Jamie Canada
  * @since 10/16/25
  */
 public class MiniMax implements MoveStrategy {
+    // The clock is only looked at once every 1024 boards, since reading it costs more than evaluating a board
+    private static final int CLOCK_CHECK_MASK = 1023;
+
+    // A quiescence search stands pat this close to the end of the search board's stacks
+    private static final int MAX_QUIESCENCE_PLY = SearchBoard.MAX_PLY - 1;
+
     private final BoardEvaluator boardEvaluator;
     private final int searchDepth;
+    private long boardsEvaluated;
+    private long deadline;
+    private long maxNodes;
+    private boolean stopped;
 
     /**
      * Creates a MiniMax object with an initialized board evaluator.
@@ -38,25 +56,49 @@ public class MiniMax implements MoveStrategy {
      */
     @Override
     public Move execute(final Board board) {
+        return execute(board, SearchLimits.depth(this.searchDepth)).getBestMove();
+    }
+
+    /**
+     * Returns the result of a minimax search within the given limits. The search looks at a fixed depth, which is the
+     * depth of the limits or else the strategy's own depth. If the search runs out of time or boards, the best of the
+     * root moves searched so far is chosen. Minimax keeps no record of the best moves below the root, so its
+     * principal variation only holds the best move.
+     *
+     * @param board        What the move will take place on.
+     * @param searchLimits The limits the search must stay within.
+     * @return The result of a minimax search within the given limits.
+     */
+    @Override
+    public SearchResult execute(final Board board, final SearchLimits searchLimits) {
         final long startTime = System.currentTimeMillis();
+        final int depth = searchLimits.getDepth() == NO_LIMIT && !searchLimits.isMateSearch() ?
+                          this.searchDepth :
+                          searchLimits.getMaxDepth();
+        this.boardsEvaluated = 0;
+        this.deadline = searchLimits.getDeadline(startTime);
+        this.maxNodes = searchLimits.getMaxNodes();
+        this.stopped = false;
         Move bestMove = null;
         int highestSeenValue = Integer.MIN_VALUE, lowestSeenValue = Integer.MAX_VALUE, currentValue;
 
         System.out.printf("%s is thinking at a depth of %d ...\n",
                           board.getCurrentPlayer().toString(),
-                          this.searchDepth);
+                          depth);
 
         final Player currentPlayer = board.getCurrentPlayer();
-        int numMoves = currentPlayer.getLegalMoves().size();
+        final SearchBoard searchBoard = new SearchBoard(board);
 
         for (final Move move : currentPlayer.getLegalMoves()) {
-            final MoveTransition moveTransition = currentPlayer.makeMove(move);
-            if (moveTransition.getMoveStatus().isDone()) {
+            final int searchMove = searchBoard.findMove(move);
+            if (searchMove != SearchBoard.NO_MOVE && searchBoard.makeMove(searchMove)) {
                 currentValue = currentPlayer.getAlliance().isWhite() ?
-                                                                       min(moveTransition.getTransitionBoard(),
-                                                                           this.searchDepth - 1) :
-                                                                       max(moveTransition.getTransitionBoard(),
-                                                                           this.searchDepth - 1);
+                                                                       min(searchBoard, depth - 1) :
+                                                                       max(searchBoard, depth - 1);
+                searchBoard.unmakeMove(searchMove);
+                if (this.stopped) {
+                    break;
+                }
                 if (currentPlayer.getAlliance().isWhite() && currentValue >= highestSeenValue) {
                     highestSeenValue = currentValue;
                     bestMove = move;
@@ -67,9 +109,64 @@ public class MiniMax implements MoveStrategy {
             }
         }
 
-        final long executionTime = System.currentTimeMillis() - startTime;
+        int score = currentPlayer.getAlliance().isWhite() ? highestSeenValue : lowestSeenValue;
+        if (bestMove == null && this.stopped) {
+            // A search stopped before it finished its first root move still has to play a legal move
+            bestMove = findFirstLegalMove(currentPlayer);
+            score = this.boardEvaluator.evaluateMove(searchBoard, 0);
+        } else if (bestMove == null) {
+            score = this.boardEvaluator.evaluateMove(searchBoard, depth);
+        }
+        final SearchResult searchResult = new SearchResult(bestMove,
+                                                           score,
+                                                           bestMove == null ? List.of() : List.of(bestMove),
+                                                           depth,
+                                                           this.boardsEvaluated,
+                                                           System.currentTimeMillis() - startTime);
+
+        System.out.printf("%s selects %s [boards evaluated = %d, time taken = %d ms]\n",
+                          currentPlayer.toString(),
+                          bestMove,
+                          this.boardsEvaluated,
+                          searchResult.getElapsedMillis());
+
+        return searchResult;
+    }
+
+    /**
+     * Returns the first of the player's moves that does not leave the king in check, or null if there is none.
+     *
+     * @param player The player to move.
+     * @return The first of the player's moves that does not leave the king in check, or null if there is none.
+     */
+    private static Move findFirstLegalMove(final Player player) {
+        return Iterables.find(player.getLegalMoves(), move -> player.makeMove(move).getMoveStatus().isDone(), null);
+    }
+
+    /**
+     * Returns whether the search has reached its node limit or run past its deadline. The clock is only read every
+     * so often, so the search may run a little over.
+     *
+     * @return Whether the search has reached its node limit or run past its deadline.
+     */
+    private boolean shouldStop() {
+        if (this.maxNodes != NO_LIMIT && this.boardsEvaluated > this.maxNodes) {
+            this.stopped = true;
+        } else if ((this.boardsEvaluated & CLOCK_CHECK_MASK) == 0 && System.currentTimeMillis() >= this.deadline) {
+            this.stopped = true;
+        }
+
+        return this.stopped;
+    }
 
-        return bestMove;
+    /**
+     * Returns the number of boards visited during the last search.
+     *
+     * @return The number of boards visited during the last search.
+     */
+    @Override
+    public long getNumBoardsEvaluated() {
+        return this.boardsEvaluated;
     }
 
     /**
@@ -79,15 +176,27 @@ public class MiniMax implements MoveStrategy {
      * @param depth How many plies of moves to look at.
      * @return An as minimized score as possible based on the current player's legal moves per ply.
      */
-    public int min(final Board board, final int depth) {
-        if (depth == 0 || isEndGame(board)) {
+    public int min(final SearchBoard board, final int depth) {
+        this.boardsEvaluated++;
+        if (shouldStop()) {
+            return 0;
+        }
+        if (depth == 0) {
+            return quiesceMin(board, Integer.MIN_VALUE, Integer.MAX_VALUE);
+        }
+        if (isEndGame(board)) {
             return this.boardEvaluator.evaluateMove(board, depth);
         }
         int lowestSeenValue = Integer.MAX_VALUE;
-        for (final Move move : board.getCurrentPlayer().getLegalMoves()) {
-            final MoveTransition moveTransition = board.getCurrentPlayer().makeMove(move);
-            if (moveTransition.getMoveStatus().isDone()) {
-                final int currentValue = max(moveTransition.getTransitionBoard(), depth - 1);
+        final int[] moves = board.getMoveBuffer();
+        final int numMoves = board.generateMoves(moves);
+        for (int i = 0; i < numMoves; i++) {
+            if (board.makeMove(moves[i])) {
+                final int currentValue = max(board, depth - 1);
+                board.unmakeMove(moves[i]);
+                if (this.stopped) {
+                    return 0;
+                }
                 if (currentValue <= lowestSeenValue) {
                     lowestSeenValue = currentValue;
                 }
@@ -104,15 +213,27 @@ public class MiniMax implements MoveStrategy {
      * @param depth How many plies of moves to look at.
      * @return An as maximized score as possible based on the current player's legal moves per ply.
      */
-    public int max(final Board board, final int depth) {
-        if (depth == 0 || isEndGame(board)) {
+    public int max(final SearchBoard board, final int depth) {
+        this.boardsEvaluated++;
+        if (shouldStop()) {
+            return 0;
+        }
+        if (depth == 0) {
+            return quiesceMax(board, Integer.MIN_VALUE, Integer.MAX_VALUE);
+        }
+        if (isEndGame(board)) {
             return this.boardEvaluator.evaluateMove(board, depth);
         }
         int highestSeenValue = Integer.MIN_VALUE;
-        for (final Move move : board.getCurrentPlayer().getLegalMoves()) {
-            final MoveTransition moveTransition = board.getCurrentPlayer().makeMove(move);
-            if (moveTransition.getMoveStatus().isDone()) {
-                final int currentValue = min(moveTransition.getTransitionBoard(), depth - 1);
+        final int[] moves = board.getMoveBuffer();
+        final int numMoves = board.generateMoves(moves);
+        for (int i = 0; i < numMoves; i++) {
+            if (board.makeMove(moves[i])) {
+                final int currentValue = min(board, depth - 1);
+                board.unmakeMove(moves[i]);
+                if (this.stopped) {
+                    return 0;
+                }
                 if (currentValue >= highestSeenValue) {
                     highestSeenValue = currentValue;
                 }
@@ -123,14 +244,106 @@ public class MiniMax implements MoveStrategy {
     }
 
     /**
-     * Determines whether the game is over.
+     * Returns the score of a position at the end of the search for the minimizing player, once the captures and
+     * promotions have played out. The player may stand pat, i.e., take the board's score as it is, since they are
+     * never forced to capture, so only the captures that lower the score further are searched. A player in check
+     * cannot stand pat and searches every move instead. Unlike the rest of minimax, the captures are pruned with alpha
+     * and beta, which only skips captures that cannot change the score.
+     *
+     * @param board What the moves take place on.
+     * @param alpha The score the maximizing player is already guaranteed.
+     * @param beta  The score the minimizing player is already guaranteed.
+     * @return The score of the position once the captures and promotions have played out.
+     */
+    private int quiesceMin(final SearchBoard board, final int alpha, final int beta) {
+        this.boardsEvaluated++;
+        if (shouldStop()) {
+            return 0;
+        }
+        final boolean inCheck = board.isInCheck();
+        int lowestSeenValue = Integer.MAX_VALUE;
+        if (!inCheck || board.getPly() >= MAX_QUIESCENCE_PLY) {
+            lowestSeenValue = this.boardEvaluator.evaluateMove(board, 0);
+            if (lowestSeenValue <= alpha || board.getPly() >= MAX_QUIESCENCE_PLY) {
+                return lowestSeenValue;
+            }
+        }
+        final int[] moves = board.getMoveBuffer();
+        final int numMoves = inCheck ? board.generateMoves(moves) : board.generateCaptures(moves);
+        boolean hasLegalMove = false;
+        for (int i = 0; i < numMoves; i++) {
+            if (board.makeMove(moves[i])) {
+                hasLegalMove = true;
+                final int currentValue = quiesceMax(board, alpha, Math.min(beta, lowestSeenValue));
+                board.unmakeMove(moves[i]);
+                if (this.stopped) {
+                    return 0;
+                }
+                lowestSeenValue = Math.min(lowestSeenValue, currentValue);
+                if (lowestSeenValue <= alpha) {
+                    break;
+                }
+            }
+        }
+
+        return inCheck && !hasLegalMove ? this.boardEvaluator.evaluateMove(board, 0) : lowestSeenValue;
+    }
+
+    /**
+     * Returns the score of a position at the end of the search for the maximizing player, once the captures and
+     * promotions have played out. The player may stand pat, i.e., take the board's score as it is, since they are
+     * never forced to capture, so only the captures that raise the score further are searched. A player in check
+     * cannot stand pat and searches every move instead. Unlike the rest of minimax, the captures are pruned with alpha
+     * and beta, which only skips captures that cannot change the score.
+     *
+     * @param board What the moves take place on.
+     * @param alpha The score the maximizing player is already guaranteed.
+     * @param beta  The score the minimizing player is already guaranteed.
+     * @return The score of the position once the captures and promotions have played out.
+     */
+    private int quiesceMax(final SearchBoard board, final int alpha, final int beta) {
+        this.boardsEvaluated++;
+        if (shouldStop()) {
+            return 0;
+        }
+        final boolean inCheck = board.isInCheck();
+        int highestSeenValue = Integer.MIN_VALUE;
+        if (!inCheck || board.getPly() >= MAX_QUIESCENCE_PLY) {
+            highestSeenValue = this.boardEvaluator.evaluateMove(board, 0);
+            if (highestSeenValue >= beta || board.getPly() >= MAX_QUIESCENCE_PLY) {
+                return highestSeenValue;
+            }
+        }
+        final int[] moves = board.getMoveBuffer();
+        final int numMoves = inCheck ? board.generateMoves(moves) : board.generateCaptures(moves);
+        boolean hasLegalMove = false;
+        for (int i = 0; i < numMoves; i++) {
+            if (board.makeMove(moves[i])) {
+                hasLegalMove = true;
+                final int currentValue = quiesceMin(board, Math.max(alpha, highestSeenValue), beta);
+                board.unmakeMove(moves[i]);
+                if (this.stopped) {
+                    return 0;
+                }
+                highestSeenValue = Math.max(highestSeenValue, currentValue);
+                if (highestSeenValue >= beta) {
+                    break;
+                }
+            }
+        }
+
+        return inCheck && !hasLegalMove ? this.boardEvaluator.evaluateMove(board, 0) : highestSeenValue;
+    }
+
+    /**
+     * Determines whether the game is over. The board remembers the status, so the evaluator does not work it out
+     * again for a board that ends the game.
      *
      * @param board What the moves take place on.
      * @return Whether the game is over.
      */
-    private static boolean isEndGame(final Board board) {
-        return board.getCurrentPlayer().isInCheckmate() ||
-               board.getCurrentPlayer().isInStalemate();
+    private static boolean isEndGame(final SearchBoard board) {
+        return board.getGameStatus().isGameOver();
     }
 
     /**
@@ -18,4 +18,20 @@ public interface MoveStrategy {
      * @return A move based on the move strategy used.
      */
     Move execute(final Board board);
+
+    /**
+     * Returns the result of a search within the given limits.
+     *
+     * @param board        What the move will take place on.
+     * @param searchLimits The limits the search must stay within.
+     * @return The result of a search within the given limits.
+     */
+    SearchResult execute(final Board board, final SearchLimits searchLimits);
+
+    /**
+     * Returns the number of boards visited during the last search.
+     *
+     * @return The number of boards visited during the last search.
+     */
+    long getNumBoardsEvaluated();
 }
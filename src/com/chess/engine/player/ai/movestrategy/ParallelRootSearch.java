@@ -0,0 +1,280 @@
+package com.chess.engine.player.ai.movestrategy;
+
+import com.chess.engine.Alliance;
+import com.chess.engine.board.Board;
+import com.chess.engine.board.SearchBoard;
+import com.chess.engine.moves.Move;
+import com.chess.engine.moves.MoveTransition;
+import com.chess.engine.player.Player;
+import com.chess.engine.player.ai.boardevaluator.BoardEvaluator;
+import com.chess.engine.player.ai.boardevaluator.StandardBoardEvaluator;
+import com.chess.engine.player.ai.transposition.TranspositionTable;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static com.chess.engine.player.ai.movestrategy.SearchLimits.NO_LIMIT;
+
+/**
+ * Represents the minimax move strategy with the root moves searched in parallel. Every root move is its own task on a
+ * ForkJoinPool: the task makes the move on the shared board, which is immutable and therefore safe to read from any
+ * thread, and searches the subtree with alpha-beta pruning. Every worker thread keeps one search and search board,
+ * which its tasks set up again for their own root move rather than allocating new ones.
+ * <p>
+ * The subtrees are searched independently, except for the best root score found so far, which the tasks share through
+ * an atomic bound. A subtree that starts after a good root move has finished is searched with that score as its
+ * window, so it can prune as much as it would have in a sequential search. The tasks also share a transposition table.
+ * <p>
+ * Since the per-move work is spread over every worker, the strategy suits batch analysis, where the throughput of many
+ * shallow searches matters more than the latency of one deep search.
+ *
+ * @author Jamie Canada
+ * @since 10/27/25
+ */
+public class ParallelRootSearch implements MoveStrategy {
+    private final BoardEvaluator boardEvaluator;
+    private final ForkJoinPool pool;
+    private final TranspositionTable transpositionTable;
+    private final ThreadLocal<AlphaBeta> workerSearches;
+    private final ThreadLocal<SearchBoard> workerSearchBoards;
+    private final int searchDepth;
+    private long boardsEvaluated;
+
+    /**
+     * Creates a ParallelRootSearch object that runs its tasks on the common pool.
+     *
+     * @param searchDepth How many plies of moves to look at.
+     */
+    public ParallelRootSearch(final int searchDepth) {
+        this(searchDepth, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Creates a ParallelRootSearch object that runs its tasks on the given pool, whose parallelism decides how many
+     * root moves are searched at once.
+     *
+     * @param searchDepth How many plies of moves to look at.
+     * @param pool        Where the root moves are searched.
+     */
+    public ParallelRootSearch(final int searchDepth, final ForkJoinPool pool) {
+        this(searchDepth, pool, new TranspositionTable());
+    }
+
+    /**
+     * Creates a ParallelRootSearch object that runs its tasks on the given pool and shares the given transposition
+     * table between them.
+     *
+     * @param searchDepth        How many plies of moves to look at.
+     * @param pool               Where the root moves are searched.
+     * @param transpositionTable Where the results of searched positions are kept.
+     */
+    public ParallelRootSearch(final int searchDepth,
+                              final ForkJoinPool pool,
+                              final TranspositionTable transpositionTable) {
+        this.boardEvaluator = new StandardBoardEvaluator();
+        this.pool = pool;
+        this.transpositionTable = transpositionTable;
+        this.workerSearches = ThreadLocal.withInitial(() -> new AlphaBeta(searchDepth, transpositionTable));
+        this.workerSearchBoards = ThreadLocal.withInitial(() -> new SearchBoard(Board.createInitialBoard()));
+        this.searchDepth = searchDepth;
+    }
+
+    /**
+     * Returns a move based on the minimax algorithm, with the root moves searched in parallel.
+     *
+     * @param board What the move will take place on.
+     * @return A move based on the minimax algorithm, with the root moves searched in parallel.
+     */
+    @Override
+    public Move execute(final Board board) {
+        return execute(board, SearchLimits.depth(this.searchDepth)).getBestMove();
+    }
+
+    /**
+     * Returns the result of a search within the given limits, with the root moves searched in parallel. The search
+     * looks at a fixed depth, which is the depth of the limits or else the strategy's own depth. The node limit is
+     * shared out evenly between the root moves, and a root move whose search ran out of time or boards is left out.
+     * Of the equally scored root moves, the last one wins, as in MiniMax.
+     *
+     * @param board        What the move will take place on.
+     * @param searchLimits The limits the search must stay within.
+     * @return The result of a search within the given limits.
+     */
+    @Override
+    public SearchResult execute(final Board board, final SearchLimits searchLimits) {
+        final long startTime = System.currentTimeMillis();
+        final int depth = searchLimits.getDepth() == NO_LIMIT && !searchLimits.isMateSearch() ?
+                          this.searchDepth :
+                          searchLimits.getMaxDepth();
+
+        System.out.printf("%s is thinking at a depth of %d on %d threads ...\n",
+                          board.getCurrentPlayer().toString(),
+                          depth,
+                          this.pool.getParallelism());
+
+        final Player currentPlayer = board.getCurrentPlayer();
+        final Alliance alliance = currentPlayer.getAlliance();
+        final List<Move> rootMoves = new ArrayList<>(currentPlayer.getLegalMoves());
+        final long deadline = searchLimits.getDeadline(startTime);
+        final long maxNodes = searchLimits.getMaxNodes() == NO_LIMIT ?
+                              NO_LIMIT :
+                              Math.max(searchLimits.getMaxNodes() / Math.max(rootMoves.size(), 1), 1);
+        final AtomicInteger bestRootScore = new AtomicInteger(alliance.isWhite() ? Integer.MIN_VALUE :
+                                                                                   Integer.MAX_VALUE);
+        final AtomicLong totalBoardsEvaluated = new AtomicLong();
+        this.transpositionTable.newSearch();
+        this.transpositionTable.resetCounters();
+
+        final List<Callable<Integer>> tasks = new ArrayList<>(rootMoves.size());
+        for (final Move move : rootMoves) {
+            tasks.add(() -> searchRootMove(currentPlayer.makeMove(move),
+                                           alliance,
+                                           depth,
+                                           deadline,
+                                           maxNodes,
+                                           bestRootScore,
+                                           totalBoardsEvaluated));
+        }
+        final List<Future<Integer>> rootScores = this.pool.invokeAll(tasks);
+
+        Move bestMove = null;
+        int score = alliance.isWhite() ? Integer.MIN_VALUE : Integer.MAX_VALUE;
+        for (int i = 0; i < rootMoves.size(); i++) {
+            final Integer rootScore = getRootScore(rootScores.get(i));
+            if (rootScore != null && (alliance.isWhite() ? rootScore >= score : rootScore <= score)) {
+                score = rootScore;
+                bestMove = rootMoves.get(i);
+            }
+        }
+        this.boardsEvaluated = totalBoardsEvaluated.get();
+
+        final SearchBoard searchBoard = this.workerSearchBoards.get();
+        searchBoard.setPosition(board);
+        final AlphaBeta alphaBeta = this.workerSearches.get();
+        if (bestMove == null) {
+            // Either the player has no legal moves, or no root move finished within the limits
+            bestMove = AlphaBeta.findFirstLegalMove(currentPlayer);
+            score = this.boardEvaluator.evaluateMove(searchBoard, bestMove == null ? depth : 0);
+        }
+        final SearchResult searchResult = new SearchResult(bestMove,
+                                                           score,
+                                                           alphaBeta.getPrincipalVariation(board,
+                                                                                           searchBoard,
+                                                                                           bestMove,
+                                                                                           depth),
+                                                           depth,
+                                                           this.boardsEvaluated,
+                                                           System.currentTimeMillis() - startTime);
+
+        System.out.printf("%s selects %s [boards evaluated = %d, time taken = %d ms]\n",
+                          currentPlayer.toString(),
+                          bestMove,
+                          this.boardsEvaluated,
+                          searchResult.getElapsedMillis());
+
+        return searchResult;
+    }
+
+    /**
+     * Returns the score of a root move after searching its subtree, or null if the move leaves the king in check or
+     * its search stopped at the deadline or node limit. The subtree's window starts at the best root score found so
+     * far, widened by one so that a tie with it is scored exactly, and a better score is shared with the other tasks.
+     *
+     * @param moveTransition       The transition of the root move.
+     * @param alliance             The alliance of the player to move at the root.
+     * @param depth                How many plies of moves to look at from the root.
+     * @param deadline             The time in milliseconds at which the search stops.
+     * @param maxNodes             The most boards the subtree's search may visit, or SearchLimits.NO_LIMIT.
+     * @param bestRootScore        The best root score found so far by any task.
+     * @param totalBoardsEvaluated The number of boards visited by every task.
+     * @return The score of the root move, or null if it has none.
+     */
+    private Integer searchRootMove(final MoveTransition moveTransition,
+                                   final Alliance alliance,
+                                   final int depth,
+                                   final long deadline,
+                                   final long maxNodes,
+                                   final AtomicInteger bestRootScore,
+                                   final AtomicLong totalBoardsEvaluated) {
+        if (!moveTransition.getMoveStatus().isDone()) {
+            return null;
+        }
+        final SearchBoard searchBoard = this.workerSearchBoards.get();
+        searchBoard.setPosition(moveTransition.getTransitionBoard());
+        final AlphaBeta alphaBeta = this.workerSearches.get();
+        alphaBeta.newSubtreeSearch(deadline, maxNodes);
+
+        final int bound = bestRootScore.get();
+        final int score;
+        if (alliance.isWhite()) {
+            score = alphaBeta.min(searchBoard,
+                                  depth - 1,
+                                  bound == Integer.MIN_VALUE ? bound : bound - 1,
+                                  Integer.MAX_VALUE);
+        } else {
+            score = alphaBeta.max(searchBoard,
+                                  depth - 1,
+                                  Integer.MIN_VALUE,
+                                  bound == Integer.MAX_VALUE ? bound : bound + 1);
+        }
+        totalBoardsEvaluated.addAndGet(alphaBeta.getNumBoardsEvaluated());
+        if (alphaBeta.isStopped()) {
+            return null;
+        }
+        bestRootScore.accumulateAndGet(score, alliance.isWhite() ? Math::max : Math::min);
+
+        return score;
+    }
+
+    /**
+     * Returns the score of a finished root move task, or null if it has none.
+     *
+     * @param rootScore The finished task.
+     * @return The score of the finished root move task, or null if it has none.
+     */
+    private static Integer getRootScore(final Future<Integer> rootScore) {
+        try {
+            return rootScore.get();
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        } catch (final ExecutionException e) {
+            throw new RuntimeException(e.getCause());
+        }
+    }
+
+    /**
+     * Returns the transposition table the tasks share.
+     *
+     * @return The transposition table the tasks share.
+     */
+    public TranspositionTable getTranspositionTable() {
+        return this.transpositionTable;
+    }
+
+    /**
+     * Returns the number of boards visited by every task during the last search.
+     *
+     * @return The number of boards visited by every task during the last search.
+     */
+    @Override
+    public long getNumBoardsEvaluated() {
+        return this.boardsEvaluated;
+    }
+
+    /**
+     * Returns the String representation of the parallel root move strategy.
+     *
+     * @return The String representation of the parallel root move strategy.
+     */
+    @Override
+    public String toString() {
+        return "ParallelRootSearch";
+    }
+}
@@ -0,0 +1,695 @@
+package com.chess.engine.player.ai.movestrategy;
+
+import com.chess.engine.board.Board;
+import com.chess.engine.board.SearchBoard;
+import com.chess.engine.moves.Move;
+import com.chess.engine.player.Player;
+import com.chess.engine.player.ai.boardevaluator.BoardEvaluator;
+import com.chess.engine.player.ai.boardevaluator.StandardBoardEvaluator;
+import com.chess.engine.player.ai.moveordering.MoveOrderer;
+import com.chess.engine.player.ai.transposition.TranspositionTable;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.chess.engine.player.ai.movestrategy.SearchLimits.NO_LIMIT;
+import static com.chess.engine.player.ai.transposition.TranspositionTable.*;
+
+/**
+ * Represents the negamax move strategy with principal variation search. Negamax scores every position for the player
+ * making a move, so the score of a move is the negated score of the position after it, and one method searches for
+ * both players instead of a min and a max that mirror each other.
+ * <p>
+ * Once the moves are well ordered, the first move of a position is usually its best. The first move is therefore
+ * searched with the full window, and every other move with a null window (i.e., alpha and alpha + 1) that only proves
+ * the move is no better. A move that fails high on the null window is better after all and is searched again with
+ * the full window.
+ * <p>
+ * The best line of every ply is kept in a triangular table: the line of a ply is its best move followed by the line of
+ * the ply after it, so the line of the root is the whole principal variation once the search is done. Like AlphaBeta,
+ * the search orders its moves with a move orderer, ends in a quiescence search, and keeps its results in a
+ * transposition table, whose scores stay from white's point of view so that the table can be shared with the other
+ * strategies.
+ * <p>
+ * A null window is also where the search may prune. With null-move pruning, the player making a move first passes
+ * the move to the opponent and searches the position a few plies shallower: if the score still reaches beta, a real
+ * move almost certainly would too, and the position is cut off without searching its moves. A pass is never tried in
+ * check, where it would be illegal, nor without a piece other than pawns and the king, where passing may be the best
+ * move (zugzwang), nor right after another pass.
+ * <p>
+ * Near the end of the search, the board evaluator's futility margin bounds how far quiet moves can still move the
+ * score. A null-window position whose score is above beta by more than the margin is cut off (reverse futility
+ * pruning), and the quiet moves of a position whose score is below alpha by more than the margin are skipped
+ * (futility pruning). Further from the end, the quiet moves that come late in the move order are searched a little
+ * shallower (late move reductions), and searched again at the full depth if they turn out to raise alpha. None of
+ * these are tried in check, and a move that captures, promotes, or checks is never pruned or reduced. In the
+ * quiescence search, the captures that the static exchange evaluation says lose material are skipped, unless the
+ * player is in check. The pruning is set with PruningSettings.
+ *
+ * @author Jamie Canada
+ * @since 10/28/25
+ */
+public class PrincipalVariationSearch implements MoveStrategy {
+    // The widest window, which is symmetric so that it can be negated
+    private static final int INFINITY = Integer.MAX_VALUE;
+
+    // The clock is only looked at once every 1024 boards, since reading it costs more than evaluating a board
+    private static final int CLOCK_CHECK_MASK = 1023;
+
+    // A quiescence search stands pat this close to the end of the search board's stacks
+    private static final int MAX_QUIESCENCE_PLY = SearchBoard.MAX_PLY - 1;
+
+    private final BoardEvaluator boardEvaluator;
+    private final TranspositionTable transpositionTable;
+    private final MoveOrderer moveOrderer;
+    private final PruningSettings pruningSettings;
+    private final int searchDepth;
+    private final int[][] principalVariations;
+    private final int[] principalVariationLengths;
+    private int bestRootScore;
+    private long boardsEvaluated;
+    private long researches;
+    private long nullMoveSearches;
+    private long nullMoveCutoffs;
+    private long reverseFutilityPrunes;
+    private long futilityPrunes;
+    private long lateMoveReductions;
+    private long lateMoveResearches;
+    private long losingCapturePrunes;
+    private long deadline;
+    private long maxNodes;
+    private boolean stopped;
+
+    /**
+     * Creates a PrincipalVariationSearch object with an initialized board evaluator and its own transposition table.
+     *
+     * @param searchDepth How many plies of moves to look at.
+     */
+    public PrincipalVariationSearch(final int searchDepth) {
+        this(searchDepth, new TranspositionTable());
+    }
+
+    /**
+     * Creates a PrincipalVariationSearch object with an initialized board evaluator that shares the given
+     * transposition table, so that the results of earlier searches can be reused.
+     *
+     * @param searchDepth        How many plies of moves to look at.
+     * @param transpositionTable Where the results of searched positions are kept.
+     */
+    public PrincipalVariationSearch(final int searchDepth, final TranspositionTable transpositionTable) {
+        this(searchDepth, transpositionTable, PruningSettings.defaults());
+    }
+
+    /**
+     * Creates a PrincipalVariationSearch object with an initialized board evaluator that shares the given
+     * transposition table and prunes with the given settings.
+     *
+     * @param searchDepth        How many plies of moves to look at.
+     * @param transpositionTable Where the results of searched positions are kept.
+     * @param pruningSettings    How the search may prune positions.
+     */
+    public PrincipalVariationSearch(final int searchDepth,
+                                    final TranspositionTable transpositionTable,
+                                    final PruningSettings pruningSettings) {
+        this.boardEvaluator = new StandardBoardEvaluator();
+        this.transpositionTable = transpositionTable;
+        this.moveOrderer = new MoveOrderer();
+        this.pruningSettings = pruningSettings;
+        this.searchDepth = searchDepth;
+        this.principalVariations = new int[SearchBoard.MAX_PLY][SearchBoard.MAX_PLY];
+        this.principalVariationLengths = new int[SearchBoard.MAX_PLY];
+    }
+
+    /**
+     * Returns a move based on the negamax algorithm with principal variation search.
+     *
+     * @param board What the move will take place on.
+     * @return A move based on the negamax algorithm with principal variation search.
+     */
+    @Override
+    public Move execute(final Board board) {
+        return execute(board, SearchLimits.depth(this.searchDepth)).getBestMove();
+    }
+
+    /**
+     * Returns the result of a principal variation search within the given limits. The search looks at a fixed depth,
+     * which is the depth of the limits or else the strategy's own depth. If the search runs out of time or boards,
+     * the line of the best root move searched so far is returned.
+     *
+     * @param board        What the move will take place on.
+     * @param searchLimits The limits the search must stay within.
+     * @return The result of a principal variation search within the given limits.
+     */
+    @Override
+    public SearchResult execute(final Board board, final SearchLimits searchLimits) {
+        final long startTime = System.currentTimeMillis();
+        final int depth = searchLimits.getDepth() == NO_LIMIT && !searchLimits.isMateSearch() ?
+                          this.searchDepth :
+                          searchLimits.getMaxDepth();
+
+        System.out.printf("%s is thinking at a depth of %d ...\n",
+                          board.getCurrentPlayer().toString(),
+                          depth);
+
+        final Player currentPlayer = board.getCurrentPlayer();
+        final SearchBoard searchBoard = new SearchBoard(board);
+        this.boardsEvaluated = 0;
+        this.researches = 0;
+        this.nullMoveSearches = 0;
+        this.nullMoveCutoffs = 0;
+        this.reverseFutilityPrunes = 0;
+        this.futilityPrunes = 0;
+        this.lateMoveReductions = 0;
+        this.lateMoveResearches = 0;
+        this.losingCapturePrunes = 0;
+        this.deadline = searchLimits.getDeadline(startTime);
+        this.maxNodes = searchLimits.getMaxNodes();
+        this.stopped = false;
+        this.transpositionTable.newSearch();
+        this.transpositionTable.resetCounters();
+        this.moveOrderer.newSearch();
+        this.moveOrderer.resetCounters();
+
+        final int rootScore = search(searchBoard, depth, -INFINITY, INFINITY, false);
+        List<Move> principalVariation = getPrincipalVariation(board, searchBoard);
+        Move bestMove = principalVariation.isEmpty() ? null : principalVariation.get(0);
+        // A stopped search returns no score of its own, but the best root move it finished still has one
+        int score = getSign(searchBoard) * (bestMove == null ? rootScore : this.bestRootScore);
+        if (bestMove == null && this.stopped) {
+            // A search stopped before it finished its first root move still has to play a legal move
+            bestMove = AlphaBeta.findFirstLegalMove(currentPlayer);
+            score = this.boardEvaluator.evaluateMove(searchBoard, 0);
+            principalVariation = bestMove == null ? List.of() : List.of(bestMove);
+        }
+        final SearchResult searchResult = new SearchResult(bestMove,
+                                                           score,
+                                                           principalVariation,
+                                                           depth,
+                                                           this.boardsEvaluated,
+                                                           System.currentTimeMillis() - startTime);
+
+        System.out.printf("%s selects %s [boards evaluated = %d, re-searches = %d, time taken = %d ms, pv = %s]\n",
+                          currentPlayer.toString(),
+                          bestMove,
+                          this.boardsEvaluated,
+                          this.researches,
+                          searchResult.getElapsedMillis(),
+                          principalVariation);
+
+        return searchResult;
+    }
+
+    /**
+     * Returns the moves of the root's line in the triangular table, followed on the board.
+     *
+     * @param board       What the first move of the line takes place on.
+     * @param searchBoard The search's board, which is on the root position and is left there.
+     * @return The moves of the root's line.
+     */
+    private List<Move> getPrincipalVariation(final Board board, final SearchBoard searchBoard) {
+        final List<Move> principalVariation = new ArrayList<>();
+        final int length = this.principalVariationLengths[0];
+        Board currentBoard = board;
+        for (int i = 0; i < length; i++) {
+            final int searchMove = this.principalVariations[0][i];
+            final Move move = AlphaBeta.findMove(currentBoard, searchBoard, SearchBoard.getMoveKey(searchMove));
+            if (move == null || !searchBoard.makeMove(searchMove)) {
+                break;
+            }
+            principalVariation.add(move);
+            currentBoard = move.execute();
+        }
+        for (int i = principalVariation.size() - 1; i >= 0; i--) {
+            searchBoard.unmakeMove(this.principalVariations[0][i]);
+        }
+
+        return principalVariation;
+    }
+
+    /**
+     * Returns the score of the position for the player making a move, after searching its moves to the given depth.
+     * The line of the ply is written to the triangular table whenever a move raises alpha.
+     *
+     * @param board           What the moves take place on.
+     * @param depth           How many plies of moves to look at.
+     * @param alpha           The score the player making a move is already guaranteed.
+     * @param beta            The score the opponent is already guaranteed, negated.
+     * @param nullMoveAllowed Whether the player making a move may pass, which is not the case right after a pass.
+     * @return The score of the position for the player making a move.
+     */
+    private int search(final SearchBoard board,
+                       final int depth,
+                       int alpha,
+                       final int beta,
+                       final boolean nullMoveAllowed) {
+        final int ply = board.getPly();
+        this.principalVariationLengths[ply] = 0;
+        this.boardsEvaluated++;
+        if (shouldStop()) {
+            return 0;
+        }
+        if (depth == 0) {
+            return quiesce(board, alpha, beta);
+        }
+        final int sign = getSign(board);
+        final long entry = this.transpositionTable.probe(board.getZobristKey());
+        // A hit in a node of the principal variation would cut its line short, so only the null windows use the table
+        if (beta - alpha == 1 && isUsableEntry(entry, depth, alpha, beta, sign)) {
+            return sign * getScore(entry);
+        }
+        if (board.getGameStatus().isGameOver()) {
+            return sign * this.boardEvaluator.evaluateMove(board, depth);
+        }
+        final boolean inCheck = board.isInCheck();
+        int staticScore = 0;
+        boolean futile = false;
+        if (!inCheck && isNearLeaf(depth)) {
+            staticScore = sign * this.boardEvaluator.evaluateMove(board, 0);
+            if (beta - alpha == 1 && canPruneReverseFutility(depth, staticScore, beta)) {
+                this.reverseFutilityPrunes++;
+                return staticScore - this.pruningSettings.getFutilityMargin(depth);
+            }
+            futile = depth <= this.pruningSettings.getFutilityDepth() &&
+                     !StandardBoardEvaluator.isCheckmateScore(alpha) &&
+                     staticScore + this.pruningSettings.getFutilityMargin(depth) <= alpha;
+        }
+        if (nullMoveAllowed && beta - alpha == 1 && !inCheck && canPruneNullMove(board, depth)) {
+            final int score = searchNullMove(board, depth, beta);
+            if (this.stopped) {
+                return 0;
+            }
+            if (score >= beta) {
+                this.nullMoveCutoffs++;
+                // A checkmate found after a pass is not a checkmate the player can force, so it is not passed on
+                return StandardBoardEvaluator.isCheckmateScore(score) ? beta : score;
+            }
+        }
+        final int originalAlpha = alpha;
+        int bestScore = -INFINITY, bestMove = SearchBoard.NO_MOVE;
+        final int[] moves = board.getMoveBuffer();
+        final int numMoves = board.generateMoves(moves);
+        this.moveOrderer.scoreMoves(board, moves, numMoves, getMove(entry));
+        int numMovesSearched = 0;
+        for (int i = 0; i < numMoves; i++) {
+            final int move = this.moveOrderer.selectMove(board, moves, numMoves, i);
+            if (!board.makeMove(move)) {
+                continue;
+            }
+            numMovesSearched++;
+            final boolean isQuiet = !SearchBoard.isCapture(move) &&
+                                    !SearchBoard.isPromotion(move) &&
+                                    !board.isInCheck();
+            // The first move is always searched, so that a position with legal moves never goes without a score
+            if (futile && isQuiet && numMovesSearched > 1) {
+                board.unmakeMove(move);
+                this.futilityPrunes++;
+                bestScore = Math.max(bestScore, staticScore + this.pruningSettings.getFutilityMargin(depth));
+                continue;
+            }
+            int score;
+            if (numMovesSearched == 1) {
+                score = -search(board, depth - 1, -beta, -alpha, true);
+            } else {
+                final int reduction = inCheck || !isQuiet ? 0 : getLateMoveReduction(depth, numMovesSearched);
+                score = -search(board, depth - 1 - reduction, -alpha - 1, -alpha, true);
+                if (reduction > 0 && score > alpha) {
+                    this.lateMoveResearches++;
+                    score = -search(board, depth - 1, -alpha - 1, -alpha, true);
+                }
+                if (score > alpha && score < beta) {
+                    this.researches++;
+                    score = -search(board, depth - 1, -beta, -alpha, true);
+                }
+            }
+            board.unmakeMove(move);
+            // The score of a stopped search is thrown away, so it is not worth storing either
+            if (this.stopped) {
+                return 0;
+            }
+            if (score > bestScore) {
+                bestScore = score;
+                bestMove = move;
+                if (score > alpha) {
+                    alpha = score;
+                    updatePrincipalVariation(ply, move);
+                    if (ply == 0) {
+                        this.bestRootScore = score;
+                    }
+                }
+            }
+            if (alpha >= beta) {
+                this.moveOrderer.recordCutoff(board, move, depth, numMovesSearched);
+                break;
+            }
+        }
+        storeEntry(board, bestMove, bestScore, depth, originalAlpha, beta, sign);
+
+        return bestScore;
+    }
+
+    /**
+     * Returns whether the position is close enough to the end of the search for either kind of futility pruning, and
+     * so whether its static score is needed.
+     *
+     * @param depth How many plies of moves to look at.
+     * @return Whether the position is close enough to the end of the search for either kind of futility pruning.
+     */
+    private boolean isNearLeaf(final int depth) {
+        return depth <= Math.max(this.pruningSettings.getFutilityDepth(),
+                                 this.pruningSettings.getReverseFutilityDepth());
+    }
+
+    /**
+     * Returns whether the position's static score stays above beta even after the futility margin of the plies left
+     * is taken off. A checkmate is never that far ahead of a static score, so a beta that is a checkmate is left to
+     * the search.
+     *
+     * @param depth       How many plies of moves to look at.
+     * @param staticScore The score of the position for the player making a move, before any move is searched.
+     * @param beta        The score the opponent is already guaranteed, negated.
+     * @return Whether the position's static score stays above beta after the futility margin is taken off.
+     */
+    private boolean canPruneReverseFutility(final int depth, final int staticScore, final int beta) {
+        return depth <= this.pruningSettings.getReverseFutilityDepth() &&
+               !StandardBoardEvaluator.isCheckmateScore(beta) &&
+               staticScore - this.pruningSettings.getFutilityMargin(depth) >= beta;
+    }
+
+    /**
+     * Returns how many plies shallower a quiet move is searched, which is 0 for the moves that come before the late
+     * ones and for the positions too close to the end of the search. A reduced search always keeps at least a ply.
+     *
+     * @param depth            How many plies of moves to look at.
+     * @param numMovesSearched How many moves of the position have been searched, counting this one.
+     * @return How many plies shallower the quiet move is searched.
+     */
+    private int getLateMoveReduction(final int depth, final int numMovesSearched) {
+        if (depth < this.pruningSettings.getLateMoveMinDepth() ||
+            numMovesSearched <= this.pruningSettings.getLateMoveMinMoves()) {
+            return 0;
+        }
+        final int reduction = Math.max(0, Math.min(this.pruningSettings.getLateMoveReduction(), depth - 2));
+        if (reduction > 0) {
+            this.lateMoveReductions++;
+        }
+
+        return reduction;
+    }
+
+    /**
+     * Returns whether the player making a move may pass to prune the position. The search after the pass must still
+     * have a ply left, and a pass is only trusted when zugzwang is unlikely. The player must not be in check.
+     *
+     * @param board What the moves take place on.
+     * @param depth How many plies of moves to look at.
+     * @return Whether the player making a move may pass to prune the position.
+     */
+    private boolean canPruneNullMove(final SearchBoard board, final int depth) {
+        return this.pruningSettings.isNullMovePruning() &&
+               depth > this.pruningSettings.getNullMoveReduction() &&
+               board.hasNonPawnMaterial();
+    }
+
+    /**
+     * Returns the score of the position for the player making a move after they pass, searched with a null window
+     * around beta at a reduced depth.
+     *
+     * @param board What the moves take place on.
+     * @param depth How many plies of moves to look at.
+     * @param beta  The score the opponent is already guaranteed, negated.
+     * @return The score of the position for the player making a move after they pass.
+     */
+    private int searchNullMove(final SearchBoard board, final int depth, final int beta) {
+        this.nullMoveSearches++;
+        final int reducedDepth = depth - 1 - this.pruningSettings.getNullMoveReduction();
+        board.makeNullMove();
+        final int score = -search(board, reducedDepth, -beta, -beta + 1, false);
+        board.unmakeNullMove();
+
+        return score;
+    }
+
+    /**
+     * Returns the score of a position at the end of the search for the player making a move, once the captures and
+     * promotions have played out. As in AlphaBeta, the player may stand pat unless they are in check, in which case
+     * every move is searched instead.
+     *
+     * @param board What the moves take place on.
+     * @param alpha The score the player making a move is already guaranteed.
+     * @param beta  The score the opponent is already guaranteed, negated.
+     * @return The score of the position once the captures and promotions have played out.
+     */
+    private int quiesce(final SearchBoard board, int alpha, final int beta) {
+        this.boardsEvaluated++;
+        if (shouldStop()) {
+            return 0;
+        }
+        final int sign = getSign(board);
+        final boolean inCheck = board.isInCheck();
+        int bestScore = -INFINITY;
+        if (!inCheck || board.getPly() >= MAX_QUIESCENCE_PLY) {
+            bestScore = sign * this.boardEvaluator.evaluateMove(board, 0);
+            if (bestScore >= beta || board.getPly() >= MAX_QUIESCENCE_PLY) {
+                return bestScore;
+            }
+            alpha = Math.max(alpha, bestScore);
+        }
+        final int[] moves = board.getMoveBuffer();
+        final int numMoves = inCheck ? board.generateMoves(moves) : board.generateCaptures(moves);
+        this.moveOrderer.scoreCaptures(board, moves, numMoves);
+        boolean hasLegalMove = false;
+        for (int i = 0; i < numMoves; i++) {
+            final int move = this.moveOrderer.selectMove(board, moves, numMoves, i);
+            // The losing captures are ordered last, so the first one leaves nothing but losing captures to search
+            if (!inCheck &&
+                this.pruningSettings.isLosingCapturePruning() &&
+                this.moveOrderer.isLosingCapture(board.getPly(), i)) {
+                this.losingCapturePrunes += numMoves - i;
+                break;
+            }
+            if (board.makeMove(move)) {
+                hasLegalMove = true;
+                final int score = -quiesce(board, -beta, -alpha);
+                board.unmakeMove(move);
+                if (this.stopped) {
+                    return 0;
+                }
+                bestScore = Math.max(bestScore, score);
+                alpha = Math.max(alpha, score);
+                if (alpha >= beta) {
+                    break;
+                }
+            }
+        }
+
+        return inCheck && !hasLegalMove ? sign * this.boardEvaluator.evaluateMove(board, 0) : bestScore;
+    }
+
+    /**
+     * Makes the move followed by the line of the next ply the line of the given ply.
+     *
+     * @param ply  The ply whose line to update.
+     * @param move The best encoded move of the ply.
+     */
+    private void updatePrincipalVariation(final int ply, final int move) {
+        final int[] line = this.principalVariations[ply];
+        line[0] = move;
+        if (ply + 1 >= SearchBoard.MAX_PLY) {
+            this.principalVariationLengths[ply] = 1;
+            return;
+        }
+        final int nextLength = this.principalVariationLengths[ply + 1];
+        System.arraycopy(this.principalVariations[ply + 1], 0, line, 1, nextLength);
+        this.principalVariationLengths[ply] = nextLength + 1;
+    }
+
+    /**
+     * Returns 1 if white is making a move and -1 otherwise, which turns a score from white's point of view into a
+     * score for the player making a move and back.
+     *
+     * @param board What the moves take place on.
+     * @return 1 if white is making a move and -1 otherwise.
+     */
+    private static int getSign(final SearchBoard board) {
+        return board.getCurrentAlliance().isWhite() ? 1 : -1;
+    }
+
+    /**
+     * Returns whether the entry's score can be returned without searching the position. The entry keeps its score
+     * and bound from white's point of view, so a lower bound for white is an upper bound for black. As in AlphaBeta,
+     * a checkmate score is only taken from an entry exactly as deep as the search.
+     *
+     * @param entry The data of the position's entry, or NO_ENTRY.
+     * @param depth How many plies of moves to look at.
+     * @param alpha The score the player making a move is already guaranteed.
+     * @param beta  The score the opponent is already guaranteed, negated.
+     * @param sign  1 if white is making a move and -1 otherwise.
+     * @return Whether the entry's score can be returned without searching the position.
+     */
+    private static boolean isUsableEntry(final long entry,
+                                         final int depth,
+                                         final int alpha,
+                                         final int beta,
+                                         final int sign) {
+        if (entry == NO_ENTRY || getDepth(entry) < depth) {
+            return false;
+        }
+        final int score = sign * getScore(entry);
+        if (StandardBoardEvaluator.isCheckmateScore(score) && getDepth(entry) != depth) {
+            return false;
+        }
+
+        return switch (flipBound(getBound(entry), sign)) {
+            case EXACT_BOUND -> true;
+            case LOWER_BOUND -> score >= beta;
+            case UPPER_BOUND -> score <= alpha;
+            default -> false;
+        };
+    }
+
+    /**
+     * Stores the position's score in the transposition table from white's point of view.
+     *
+     * @param board    What the moves take place on.
+     * @param bestMove The best encoded move found in the position.
+     * @param score    The score of the position for the player making a move.
+     * @param depth    How many plies of moves were looked at.
+     * @param alpha    The score the player making a move was already guaranteed.
+     * @param beta     The score the opponent was already guaranteed, negated.
+     * @param sign     1 if white is making a move and -1 otherwise.
+     */
+    private void storeEntry(final SearchBoard board,
+                            final int bestMove,
+                            final int score,
+                            final int depth,
+                            final int alpha,
+                            final int beta,
+                            final int sign) {
+        final int bound = score <= alpha ? UPPER_BOUND : score >= beta ? LOWER_BOUND : EXACT_BOUND;
+        this.transpositionTable.store(board.getZobristKey(), bestMove, sign * score, depth, flipBound(bound, sign));
+    }
+
+    /**
+     * Returns the bound as seen by the other player when black is making a move, and the bound itself otherwise.
+     *
+     * @param bound The bound of a score.
+     * @param sign  1 if white is making a move and -1 otherwise.
+     * @return The bound as seen by white.
+     */
+    private static int flipBound(final int bound, final int sign) {
+        if (sign > 0 || bound == EXACT_BOUND) {
+            return bound;
+        }
+
+        return bound == LOWER_BOUND ? UPPER_BOUND : LOWER_BOUND;
+    }
+
+    /**
+     * Returns whether the search has reached its node limit or run past its deadline. The clock is only read every so
+     * often, so the search may run a little over.
+     *
+     * @return Whether the search has reached its node limit or run past its deadline.
+     */
+    private boolean shouldStop() {
+        if (this.maxNodes != NO_LIMIT && this.boardsEvaluated > this.maxNodes) {
+            this.stopped = true;
+        } else if ((this.boardsEvaluated & CLOCK_CHECK_MASK) == 0 && System.currentTimeMillis() >= this.deadline) {
+            this.stopped = true;
+        }
+
+        return this.stopped;
+    }
+
+    /**
+     * Returns the number of boards visited during the last search.
+     *
+     * @return The number of boards visited during the last search.
+     */
+    @Override
+    public long getNumBoardsEvaluated() {
+        return this.boardsEvaluated;
+    }
+
+    /**
+     * Returns how many moves failed high on their null window during the last search and were searched again.
+     *
+     * @return How many moves were searched again during the last search.
+     */
+    public long getNumResearches() {
+        return this.researches;
+    }
+
+    /**
+     * Returns how many times the search passed to try null-move pruning during the last search.
+     *
+     * @return How many times the search passed during the last search.
+     */
+    public long getNumNullMoveSearches() {
+        return this.nullMoveSearches;
+    }
+
+    /**
+     * Returns how many positions were cut off by null-move pruning during the last search.
+     *
+     * @return How many positions were cut off by null-move pruning during the last search.
+     */
+    public long getNumNullMoveCutoffs() {
+        return this.nullMoveCutoffs;
+    }
+
+    /**
+     * Returns how many positions were cut off by reverse futility pruning during the last search.
+     *
+     * @return How many positions were cut off by reverse futility pruning during the last search.
+     */
+    public long getNumReverseFutilityPrunes() {
+        return this.reverseFutilityPrunes;
+    }
+
+    /**
+     * Returns how many quiet moves were skipped by futility pruning during the last search.
+     *
+     * @return How many quiet moves were skipped by futility pruning during the last search.
+     */
+    public long getNumFutilityPrunes() {
+        return this.futilityPrunes;
+    }
+
+    /**
+     * Returns how many late quiet moves were searched shallower during the last search.
+     *
+     * @return How many late quiet moves were searched shallower during the last search.
+     */
+    public long getNumLateMoveReductions() {
+        return this.lateMoveReductions;
+    }
+
+    /**
+     * Returns how many late quiet moves raised alpha at the reduced depth and were searched again at the full depth
+     * during the last search.
+     *
+     * @return How many reduced moves were searched again during the last search.
+     */
+    public long getNumLateMoveResearches() {
+        return this.lateMoveResearches;
+    }
+
+    /**
+     * Returns how many losing captures the quiescence search skipped during the last search.
+     *
+     * @return How many losing captures the quiescence search skipped during the last search.
+     */
+    public long getNumLosingCapturePrunes() {
+        return this.losingCapturePrunes;
+    }
+
+    /**
+     * Returns the String representation of the principal variation search move strategy.
+     *
+     * @return The String representation of the principal variation search move strategy.
+     */
+    @Override
+    public String toString() {
+        return "PrincipalVariationSearch";
+    }
+}
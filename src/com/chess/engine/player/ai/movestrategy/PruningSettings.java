@@ -0,0 +1,315 @@
+package com.chess.engine.player.ai.movestrategy;
+
+import com.chess.engine.player.ai.boardevaluator.StandardBoardEvaluator;
+
+/**
+ * Represents the settings of the pruning a search may do, i.e., the ways it may skip or shorten the search of a
+ * position that is unlikely to change the result. Unlike the limits of a search (see SearchLimits), the settings
+ * decide how the search spends its time rather than how much time it has, so they belong to the strategy.
+ * <ul>
+ *     <li>Null-move pruning lets the player making a move pass: if the opponent still cannot get back below beta
+ *     after a shallower search, the position is almost certainly good enough to skip. The reduction is how many plies
+ *     shallower that search is.</li>
+ *     <li>Late move reductions search the quiet moves that come late in the move order a few plies shallower, and
+ *     only search a move again at the full depth if it turns out to raise alpha. They start at a minimum depth and
+ *     after a number of moves have been searched in full.</li>
+ *     <li>Reverse futility pruning cuts a position off when its score is still above beta after the futility margin
+ *     is taken off for every ply left, and futility pruning skips the quiet moves of a position whose score is still
+ *     below alpha after the margin is added. Both only look at positions this many plies from the end of the
+ *     search.</li>
+ *     <li>Losing capture pruning skips the captures of a quiescence search that the static exchange evaluation says
+ *     lose material once the opponent recaptures.</li>
+ * </ul>
+ * A reduction or depth of 0 turns that kind of pruning off.
+ *
+ * @author Jamie Canada
+ * @since 10/28/25
+ */
+public final class PruningSettings {
+    public static final int DEFAULT_NULL_MOVE_REDUCTION = 2;
+    public static final int DEFAULT_LATE_MOVE_REDUCTION = 1;
+    public static final int DEFAULT_LATE_MOVE_MIN_DEPTH = 3;
+    public static final int DEFAULT_LATE_MOVE_MIN_MOVES = 3;
+    public static final int DEFAULT_FUTILITY_DEPTH = 2;
+    public static final int DEFAULT_REVERSE_FUTILITY_DEPTH = 3;
+
+    private final int nullMoveReduction;
+    private final int lateMoveReduction;
+    private final int lateMoveMinDepth;
+    private final int lateMoveMinMoves;
+    private final int futilityDepth;
+    private final int reverseFutilityDepth;
+    private final int futilityMargin;
+    private final boolean losingCapturePruning;
+
+    /**
+     * Creates a PruningSettings object with input from the builder.
+     *
+     * @param builder What sets the settings.
+     */
+    private PruningSettings(final Builder builder) {
+        this.nullMoveReduction = builder.nullMoveReduction;
+        this.lateMoveReduction = builder.lateMoveReduction;
+        this.lateMoveMinDepth = builder.lateMoveMinDepth;
+        this.lateMoveMinMoves = builder.lateMoveMinMoves;
+        this.futilityDepth = builder.futilityDepth;
+        this.reverseFutilityDepth = builder.reverseFutilityDepth;
+        this.futilityMargin = builder.futilityMargin;
+        this.losingCapturePruning = builder.losingCapturePruning;
+    }
+
+    /**
+     * Returns the settings with every kind of pruning at its default.
+     *
+     * @return The settings with every kind of pruning at its default.
+     */
+    public static PruningSettings defaults() {
+        return new Builder().build();
+    }
+
+    /**
+     * Returns the settings with every kind of pruning turned off, which searches the same tree as AlphaBeta.
+     *
+     * @return The settings with every kind of pruning turned off.
+     */
+    public static PruningSettings none() {
+        return new Builder().setNullMoveReduction(0)
+                            .setLateMoveReduction(0)
+                            .setFutilityDepth(0)
+                            .setReverseFutilityDepth(0)
+                            .setLosingCapturePruning(false)
+                            .build();
+    }
+
+    /**
+     * Returns how many plies shallower the search after a null move is, or 0 without null-move pruning.
+     *
+     * @return How many plies shallower the search after a null move is.
+     */
+    public int getNullMoveReduction() {
+        return this.nullMoveReduction;
+    }
+
+    /**
+     * Returns whether null-move pruning is turned on.
+     *
+     * @return Whether null-move pruning is turned on.
+     */
+    public boolean isNullMovePruning() {
+        return this.nullMoveReduction > 0;
+    }
+
+    /**
+     * Returns how many plies shallower a late quiet move is searched, or 0 without late move reductions.
+     *
+     * @return How many plies shallower a late quiet move is searched.
+     */
+    public int getLateMoveReduction() {
+        return this.lateMoveReduction;
+    }
+
+    /**
+     * Returns how many plies must be left before a late quiet move is searched shallower.
+     *
+     * @return How many plies must be left before a late quiet move is searched shallower.
+     */
+    public int getLateMoveMinDepth() {
+        return this.lateMoveMinDepth;
+    }
+
+    /**
+     * Returns how many moves of a position are searched in full before the quiet moves are searched shallower.
+     *
+     * @return How many moves of a position are searched in full.
+     */
+    public int getLateMoveMinMoves() {
+        return this.lateMoveMinMoves;
+    }
+
+    /**
+     * Returns how many plies from the end of the search futility pruning starts, or 0 without it.
+     *
+     * @return How many plies from the end of the search futility pruning starts.
+     */
+    public int getFutilityDepth() {
+        return this.futilityDepth;
+    }
+
+    /**
+     * Returns how many plies from the end of the search reverse futility pruning starts, or 0 without it.
+     *
+     * @return How many plies from the end of the search reverse futility pruning starts.
+     */
+    public int getReverseFutilityDepth() {
+        return this.reverseFutilityDepth;
+    }
+
+    /**
+     * Returns the futility margin of the given number of plies, i.e., how far quiet moves may move the score in them.
+     *
+     * @param depth How many plies of moves are left to look at.
+     * @return The futility margin of the given number of plies.
+     */
+    public int getFutilityMargin(final int depth) {
+        return this.futilityMargin * depth;
+    }
+
+    /**
+     * Returns whether the quiescence search skips the captures that lose material.
+     *
+     * @return Whether the quiescence search skips the captures that lose material.
+     */
+    public boolean isLosingCapturePruning() {
+        return this.losingCapturePruning;
+    }
+
+    /**
+     * Returns the String representation of the pruning settings.
+     *
+     * @return The String representation of the pruning settings.
+     */
+    @Override
+    public String toString() {
+        return "PruningSettings[null move reduction = " + this.nullMoveReduction +
+               ", late move reduction = " + this.lateMoveReduction +
+               " (from depth " + this.lateMoveMinDepth + " after " + this.lateMoveMinMoves + " moves)" +
+               ", futility depth = " + this.futilityDepth +
+               ", reverse futility depth = " + this.reverseFutilityDepth +
+               ", futility margin = " + this.futilityMargin +
+               ", losing capture pruning = " + this.losingCapturePruning + "]";
+    }
+
+    /**
+     * Represents the builder for the pruning settings. Every setting starts out at its default, and the futility
+     * margin starts out at the board evaluator's.
+     *
+     * @author Jamie Canada
+     * @since 10/28/25
+     */
+    public static class Builder {
+        private int nullMoveReduction = DEFAULT_NULL_MOVE_REDUCTION;
+        private int lateMoveReduction = DEFAULT_LATE_MOVE_REDUCTION;
+        private int lateMoveMinDepth = DEFAULT_LATE_MOVE_MIN_DEPTH;
+        private int lateMoveMinMoves = DEFAULT_LATE_MOVE_MIN_MOVES;
+        private int futilityDepth = DEFAULT_FUTILITY_DEPTH;
+        private int reverseFutilityDepth = DEFAULT_REVERSE_FUTILITY_DEPTH;
+        private int futilityMargin = StandardBoardEvaluator.FUTILITY_MARGIN;
+        private boolean losingCapturePruning = true;
+
+        /**
+         * Returns the pruning settings set by the builder.
+         *
+         * @return The pruning settings set by the builder.
+         */
+        public PruningSettings build() {
+            return new PruningSettings(this);
+        }
+
+        /**
+         * Returns the builder after the null-move reduction is set.
+         *
+         * @param nullMoveReduction How many plies shallower the search after a null move is, or 0 to turn null-move
+         *                          pruning off.
+         * @return The builder after the null-move reduction is set.
+         */
+        public Builder setNullMoveReduction(final int nullMoveReduction) {
+            this.nullMoveReduction = requireNonNegative(nullMoveReduction, "null-move reduction");
+            return this;
+        }
+
+        /**
+         * Returns the builder after the late move reduction is set.
+         *
+         * @param lateMoveReduction How many plies shallower a late quiet move is searched, or 0 to turn late move
+         *                          reductions off.
+         * @return The builder after the late move reduction is set.
+         */
+        public Builder setLateMoveReduction(final int lateMoveReduction) {
+            this.lateMoveReduction = requireNonNegative(lateMoveReduction, "late move reduction");
+            return this;
+        }
+
+        /**
+         * Returns the builder after the minimum depth of late move reductions is set.
+         *
+         * @param lateMoveMinDepth How many plies must be left before a late quiet move is searched shallower.
+         * @return The builder after the minimum depth of late move reductions is set.
+         */
+        public Builder setLateMoveMinDepth(final int lateMoveMinDepth) {
+            this.lateMoveMinDepth = requireNonNegative(lateMoveMinDepth, "late move minimum depth");
+            return this;
+        }
+
+        /**
+         * Returns the builder after the number of moves searched in full before late move reductions is set.
+         *
+         * @param lateMoveMinMoves How many moves of a position are searched in full.
+         * @return The builder after the number of moves searched in full before late move reductions is set.
+         */
+        public Builder setLateMoveMinMoves(final int lateMoveMinMoves) {
+            this.lateMoveMinMoves = requireNonNegative(lateMoveMinMoves, "late move minimum moves");
+            return this;
+        }
+
+        /**
+         * Returns the builder after the depth of futility pruning is set.
+         *
+         * @param futilityDepth How many plies from the end of the search futility pruning starts, or 0 to turn it
+         *                      off.
+         * @return The builder after the depth of futility pruning is set.
+         */
+        public Builder setFutilityDepth(final int futilityDepth) {
+            this.futilityDepth = requireNonNegative(futilityDepth, "futility depth");
+            return this;
+        }
+
+        /**
+         * Returns the builder after the depth of reverse futility pruning is set.
+         *
+         * @param reverseFutilityDepth How many plies from the end of the search reverse futility pruning starts, or 0
+         *                             to turn it off.
+         * @return The builder after the depth of reverse futility pruning is set.
+         */
+        public Builder setReverseFutilityDepth(final int reverseFutilityDepth) {
+            this.reverseFutilityDepth = requireNonNegative(reverseFutilityDepth, "reverse futility depth");
+            return this;
+        }
+
+        /**
+         * Returns the builder after the futility margin is set.
+         *
+         * @param futilityMargin How far quiet moves may move the score in a single ply.
+         * @return The builder after the futility margin is set.
+         */
+        public Builder setFutilityMargin(final int futilityMargin) {
+            this.futilityMargin = requireNonNegative(futilityMargin, "futility margin");
+            return this;
+        }
+
+        /**
+         * Returns the builder after losing capture pruning is turned on or off.
+         *
+         * @param losingCapturePruning Whether the quiescence search skips the captures that lose material.
+         * @return The builder after losing capture pruning is turned on or off.
+         */
+        public Builder setLosingCapturePruning(final boolean losingCapturePruning) {
+            this.losingCapturePruning = losingCapturePruning;
+            return this;
+        }
+
+        /**
+         * Returns the setting if it is not negative.
+         *
+         * @param setting The setting to check.
+         * @param name    The name of the setting, used in the exception message.
+         * @return The setting if it is not negative.
+         */
+        private static int requireNonNegative(final int setting, final String name) {
+            if (setting < 0) {
+                throw new IllegalArgumentException("The " + name + " cannot be negative, not " + setting + ".");
+            }
+
+            return setting;
+        }
+    }
+}
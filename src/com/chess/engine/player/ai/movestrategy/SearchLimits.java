@@ -0,0 +1,318 @@
+package com.chess.engine.player.ai.movestrategy;
+
+/**
+ * Represents the limits a search must stay within: how deep it may look, how many boards it may visit, how long it
+ * may think, and whether it only looks for a checkmate. A limit that is not set does not restrict the search, and
+ * when several limits are set, the search stops at whichever one it reaches first.
+ * <p>
+ * The time can be given either as a fixed move time or as the player's remaining clock time and increment, in which
+ * case the search takes a share of the remaining time (see getTimeBudgetMillis()).
+ *
+ * @author Jamie Canada
+ * @since 10/25/25
+ */
+public final class SearchLimits {
+    public static final int NO_LIMIT = -1;
+
+    // The most plies any search looks ahead, which keeps a search without a depth limit within the search board
+    public static final int MAX_DEPTH = 64;
+
+    // A clock is assumed to have this many moves left to play, and a little time is kept back for the move itself
+    private static final int MOVES_TO_GO = 30;
+    private static final long CLOCK_SAFETY_MARGIN_MILLIS = 50;
+
+    private final int maxDepth;
+    private final long maxNodes;
+    private final long moveTimeMillis;
+    private final long remainingTimeMillis;
+    private final long incrementMillis;
+    private final int mateInMoves;
+
+    /**
+     * Creates a SearchLimits object with input from the builder.
+     *
+     * @param builder What sets the limits.
+     */
+    private SearchLimits(final Builder builder) {
+        this.maxDepth = builder.maxDepth;
+        this.maxNodes = builder.maxNodes;
+        this.moveTimeMillis = builder.moveTimeMillis;
+        this.remainingTimeMillis = builder.remainingTimeMillis;
+        this.incrementMillis = builder.incrementMillis;
+        this.mateInMoves = builder.mateInMoves;
+    }
+
+    /**
+     * Returns the limits of a search to the given depth.
+     *
+     * @param depth How many plies of moves to look at.
+     * @return The limits of a search to the given depth.
+     */
+    public static SearchLimits depth(final int depth) {
+        return new Builder().setDepth(depth).build();
+    }
+
+    /**
+     * Returns the limits of a search that may take the given time.
+     *
+     * @param moveTimeMillis How many milliseconds the search may take.
+     * @return The limits of a search that may take the given time.
+     */
+    public static SearchLimits moveTime(final long moveTimeMillis) {
+        return new Builder().setMoveTime(moveTimeMillis).build();
+    }
+
+    /**
+     * Returns the deepest the search may look, i.e., the smallest of the depth limit, the depth of a checkmate in the
+     * given number of moves, and MAX_DEPTH.
+     *
+     * @return The deepest the search may look.
+     */
+    public int getMaxDepth() {
+        int maxDepth = MAX_DEPTH;
+        if (this.maxDepth != NO_LIMIT) {
+            maxDepth = Math.min(maxDepth, this.maxDepth);
+        }
+        if (this.mateInMoves != NO_LIMIT) {
+            // A checkmate in n moves is n of the player's moves and the n - 1 replies in between
+            maxDepth = Math.min(maxDepth, 2 * this.mateInMoves - 1);
+        }
+
+        return maxDepth;
+    }
+
+    /**
+     * Returns the depth limit, or NO_LIMIT if the depth is not limited.
+     *
+     * @return The depth limit, or NO_LIMIT if the depth is not limited.
+     */
+    public int getDepth() {
+        return this.maxDepth;
+    }
+
+    /**
+     * Returns the most boards the search may visit, or NO_LIMIT.
+     *
+     * @return The most boards the search may visit, or NO_LIMIT.
+     */
+    public long getMaxNodes() {
+        return this.maxNodes;
+    }
+
+    /**
+     * Returns the fixed move time in milliseconds, or NO_LIMIT.
+     *
+     * @return The fixed move time in milliseconds, or NO_LIMIT.
+     */
+    public long getMoveTimeMillis() {
+        return this.moveTimeMillis;
+    }
+
+    /**
+     * Returns the player's remaining clock time in milliseconds, or NO_LIMIT.
+     *
+     * @return The player's remaining clock time in milliseconds, or NO_LIMIT.
+     */
+    public long getRemainingTimeMillis() {
+        return this.remainingTimeMillis;
+    }
+
+    /**
+     * Returns the time in milliseconds added to the player's clock after every move.
+     *
+     * @return The time in milliseconds added to the player's clock after every move.
+     */
+    public long getIncrementMillis() {
+        return this.incrementMillis;
+    }
+
+    /**
+     * Returns the number of moves the search must find a checkmate in, or NO_LIMIT.
+     *
+     * @return The number of moves the search must find a checkmate in, or NO_LIMIT.
+     */
+    public int getMateInMoves() {
+        return this.mateInMoves;
+    }
+
+    /**
+     * Returns whether the search only looks for a checkmate, and stops as soon as it finds one.
+     *
+     * @return Whether the search only looks for a checkmate.
+     */
+    public boolean isMateSearch() {
+        return this.mateInMoves != NO_LIMIT;
+    }
+
+    /**
+     * Returns how many milliseconds the search may take, or NO_LIMIT if the time is not limited. With a clock, the
+     * search takes an even share of the remaining time over the moves assumed to be left plus most of the increment,
+     * but never more than the remaining time itself. With both a move time and a clock, the smaller budget wins.
+     *
+     * @return How many milliseconds the search may take, or NO_LIMIT.
+     */
+    public long getTimeBudgetMillis() {
+        long timeBudgetMillis = this.moveTimeMillis;
+        if (this.remainingTimeMillis != NO_LIMIT) {
+            final long maxTimeMillis = Math.max(this.remainingTimeMillis - CLOCK_SAFETY_MARGIN_MILLIS, 1);
+            final long clockTimeMillis = Math.min(this.remainingTimeMillis / MOVES_TO_GO + this.incrementMillis * 3 / 4,
+                                                  maxTimeMillis);
+            timeBudgetMillis = timeBudgetMillis == NO_LIMIT ? clockTimeMillis :
+                                                              Math.min(timeBudgetMillis, clockTimeMillis);
+        }
+
+        return timeBudgetMillis;
+    }
+
+    /**
+     * Returns the time at which a search that starts at the given time must stop, or AlphaBeta.NO_DEADLINE.
+     *
+     * @param startTime When the search started, in milliseconds (see System.currentTimeMillis()).
+     * @return The time at which a search that starts at the given time must stop.
+     */
+    public long getDeadline(final long startTime) {
+        final long timeBudgetMillis = getTimeBudgetMillis();
+        return timeBudgetMillis == NO_LIMIT ? AlphaBeta.NO_DEADLINE : startTime + timeBudgetMillis;
+    }
+
+    /**
+     * Returns the String representation of the limits that are set.
+     *
+     * @return The String representation of the limits that are set.
+     */
+    @Override
+    public String toString() {
+        final StringBuilder builder = new StringBuilder("SearchLimits[");
+        if (this.maxDepth != NO_LIMIT) {
+            builder.append("depth = ").append(this.maxDepth).append(", ");
+        }
+        if (this.maxNodes != NO_LIMIT) {
+            builder.append("nodes = ").append(this.maxNodes).append(", ");
+        }
+        if (this.moveTimeMillis != NO_LIMIT) {
+            builder.append("move time = ").append(this.moveTimeMillis).append(" ms, ");
+        }
+        if (this.remainingTimeMillis != NO_LIMIT) {
+            builder.append("clock = ").append(this.remainingTimeMillis).append(" + ")
+                   .append(this.incrementMillis).append(" ms, ");
+        }
+        if (this.mateInMoves != NO_LIMIT) {
+            builder.append("mate in ").append(this.mateInMoves).append(", ");
+        }
+        if (builder.charAt(builder.length() - 1) == ' ') {
+            builder.setLength(builder.length() - 2);
+        }
+
+        return builder.append("]").toString();
+    }
+
+    /**
+     * Represents the builder for the search limits. Every limit starts out unset.
+     *
+     * @author Jamie Canada
+     * @since 10/25/25
+     */
+    public static class Builder {
+        private int maxDepth = NO_LIMIT;
+        private long maxNodes = NO_LIMIT;
+        private long moveTimeMillis = NO_LIMIT;
+        private long remainingTimeMillis = NO_LIMIT;
+        private long incrementMillis;
+        private int mateInMoves = NO_LIMIT;
+
+        /**
+         * Returns the search limits set by the builder.
+         *
+         * @return The search limits set by the builder.
+         */
+        public SearchLimits build() {
+            return new SearchLimits(this);
+        }
+
+        /**
+         * Returns the builder after the depth limit is set.
+         *
+         * @param depth How many plies of moves the search may look at.
+         * @return The builder after the depth limit is set.
+         */
+        public Builder setDepth(final int depth) {
+            this.maxDepth = requirePositive(depth, "depth");
+            return this;
+        }
+
+        /**
+         * Returns the builder after the node limit is set.
+         *
+         * @param nodes How many boards the search may visit.
+         * @return The builder after the node limit is set.
+         */
+        public Builder setNodes(final long nodes) {
+            this.maxNodes = requirePositive(nodes, "node limit");
+            return this;
+        }
+
+        /**
+         * Returns the builder after the fixed move time is set.
+         *
+         * @param moveTimeMillis How many milliseconds the search may take.
+         * @return The builder after the fixed move time is set.
+         */
+        public Builder setMoveTime(final long moveTimeMillis) {
+            this.moveTimeMillis = requirePositive(moveTimeMillis, "move time");
+            return this;
+        }
+
+        /**
+         * Returns the builder after the player's clock is set.
+         *
+         * @param remainingTimeMillis How many milliseconds the player has left on the clock.
+         * @param incrementMillis     How many milliseconds are added to the clock after every move.
+         * @return The builder after the player's clock is set.
+         */
+        public Builder setClock(final long remainingTimeMillis, final long incrementMillis) {
+            if (incrementMillis < 0) {
+                throw new IllegalArgumentException("The increment cannot be negative, not " + incrementMillis + ".");
+            }
+            this.remainingTimeMillis = requirePositive(remainingTimeMillis, "remaining time");
+            this.incrementMillis = incrementMillis;
+            return this;
+        }
+
+        /**
+         * Returns the builder after the search is set to look for a checkmate in the given number of moves.
+         *
+         * @param mateInMoves How many of the player's moves the checkmate may take.
+         * @return The builder after the search is set to look for a checkmate.
+         */
+        public Builder setMateIn(final int mateInMoves) {
+            this.mateInMoves = requirePositive(mateInMoves, "number of moves to checkmate");
+            return this;
+        }
+
+        /**
+         * Returns the limit if it is positive.
+         *
+         * @param limit The limit to check.
+         * @param name  The name of the limit, used in the exception message.
+         * @return The limit if it is positive.
+         */
+        private static int requirePositive(final int limit, final String name) {
+            return (int) requirePositive((long) limit, name);
+        }
+
+        /**
+         * Returns the limit if it is positive.
+         *
+         * @param limit The limit to check.
+         * @param name  The name of the limit, used in the exception message.
+         * @return The limit if it is positive.
+         */
+        private static long requirePositive(final long limit, final String name) {
+            if (limit <= 0) {
+                throw new IllegalArgumentException("The " + name + " must be positive, not " + limit + ".");
+            }
+
+            return limit;
+        }
+    }
+}
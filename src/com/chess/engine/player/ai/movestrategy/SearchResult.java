@@ -0,0 +1,127 @@
+package com.chess.engine.player.ai.movestrategy;
+
+import com.chess.engine.moves.Move;
+import com.google.common.collect.ImmutableList;
+
+import java.util.List;
+
+/**
+ * Represents the outcome of a search: the best move, its score, the principal variation (the line of moves both
+ * players are expected to play from the root), how deep the search looked, how many boards it visited, and how long
+ * it took. Like the board evaluator's scores, the score is from white's point of view, so a positive score favors
+ * white and a negative score favors black.
+ *
+ * @author Jamie Canada
+ * @since 10/25/25
+ */
+public final class SearchResult {
+    private final Move bestMove;
+    private final int score;
+    private final List<Move> principalVariation;
+    private final int depth;
+    private final long nodes;
+    private final long elapsedMillis;
+
+    /**
+     * Creates a SearchResult object.
+     *
+     * @param bestMove           The best move found, or null if the player to move has no legal moves.
+     * @param score              The score of the best move from white's point of view.
+     * @param principalVariation The line of moves expected from the root, starting with the best move.
+     * @param depth              How many plies the search that chose the best move looked at.
+     * @param nodes              How many boards the search visited.
+     * @param elapsedMillis      How many milliseconds the search took.
+     */
+    public SearchResult(final Move bestMove,
+                        final int score,
+                        final List<Move> principalVariation,
+                        final int depth,
+                        final long nodes,
+                        final long elapsedMillis) {
+        this.bestMove = bestMove;
+        this.score = score;
+        this.principalVariation = ImmutableList.copyOf(principalVariation);
+        this.depth = depth;
+        this.nodes = nodes;
+        this.elapsedMillis = elapsedMillis;
+    }
+
+    /**
+     * Returns the best move found, or null if the player to move has no legal moves.
+     *
+     * @return The best move found, or null if the player to move has no legal moves.
+     */
+    public Move getBestMove() {
+        return this.bestMove;
+    }
+
+    /**
+     * Returns the score of the best move from white's point of view.
+     *
+     * @return The score of the best move from white's point of view.
+     */
+    public int getScore() {
+        return this.score;
+    }
+
+    /**
+     * Returns the line of moves expected from the root, starting with the best move.
+     *
+     * @return The line of moves expected from the root.
+     */
+    public List<Move> getPrincipalVariation() {
+        return this.principalVariation;
+    }
+
+    /**
+     * Returns how many plies the search that chose the best move looked at.
+     *
+     * @return How many plies the search that chose the best move looked at.
+     */
+    public int getDepth() {
+        return this.depth;
+    }
+
+    /**
+     * Returns how many boards the search visited.
+     *
+     * @return How many boards the search visited.
+     */
+    public long getNodes() {
+        return this.nodes;
+    }
+
+    /**
+     * Returns how many milliseconds the search took.
+     *
+     * @return How many milliseconds the search took.
+     */
+    public long getElapsedMillis() {
+        return this.elapsedMillis;
+    }
+
+    /**
+     * Returns how many boards the search visited per second.
+     *
+     * @return How many boards the search visited per second.
+     */
+    public long getNodesPerSecond() {
+        return this.nodes * 1000 / Math.max(this.elapsedMillis, 1);
+    }
+
+    /**
+     * Returns the String representation of the search result.
+     *
+     * @return The String representation of the search result.
+     */
+    @Override
+    public String toString() {
+        return String.format("SearchResult[best move = %s, score = %d, depth = %d, nodes = %d, time = %d ms, pv = %s]",
+                             this.bestMove,
+                             this.score,
+                             this.depth,
+                             this.nodes,
+                             this.elapsedMillis,
+                             this.principalVariation);
+    }
+}
@@ -0,0 +1,318 @@
+package com.chess.engine.player.ai.transposition;
+
+import java.util.Arrays;
+
+/**
+ * Represents a fixed-size transposition table, which remembers the results of positions the search has already
+ * looked at. The same position is often reached through different move orders (e.g., Nf3, Nc6, Nc3 versus Nc3, Nc6,
+ * Nf3), and the table lets the search reuse the earlier result instead of searching the position again.
+ * <p>
+ * An entry is kept as two longs: the position's zobrist key and the entry's data, which packs the best move, score,
+ * depth, bound type, and the search that stored it. The entry's slot is picked by the low bits of the key, so two
+ * positions can compete for the same slot, and the replacement scheme decides which one stays.
+ * <p>
+ * The table may be shared by several searching threads without locks. The key is stored XORed with the data, so an
+ * entry whose key and data were written by two different threads at the same time no longer matches its position and
+ * reads as a miss instead of handing the wrong data to the search. The counters are not synchronized, so they are only
+ * approximate while threads share the table.
+ *
+ * @author Jamie Canada
+ * @since 10/21/25
+ */
+public class TranspositionTable {
+    public static final int DEFAULT_SIZE_MB = 16;
+    public static final long NO_ENTRY = 0L;
+
+    // The bound types start at 1 so that an entry's data is never 0 (i.e., NO_ENTRY)
+    public static final int EXACT_BOUND = 1, LOWER_BOUND = 2, UPPER_BOUND = 3;
+
+    private static final int ENTRY_NUM_BYTES = 2 * Long.BYTES;
+    private static final int BYTES_PER_MB = 1024 * 1024;
+
+    // The data is packed as | generation (6 bits) | bound (2 bits) | depth (8 bits) | score (32 bits) | move (16 bits)
+    private static final int SCORE_SHIFT = 16, DEPTH_SHIFT = 48, BOUND_SHIFT = 56, GENERATION_SHIFT = 58;
+    private static final long MOVE_MASK = 0xFFFFL, DEPTH_MASK = 0xFFL, BOUND_MASK = 0x3L, GENERATION_MASK = 0x3FL;
+
+    private final long[] keys;
+    private final long[] data;
+    private final int indexMask;
+    private final int sizeMb;
+    private final ReplacementScheme replacementScheme;
+    private volatile int generation;
+
+    private long hits, misses, collisions, stores, overwrites;
+
+    /**
+     * Creates a TranspositionTable object of the default size that prefers deeper entries.
+     */
+    public TranspositionTable() {
+        this(DEFAULT_SIZE_MB, ReplacementScheme.DEPTH_PREFERRED);
+    }
+
+    /**
+     * Creates a TranspositionTable object that takes up about the given number of megabytes. The number of entries
+     * is rounded down to a power of two so that a key maps to a slot with a mask.
+     *
+     * @param sizeMb            How many megabytes the table may take up.
+     * @param replacementScheme Which entry to keep when two positions compete for the same slot.
+     */
+    public TranspositionTable(final int sizeMb, final ReplacementScheme replacementScheme) {
+        if (sizeMb <= 0) {
+            throw new IllegalArgumentException("The transposition table needs at least 1 MB, not " + sizeMb + ".");
+        }
+        final long maxEntries = (long) sizeMb * BYTES_PER_MB / ENTRY_NUM_BYTES;
+        final int numEntries = (int) Math.min(Long.highestOneBit(maxEntries), 1 << 30);
+
+        this.keys = new long[numEntries];
+        this.data = new long[numEntries];
+        this.indexMask = numEntries - 1;
+        this.sizeMb = sizeMb;
+        this.replacementScheme = replacementScheme;
+    }
+
+    /**
+     * Returns the data of the entry stored for the given key, or NO_ENTRY if the position has no entry.
+     *
+     * @param zobristKey The zobrist key of the position.
+     * @return The data of the entry stored for the given key, or NO_ENTRY if the position has no entry.
+     */
+    public long probe(final long zobristKey) {
+        final int index = getIndex(zobristKey);
+        final long entry = this.data[index];
+        if (entry != NO_ENTRY && (this.keys[index] ^ entry) == zobristKey) {
+            this.hits++;
+            return entry;
+        }
+
+        this.misses++;
+        if (entry != NO_ENTRY) {
+            this.collisions++;
+        }
+
+        return NO_ENTRY;
+    }
+
+    /**
+     * Stores the result of searching a position, unless the replacement scheme keeps the entry already in the slot.
+     *
+     * @param zobristKey The zobrist key of the position.
+     * @param move       The best encoded move found in the position, or 0 if there is none.
+     * @param score      The score of the position.
+     * @param depth      How many plies the position was searched to.
+     * @param bound      Whether the score is exact (EXACT_BOUND), at least (LOWER_BOUND), or at most (UPPER_BOUND).
+     */
+    public void store(final long zobristKey, final int move, final int score, final int depth, final int bound) {
+        final int index = getIndex(zobristKey);
+        final long entry = this.data[index];
+        if (entry != NO_ENTRY && (this.keys[index] ^ entry) != zobristKey) {
+            if (!this.replacementScheme.shouldReplace(entry, depth, this.generation)) {
+                return;
+            }
+            this.overwrites++;
+        }
+
+        final long newEntry = (move & MOVE_MASK) |
+                              (score & 0xFFFFFFFFL) << SCORE_SHIFT |
+                              (depth & DEPTH_MASK) << DEPTH_SHIFT |
+                              (long) bound << BOUND_SHIFT |
+                              (long) this.generation << GENERATION_SHIFT;
+        this.keys[index] = zobristKey ^ newEntry;
+        this.data[index] = newEntry;
+        this.stores++;
+    }
+
+    /**
+     * Marks the start of a new search, so that the entries of earlier searches are the first ones to be replaced.
+     * When threads share the table, it must be called before they start searching.
+     */
+    public void newSearch() {
+        this.generation = (this.generation + 1) & (int) GENERATION_MASK;
+    }
+
+    /**
+     * Removes every entry and resets the counters.
+     */
+    public void clear() {
+        Arrays.fill(this.keys, 0L);
+        Arrays.fill(this.data, NO_ENTRY);
+        this.generation = 0;
+        resetCounters();
+    }
+
+    /**
+     * Resets the hit, miss, collision, store, and overwrite counters.
+     */
+    public void resetCounters() {
+        this.hits = this.misses = this.collisions = this.stores = this.overwrites = 0;
+    }
+
+    /**
+     * Returns the slot of the given key.
+     *
+     * @param zobristKey The zobrist key of the position.
+     * @return The slot of the given key.
+     */
+    private int getIndex(final long zobristKey) {
+        return (int) zobristKey & this.indexMask;
+    }
+
+    /**
+     * Returns the encoded move of an entry.
+     *
+     * @param entry The data of an entry.
+     * @return The encoded move of an entry.
+     */
+    public static int getMove(final long entry) {
+        return (int) (entry & MOVE_MASK);
+    }
+
+    /**
+     * Returns the score of an entry.
+     *
+     * @param entry The data of an entry.
+     * @return The score of an entry.
+     */
+    public static int getScore(final long entry) {
+        return (int) (entry >>> SCORE_SHIFT);
+    }
+
+    /**
+     * Returns the depth of an entry.
+     *
+     * @param entry The data of an entry.
+     * @return The depth of an entry.
+     */
+    public static int getDepth(final long entry) {
+        return (int) (entry >>> DEPTH_SHIFT & DEPTH_MASK);
+    }
+
+    /**
+     * Returns the bound type of an entry.
+     *
+     * @param entry The data of an entry.
+     * @return The bound type of an entry.
+     */
+    public static int getBound(final long entry) {
+        return (int) (entry >>> BOUND_SHIFT & BOUND_MASK);
+    }
+
+    /**
+     * Returns the generation (i.e., the search) of an entry.
+     *
+     * @param entry The data of an entry.
+     * @return The generation of an entry.
+     */
+    static int getGeneration(final long entry) {
+        return (int) (entry >>> GENERATION_SHIFT & GENERATION_MASK);
+    }
+
+    /**
+     * Returns how many megabytes the table was sized for.
+     *
+     * @return How many megabytes the table was sized for.
+     */
+    public int getSizeMb() {
+        return this.sizeMb;
+    }
+
+    /**
+     * Returns how many entries the table can hold.
+     *
+     * @return How many entries the table can hold.
+     */
+    public int getNumEntries() {
+        return this.data.length;
+    }
+
+    /**
+     * Returns how many probes found an entry for their position.
+     *
+     * @return How many probes found an entry for their position.
+     */
+    public long getHits() {
+        return this.hits;
+    }
+
+    /**
+     * Returns how many probes found no entry for their position.
+     *
+     * @return How many probes found no entry for their position.
+     */
+    public long getMisses() {
+        return this.misses;
+    }
+
+    /**
+     * Returns how many of the misses found the slot taken by another position.
+     *
+     * @return How many of the misses found the slot taken by another position.
+     */
+    public long getCollisions() {
+        return this.collisions;
+    }
+
+    /**
+     * Returns how many entries were stored.
+     *
+     * @return How many entries were stored.
+     */
+    public long getStores() {
+        return this.stores;
+    }
+
+    /**
+     * Returns how many of the stored entries replaced another position's entry.
+     *
+     * @return How many of the stored entries replaced another position's entry.
+     */
+    public long getOverwrites() {
+        return this.overwrites;
+    }
+
+    /**
+     * Returns the String representation of the transposition table's counters.
+     *
+     * @return The String representation of the transposition table's counters.
+     */
+    @Override
+    public String toString() {
+        return String.format("TranspositionTable[entries = %d, hits = %d, misses = %d, collisions = %d, " +
+                             "stores = %d, overwrites = %d]",
+                             getNumEntries(), this.hits, this.misses, this.collisions, this.stores, this.overwrites);
+    }
+
+    /**
+     * Represents which entry stays when a new position competes for a slot that another position already holds.
+     */
+    public enum ReplacementScheme {
+        ALWAYS_REPLACE {
+            /**
+             * Returns true, since the newest entry always replaces the old one.
+             */
+            @Override
+            boolean shouldReplace(final long entry, final int depth, final int generation) {
+                return true;
+            }
+        },
+        DEPTH_PREFERRED {
+            /**
+             * Returns whether the old entry is from an earlier search or was searched no deeper than the new one,
+             * since a deeper entry saved more work and is worth keeping.
+             */
+            @Override
+            boolean shouldReplace(final long entry, final int depth, final int generation) {
+                return getGeneration(entry) != generation || getDepth(entry) <= depth;
+            }
+        };
+
+        /**
+         * Returns whether a new entry should replace the old entry of another position.
+         *
+         * @param entry      The data of the old entry.
+         * @param depth      The depth of the new entry.
+         * @param generation The current generation.
+         * @return Whether a new entry should replace the old entry of another position.
+         */
+        abstract boolean shouldReplace(final long entry, final int depth, final int generation);
+    }
+}
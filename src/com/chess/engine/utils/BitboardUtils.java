@@ -0,0 +1,201 @@
+package com.chess.engine.utils;
+
+import com.chess.engine.Alliance;
+import com.chess.engine.pieces.Piece;
+import com.chess.engine.pieces.Piece.PieceType;
+
+import static com.chess.engine.Position.getPositionIndex;
+import static com.chess.engine.utils.BoardUtils.*;
+import static com.chess.engine.utils.MagicBitboardUtils.getBishopAttacks;
+import static com.chess.engine.utils.MagicBitboardUtils.getRookAttacks;
+import static com.chess.engine.utils.PieceConstants.*;
+
+/**
+ * Holds all the bitboard-relevant constants and methods. A bitboard is a long in which bit i is set when square i
+ * (the same index as Position.getPositionIndex) holds something, e.g., a white knight or any black piece.
+ * <p>
+ * The squares a knight, king, or pawn attacks only depend on the square it is on, so they are worked out once for
+ * every square when the class is loaded. A move generator or attack check then reads a single bitboard instead of
+ * trying each offset and checking that it stays on the chessboard.
+ *
+ * @author Jamie Canada
+ * @since 10/18/25
+ */
+public class BitboardUtils {
+    public static final int NUM_PIECE_TYPES = PieceType.values().length;
+    public static final int NUM_PIECE_BITBOARDS = NUM_PIECE_TYPES * Alliance.values().length;
+    public static final long EMPTY_BITBOARD = 0L;
+
+    private static final long[] KNIGHT_ATTACKS = calculateAttacks(KNIGHT_RANK_OFFSETS, KNIGHT_FILE_OFFSETS, 1);
+    private static final long[] KING_ATTACKS = calculateAttacks(QUEEN_KING_RANK_OFFSETS, QUEEN_KING_FILE_OFFSETS, 1);
+    // Indexed by alliance ordinal, then square
+    private static final long[][] PAWN_ATTACKS = {
+            calculateAttacks(PAWN_RANK_ATTACK_OFFSETS, PAWN_FILE_ATTACK_OFFSETS, Alliance.WHITE.getDirection()),
+            calculateAttacks(PAWN_RANK_ATTACK_OFFSETS, PAWN_FILE_ATTACK_OFFSETS, Alliance.BLACK.getDirection()) };
+
+    /**
+     * Returns the bitboard of the squares attacked from every square by a piece that moves by the given offsets.
+     *
+     * @param rankOffsets The rank offsets of the piece's moves.
+     * @param fileOffsets The file offsets of the piece's moves.
+     * @param direction   What the offsets are multiplied by, i.e., an alliance's direction for a pawn, otherwise 1.
+     * @return The bitboard of the squares attacked from every square.
+     */
+    private static long[] calculateAttacks(final int[] rankOffsets, final int[] fileOffsets, final int direction) {
+        final long[] attacks = new long[BOARD_NUM_SQUARES];
+        for (int squareIndex = 0; squareIndex < BOARD_NUM_SQUARES; squareIndex++) {
+            final int rank = squareIndex / RANK_NUM_SQUARES, file = squareIndex % FILE_NUM_SQUARES;
+            for (int i = 0; i < rankOffsets.length; i++) {
+                final int destRank = rank + rankOffsets[i] * direction, destFile = file + fileOffsets[i] * direction;
+                if (isValidPosition(destRank, destFile)) {
+                    attacks[squareIndex] |= getSquareBit(getPositionIndex(destRank, destFile));
+                }
+            }
+        }
+
+        return attacks;
+    }
+
+    /**
+     * Returns the bitboard of the squares a knight on the given square attacks.
+     *
+     * @param squareIndex The index of the knight's square.
+     * @return The bitboard of the squares a knight on the given square attacks.
+     */
+    public static long getKnightAttacks(final int squareIndex) {
+        return KNIGHT_ATTACKS[squareIndex];
+    }
+
+    /**
+     * Returns the bitboard of the squares a king on the given square attacks, castling aside.
+     *
+     * @param squareIndex The index of the king's square.
+     * @return The bitboard of the squares a king on the given square attacks.
+     */
+    public static long getKingAttacks(final int squareIndex) {
+        return KING_ATTACKS[squareIndex];
+    }
+
+    /**
+     * Returns the bitboard of the squares a pawn of the given alliance on the given square attacks. Turned around,
+     * these are also the squares a pawn of the other alliance would have to be on to attack the given square.
+     *
+     * @param alliance    The pawn's alliance ordinal.
+     * @param squareIndex The index of the pawn's square.
+     * @return The bitboard of the squares a pawn of the given alliance on the given square attacks.
+     */
+    public static long getPawnAttacks(final int alliance, final int squareIndex) {
+        return PAWN_ATTACKS[alliance][squareIndex];
+    }
+
+    /**
+     * Returns whether the square is attacked by any piece of the given alliance. The square is looked at from the
+     * outside in: a piece of the alliance would have to sit on one of the squares the same piece would attack from the
+     * square, so no moves are generated.
+     *
+     * @param pieceBitboards The bitboards of every alliance and piece type.
+     * @param occupancy      The bitboard of all the occupied squares, which blocks the sliding pieces.
+     * @param squareIndex    The index of the square.
+     * @param alliance       The attacking alliance's ordinal.
+     * @return Whether the square is attacked by any piece of the given alliance.
+     */
+    public static boolean isSquareAttacked(final long[] pieceBitboards,
+                                           final long occupancy,
+                                           final int squareIndex,
+                                           final int alliance) {
+        final int firstIndex = alliance * NUM_PIECE_TYPES;
+        final long pawns = pieceBitboards[firstIndex + PieceType.PAWN.ordinal()];
+        final long knights = pieceBitboards[firstIndex + PieceType.KNIGHT.ordinal()];
+        final long bishops = pieceBitboards[firstIndex + PieceType.BISHOP.ordinal()];
+        final long rooks = pieceBitboards[firstIndex + PieceType.ROOK.ordinal()];
+        final long queens = pieceBitboards[firstIndex + PieceType.QUEEN.ordinal()];
+        final long king = pieceBitboards[firstIndex + PieceType.KING.ordinal()];
+
+        // A pawn of the alliance attacks the square from where a pawn of the other alliance on it would attack
+        return (getPawnAttacks(alliance ^ 1, squareIndex) & pawns) != 0 ||
+               (getKnightAttacks(squareIndex) & knights) != 0 ||
+               (getKingAttacks(squareIndex) & king) != 0 ||
+               (getRookAttacks(squareIndex, occupancy) & (rooks | queens)) != 0 ||
+               (getBishopAttacks(squareIndex, occupancy) & (bishops | queens)) != 0;
+    }
+
+    /**
+     * Returns the index of the bitboard that holds the pieces of the given alliance and type. The white bitboards come
+     * first, followed by the black bitboards, each in PieceType order.
+     *
+     * @param alliance  The pieces' alliance.
+     * @param pieceType The pieces' type.
+     * @return The index of the bitboard that holds the pieces of the given alliance and type.
+     */
+    public static int getBitboardIndex(final Alliance alliance, final PieceType pieceType) {
+        return alliance.ordinal() * NUM_PIECE_TYPES + pieceType.ordinal();
+    }
+
+    /**
+     * Returns the index of the bitboard that holds the given piece.
+     *
+     * @param piece The piece on the chessboard.
+     * @return The index of the bitboard that holds the given piece.
+     */
+    public static int getBitboardIndex(final Piece piece) {
+        return getBitboardIndex(piece.getPieceAlliance(), piece.getPieceType());
+    }
+
+    /**
+     * Returns the bitboard of all the squares occupied by the given alliance's pieces.
+     *
+     * @param pieceBitboards The bitboards of every alliance and piece type.
+     * @param alliance       The pieces' alliance.
+     * @return The bitboard of all the squares occupied by the given alliance's pieces.
+     */
+    public static long calculateOccupancy(final long[] pieceBitboards, final Alliance alliance) {
+        final int firstIndex = alliance.ordinal() * NUM_PIECE_TYPES;
+        long occupancy = EMPTY_BITBOARD;
+        for (int i = firstIndex; i < firstIndex + NUM_PIECE_TYPES; i++) {
+            occupancy |= pieceBitboards[i];
+        }
+
+        return occupancy;
+    }
+
+    /**
+     * Returns a bitboard with only the given square's bit set.
+     *
+     * @param squareIndex The index of the square.
+     * @return A bitboard with only the given square's bit set.
+     */
+    public static long getSquareBit(final int squareIndex) {
+        return 1L << squareIndex;
+    }
+
+    /**
+     * Returns whether the given square's bit is set on the bitboard.
+     *
+     * @param bitboard    The bitboard to look at.
+     * @param squareIndex The index of the square.
+     * @return Whether the given square's bit is set on the bitboard.
+     */
+    public static boolean isSquareSet(final long bitboard, final int squareIndex) {
+        return (bitboard & getSquareBit(squareIndex)) != 0;
+    }
+
+    /**
+     * Returns the index of the lowest set square on a non-empty bitboard.
+     *
+     * @param bitboard The bitboard to look at.
+     * @return The index of the lowest set square on the bitboard.
+     */
+    public static int getLowestSquare(final long bitboard) {
+        return Long.numberOfTrailingZeros(bitboard);
+    }
+
+    /**
+     * Returns the bitboard without its lowest set square.
+     *
+     * @param bitboard The bitboard to look at.
+     * @return The bitboard without its lowest set square.
+     */
+    public static long clearLowestSquare(final long bitboard) {
+        return bitboard & (bitboard - 1);
+    }
+}
@@ -2,7 +2,6 @@ package com.chess.engine.utils;
 
 import com.chess.engine.Alliance;
 import com.chess.engine.board.Board;
-import com.chess.engine.board.Square;
 import com.chess.engine.moves.Move;
 import com.chess.engine.pieces.*;
 import com.google.common.collect.ImmutableList;
@@ -12,6 +11,8 @@ import java.util.*;
 
 import static com.chess.engine.Position.getPositionIndex;
 import static com.chess.engine.board.Board.*;
+import static com.chess.engine.utils.BitboardUtils.clearLowestSquare;
+import static com.chess.engine.utils.BitboardUtils.getLowestSquare;
 import static com.chess.engine.utils.PiecePositions.*;
 
 /**
@@ -138,22 +139,18 @@ public class BoardUtils {
     }
 
     /**
-     * Returns a Collection of an alliance's currently active pieces.
+     * Returns a Collection of an alliance's currently active pieces, in the order of their squares.
      *
-     * @param gameboard What the pieces are on.
-     * @param alliance  The piece's alliance.
+     * @param boardConfig The pieces on the chessboard, indexed by square.
+     * @param occupancy   The bitboard of the squares occupied by the alliance's pieces.
      * @return A Collection of an alliance's currently active pieces.
      */
-    public static Collection<Piece> calculateActivePieces(final List<Square> gameboard, final Alliance alliance) {
-        final List<Piece> activePieces = new ArrayList<>();
-
-        for (final Square square : gameboard) {
-            if (square.isSquareOccupied()) {
-                final Piece piece = square.getPiece();
-                if (piece.getPieceAlliance() == alliance) {
-                    activePieces.add(piece);
-                }
-            }
+    public static Collection<Piece> calculateActivePieces(final Piece[] boardConfig, final long occupancy) {
+        final Piece[] activePieces = new Piece[Long.bitCount(occupancy)];
+
+        int i = 0;
+        for (long squares = occupancy; squares != 0; squares = clearLowestSquare(squares)) {
+            activePieces[i++] = boardConfig[getLowestSquare(squares)];
         }
 
         return ImmutableList.copyOf(activePieces);
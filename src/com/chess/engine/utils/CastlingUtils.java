@@ -0,0 +1,112 @@
+package com.chess.engine.utils;
+
+import com.chess.engine.Alliance;
+import com.chess.engine.board.Board;
+import com.chess.engine.pieces.Piece;
+import com.chess.engine.pieces.Piece.PieceType;
+
+import java.util.Arrays;
+
+import static com.chess.engine.Alliance.BLACK;
+import static com.chess.engine.Alliance.WHITE;
+import static com.chess.engine.utils.BoardUtils.BOARD_NUM_SQUARES;
+
+/**
+ * Holds the castling rights and the methods related to them. The castling rights are kept as bits of an int, one for
+ * each alliance and side, and a right is lost once the king or the rook of that side makes its first move.
+ *
+ * @author Jamie Canada
+ * @since 10/20/25
+ */
+public class CastlingUtils {
+    public static final int NO_CASTLING_RIGHTS = 0;
+    public static final int WHITE_KINGSIDE = 1, WHITE_QUEENSIDE = 2, BLACK_KINGSIDE = 4, BLACK_QUEENSIDE = 8;
+    public static final int ALL_CASTLING_RIGHTS = WHITE_KINGSIDE | WHITE_QUEENSIDE | BLACK_KINGSIDE | BLACK_QUEENSIDE;
+    public static final int WHITE_KING_INDEX = 60, BLACK_KING_INDEX = 4;
+
+    private static final int[] CASTLING_MASKS = createCastlingMasks();
+
+    /**
+     * Returns an array of masks that clear the castling rights lost when a piece moves from or to a square.
+     *
+     * @return An array of masks that clear the castling rights lost when a piece moves from or to a square.
+     */
+    private static int[] createCastlingMasks() {
+        final int[] castlingMasks = new int[BOARD_NUM_SQUARES];
+        Arrays.fill(castlingMasks, ALL_CASTLING_RIGHTS);
+
+        castlingMasks[WHITE_KING_INDEX] &= ~(WHITE_KINGSIDE | WHITE_QUEENSIDE);
+        castlingMasks[WHITE_KING_INDEX + 3] &= ~WHITE_KINGSIDE;
+        castlingMasks[WHITE_KING_INDEX - 4] &= ~WHITE_QUEENSIDE;
+        castlingMasks[BLACK_KING_INDEX] &= ~(BLACK_KINGSIDE | BLACK_QUEENSIDE);
+        castlingMasks[BLACK_KING_INDEX + 3] &= ~BLACK_KINGSIDE;
+        castlingMasks[BLACK_KING_INDEX - 4] &= ~BLACK_QUEENSIDE;
+
+        return castlingMasks;
+    }
+
+    /**
+     * Returns the mask that clears the castling rights lost when a piece moves from or to the given square.
+     *
+     * @param squareIndex The index of the square a piece moves from or to.
+     * @return The mask that clears the castling rights lost when a piece moves from or to the given square.
+     */
+    public static int getCastlingMask(final int squareIndex) {
+        return CASTLING_MASKS[squareIndex];
+    }
+
+    /**
+     * Returns the castling rights of the given board. A castle is still possible while the king and the rook have
+     * not made their first move.
+     *
+     * @param board The board to look at.
+     * @return The castling rights of the given board.
+     */
+    public static int calculateCastlingRights(final Board board) {
+        return calculateCastlingRights(board, WHITE, WHITE_KING_INDEX, WHITE_KINGSIDE, WHITE_QUEENSIDE) |
+               calculateCastlingRights(board, BLACK, BLACK_KING_INDEX, BLACK_KINGSIDE, BLACK_QUEENSIDE);
+    }
+
+    /**
+     * Returns the castling rights of one alliance on the given board.
+     *
+     * @param board          The board to look at.
+     * @param alliance       The alliance of the king and rooks.
+     * @param kingIndex      The index of the king's initial square.
+     * @param kingsideRight  The alliance's kingside castling right.
+     * @param queensideRight The alliance's queenside castling right.
+     * @return The castling rights of one alliance on the given board.
+     */
+    private static int calculateCastlingRights(final Board board,
+                                               final Alliance alliance,
+                                               final int kingIndex,
+                                               final int kingsideRight,
+                                               final int queensideRight) {
+        if (!isFirstMovePiece(board, kingIndex, alliance, PieceType.KING)) {
+            return NO_CASTLING_RIGHTS;
+        }
+
+        return (isFirstMovePiece(board, kingIndex + 3, alliance, PieceType.ROOK) ? kingsideRight : 0) |
+               (isFirstMovePiece(board, kingIndex - 4, alliance, PieceType.ROOK) ? queensideRight : 0);
+    }
+
+    /**
+     * Returns whether the square holds a piece of the given alliance and type that has not made its first move.
+     *
+     * @param board       The board to look at.
+     * @param squareIndex The index of the square.
+     * @param alliance    The piece's alliance.
+     * @param pieceType   The piece's type.
+     * @return Whether the square holds a piece of the given alliance and type that has not made its first move.
+     */
+    private static boolean isFirstMovePiece(final Board board,
+                                            final int squareIndex,
+                                            final Alliance alliance,
+                                            final PieceType pieceType) {
+        final Piece piece = board.getPiece(squareIndex);
+        return piece != null &&
+               piece.getPieceAlliance() == alliance &&
+               piece.getPieceType() == pieceType &&
+               piece.isFirstMove();
+    }
+}
@@ -0,0 +1,162 @@
+package com.chess.engine.utils;
+
+import com.chess.engine.pieces.Piece.PieceType;
+
+import static com.chess.engine.utils.BitboardUtils.*;
+import static com.chess.engine.utils.BoardUtils.RANK_NUM_SQUARES;
+import static com.chess.engine.utils.LegalityUtils.calculateAttackers;
+import static com.chess.engine.utils.MagicBitboardUtils.getBishopAttacks;
+import static com.chess.engine.utils.MagicBitboardUtils.getRookAttacks;
+
+/**
+ * Holds the static exchange evaluation (SEE), which works out how much material a move wins or loses on its
+ * destination square once every capture on that square has played out. After the move, the players take turns
+ * capturing on the square with their least valuable attacker, and either player may stop capturing whenever going on
+ * would lose material. The captures are played out on the occupancy alone, so no board is ever made:
+ * <ul>
+ *     <li>A sliding piece behind an attacker on the same line (an x-ray attacker) joins in once the attacker in
+ *     front of it has captured.</li>
+ *     <li>A king only captures when the opponent has nothing left to capture it with.</li>
+ *     <li>Pins are not looked at, so a pinned piece may still take part in the exchange.</li>
+ * </ul>
+ * The gain of every capture is written to a buffer the caller owns, so that the evaluation allocates nothing.
+ *
+ * @author Jamie Canada
+ * @since 10/28/25
+ */
+public class ExchangeUtils {
+    // Every capture removes a piece, so an exchange never has more captures than there are pieces
+    public static final int MAX_EXCHANGE_LENGTH = 33;
+
+    private static final PieceType[] PIECE_TYPES = PieceType.values();
+
+    /**
+     * Returns how much material the mover wins (or loses, if negative) once the capture sequence on the move's
+     * destination square has played out.
+     *
+     * @param pieceBitboards   The bitboards of every alliance and piece type.
+     * @param occupancy        The bitboard of all the occupied squares.
+     * @param alliance         The mover's alliance ordinal.
+     * @param currentIndex     Where the moved piece is.
+     * @param destinationIndex Where the moved piece goes.
+     * @param movedType        The type of the moved piece.
+     * @param capturedType     The type of the captured piece, or null if the move captures nothing.
+     * @param promotionType    The type the moved pawn promotes to, or null if the move is not a promotion.
+     * @param isEnPassant      Whether the move is an en passant attack.
+     * @param gains            The buffer the gain of every capture is written to, of MAX_EXCHANGE_LENGTH ints.
+     * @return How much material the mover wins once the capture sequence has played out.
+     */
+    public static int evaluateExchange(final long[] pieceBitboards,
+                                       final long occupancy,
+                                       final int alliance,
+                                       final int currentIndex,
+                                       final int destinationIndex,
+                                       final PieceType movedType,
+                                       final PieceType capturedType,
+                                       final PieceType promotionType,
+                                       final boolean isEnPassant,
+                                       final int[] gains) {
+        long remainingOccupancy = occupancy & ~getSquareBit(currentIndex);
+        if (isEnPassant) {
+            // A white pawn moves towards the lower indices, so the pawn it captures is one rank above its destination
+            remainingOccupancy &= ~getSquareBit(destinationIndex + (alliance == 0 ? RANK_NUM_SQUARES :
+                                                                                    -RANK_NUM_SQUARES));
+        }
+        gains[0] = capturedType == null ? 0 : capturedType.getPieceValue();
+        int targetValue = movedType.getPieceValue();
+        if (promotionType != null) {
+            gains[0] += promotionType.getPieceValue() - PieceType.PAWN.getPieceValue();
+            targetValue = promotionType.getPieceValue();
+        }
+
+        final long diagonalSliders = getSliders(pieceBitboards, PieceType.BISHOP);
+        final long straightSliders = getSliders(pieceBitboards, PieceType.ROOK);
+        long attackers = (calculateAttackers(pieceBitboards, remainingOccupancy, destinationIndex, 0) |
+                          calculateAttackers(pieceBitboards, remainingOccupancy, destinationIndex, 1)) &
+                         remainingOccupancy;
+        int side = alliance ^ 1, numCaptures = 0;
+        while (true) {
+            final long sideAttackers = attackers & getAllianceOccupancy(pieceBitboards, side);
+            if (sideAttackers == 0) {
+                break;
+            }
+            final int attackerIndex = findLeastValuableAttacker(pieceBitboards, sideAttackers, side);
+            final PieceType attackerType = PIECE_TYPES[attackerIndex - side * NUM_PIECE_TYPES];
+            // A king cannot capture onto a square the opponent still attacks
+            if (attackerType == PieceType.KING && (attackers & ~sideAttackers) != 0) {
+                break;
+            }
+            numCaptures++;
+            gains[numCaptures] = targetValue - gains[numCaptures - 1];
+            targetValue = attackerType.getPieceValue();
+
+            // The capturer leaves its square, which may uncover a sliding piece behind it
+            remainingOccupancy &= ~Long.lowestOneBit(pieceBitboards[attackerIndex] & sideAttackers);
+            attackers |= (getBishopAttacks(destinationIndex, remainingOccupancy) & diagonalSliders) |
+                         (getRookAttacks(destinationIndex, remainingOccupancy) & straightSliders);
+            attackers &= remainingOccupancy;
+            side ^= 1;
+        }
+
+        // Going back from the last capture, each player takes the capture only if it gains more than stopping
+        for (int i = numCaptures; i > 0; i--) {
+            gains[i - 1] = -Math.max(-gains[i - 1], gains[i]);
+        }
+
+        return gains[0];
+    }
+
+    /**
+     * Returns the bitboard index of the given alliance's least valuable piece among the attackers.
+     *
+     * @param pieceBitboards The bitboards of every alliance and piece type.
+     * @param sideAttackers  The bitboard of the alliance's pieces that attack the square, which must not be empty.
+     * @param alliance       The attacking alliance's ordinal.
+     * @return The bitboard index of the alliance's least valuable attacker.
+     */
+    private static int findLeastValuableAttacker(final long[] pieceBitboards,
+                                                 final long sideAttackers,
+                                                 final int alliance) {
+        int bitboardIndex = alliance * NUM_PIECE_TYPES;
+        // The piece types go from the least valuable to the most valuable
+        while ((pieceBitboards[bitboardIndex] & sideAttackers) == 0) {
+            bitboardIndex++;
+        }
+
+        return bitboardIndex;
+    }
+
+    /**
+     * Returns the bitboard of both alliances' queens and pieces of the given sliding type.
+     *
+     * @param pieceBitboards The bitboards of every alliance and piece type.
+     * @param sliderType     BISHOP for the diagonal sliders, or ROOK for the straight ones.
+     * @return The bitboard of both alliances' queens and pieces of the given sliding type.
+     */
+    private static long getSliders(final long[] pieceBitboards, final PieceType sliderType) {
+        long sliders = EMPTY_BITBOARD;
+        for (int alliance = 0; alliance < 2; alliance++) {
+            final int firstIndex = alliance * NUM_PIECE_TYPES;
+            sliders |= pieceBitboards[firstIndex + sliderType.ordinal()] |
+                       pieceBitboards[firstIndex + PieceType.QUEEN.ordinal()];
+        }
+
+        return sliders;
+    }
+
+    /**
+     * Returns the bitboard of all the squares the given alliance occupies.
+     *
+     * @param pieceBitboards The bitboards of every alliance and piece type.
+     * @param alliance       The alliance's ordinal.
+     * @return The bitboard of all the squares the given alliance occupies.
+     */
+    private static long getAllianceOccupancy(final long[] pieceBitboards, final int alliance) {
+        long occupancy = EMPTY_BITBOARD;
+        for (int i = alliance * NUM_PIECE_TYPES; i < (alliance + 1) * NUM_PIECE_TYPES; i++) {
+            occupancy |= pieceBitboards[i];
+        }
+
+        return occupancy;
+    }
+}
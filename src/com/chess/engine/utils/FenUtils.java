@@ -0,0 +1,179 @@
+package com.chess.engine.utils;
+
+import com.chess.engine.Alliance;
+import com.chess.engine.board.Board;
+import com.chess.engine.board.Board.Builder;
+import com.chess.engine.pieces.Pawn;
+import com.chess.engine.pieces.Piece;
+import com.chess.engine.pieces.Piece.PieceType;
+
+import static com.chess.engine.utils.BoardUtils.*;
+import static com.chess.engine.utils.CastlingUtils.*;
+import static com.chess.engine.utils.PawnUtils.isInitialPawnPosition;
+import static com.chess.engine.utils.PiecePositions.getCachedPiece;
+
+/**
+ * Holds the methods that read a chessboard from Forsyth-Edwards Notation (FEN), e.g., the initial chessboard is
+ * "rnbqkbnr/pppppppp/8/8/8/8/PPPPPPPP/RNBQKBNR w KQkq - 0 1". The halfmove clock and fullmove number are not kept by
+ * the chessboard, so they are ignored.
+ *
+ * @author Jamie Canada
+ * @since 10/22/25
+ */
+public class FenUtils {
+    private static final String PIECE_CHARACTERS = "pnbrqk";
+    private static final String CASTLING_CHARACTERS = "KQkq";
+    private static final int[] CASTLING_RIGHTS = { WHITE_KINGSIDE, WHITE_QUEENSIDE, BLACK_KINGSIDE, BLACK_QUEENSIDE };
+    private static final int[] CASTLING_ROOK_INDICES = { WHITE_KING_INDEX + 3,
+                                                         WHITE_KING_INDEX - 4,
+                                                         BLACK_KING_INDEX + 3,
+                                                         BLACK_KING_INDEX - 4 };
+
+    /**
+     * Returns the chessboard described by the given FEN string. Since the chessboard keeps castling rights as whether
+     * the king and rooks have made their first move, a king and rook are only marked as not having moved yet when the
+     * FEN string grants the castle. The same goes for pawns on their initial rank, which can still advance by two
+     * squares.
+     *
+     * @param fen The FEN string of the chessboard.
+     * @return The chessboard described by the given FEN string.
+     */
+    public static Board createBoard(final String fen) {
+        final String[] fields = fen.trim().split("\\s+");
+        if (fields.length < 4) {
+            throw new IllegalArgumentException("The FEN string \"" + fen + "\" needs at least four fields.");
+        }
+
+        final int castlingRights = parseCastlingRights(fields[2]);
+        final Builder builder = new Builder();
+        setPieces(builder, fields[0], castlingRights);
+
+        final Alliance moveMaker = switch (fields[1]) {
+            case "w" -> Alliance.WHITE;
+            case "b" -> Alliance.BLACK;
+            default -> throw new IllegalArgumentException("\"" + fields[1] + "\" is not a side to move.");
+        };
+        builder.setMoveMaker(moveMaker);
+
+        if (!fields[3].equals("-")) {
+            if (!POSITIONS_TO_INDICES.containsKey(fields[3])) {
+                throw new IllegalArgumentException("\"" + fields[3] + "\" is not an en passant square.");
+            }
+            // The en passant square is the one the pawn skipped over, so the pawn is one square further
+            final int enPassantIndex = getIndexAtPosition(fields[3]);
+            final int pawnIndex = enPassantIndex + (moveMaker.isWhite() ? RANK_NUM_SQUARES : -RANK_NUM_SQUARES);
+            final Alliance pawnAlliance = moveMaker.isWhite() ? Alliance.BLACK : Alliance.WHITE;
+            final Piece pawn = enPassantIndex / RANK_NUM_SQUARES == (moveMaker.isWhite() ? 2 : 5) ?
+                               builder.getPiece(pawnIndex) :
+                               null;
+            if (pawn == null || pawn.getPieceType() != PieceType.PAWN || pawn.getPieceAlliance() != pawnAlliance) {
+                throw new IllegalArgumentException("\"" + fields[3] + "\" has no pawn that just advanced over it.");
+            }
+            builder.setEnPassantPawn((Pawn) pawn);
+        }
+
+        return builder.build();
+    }
+
+    /**
+     * Sets the pieces of the FEN string's piece placement field, which lists the ranks from the eighth to the first.
+     *
+     * @param builder        What sets the pieces on the chessboard.
+     * @param piecePlacement The piece placement field of the FEN string.
+     * @param castlingRights The castling rights granted by the FEN string.
+     */
+    private static void setPieces(final Builder builder, final String piecePlacement, final int castlingRights) {
+        final String[] ranks = piecePlacement.split("/");
+        if (ranks.length != RANK_NUM_SQUARES) {
+            throw new IllegalArgumentException("\"" + piecePlacement + "\" does not have eight ranks.");
+        }
+
+        for (int rank = 0; rank < RANK_NUM_SQUARES; rank++) {
+            int file = 0;
+            for (final char character : ranks[rank].toCharArray()) {
+                if (Character.isDigit(character)) {
+                    file += character - '0';
+                    continue;
+                }
+                final int pieceTypeIndex = PIECE_CHARACTERS.indexOf(Character.toLowerCase(character));
+                if (pieceTypeIndex < 0 || !isValidPosition(rank, file)) {
+                    throw new IllegalArgumentException("\"" + ranks[rank] + "\" is not a valid rank.");
+                }
+                final Alliance alliance = Character.isUpperCase(character) ? Alliance.WHITE : Alliance.BLACK;
+                final PieceType pieceType = PieceType.values()[pieceTypeIndex];
+                final int squareIndex = rank * RANK_NUM_SQUARES + file;
+                final boolean firstMove = isFirstMove(alliance, pieceType, rank, squareIndex, castlingRights);
+                builder.setPiece(getCachedPiece(alliance, pieceType, firstMove, squareIndex));
+                file++;
+            }
+            if (file != RANK_NUM_SQUARES) {
+                throw new IllegalArgumentException("\"" + ranks[rank] + "\" does not have eight files.");
+            }
+        }
+    }
+
+    /**
+     * Returns whether the piece is treated as not having made its first move yet.
+     *
+     * @param alliance       The piece's alliance.
+     * @param pieceType      The piece's type.
+     * @param rank           The piece's rank.
+     * @param squareIndex    The index of the piece's square.
+     * @param castlingRights The castling rights granted by the FEN string.
+     * @return Whether the piece is treated as not having made its first move yet.
+     */
+    private static boolean isFirstMove(final Alliance alliance,
+                                       final PieceType pieceType,
+                                       final int rank,
+                                       final int squareIndex,
+                                       final int castlingRights) {
+        final int allianceRights = castlingRights & (alliance.isWhite() ? WHITE_KINGSIDE | WHITE_QUEENSIDE :
+                                                                          BLACK_KINGSIDE | BLACK_QUEENSIDE);
+        return switch (pieceType) {
+            case PAWN -> isInitialPawnPosition(alliance, rank);
+            case KING -> allianceRights != NO_CASTLING_RIGHTS &&
+                         squareIndex == (alliance.isWhite() ? WHITE_KING_INDEX : BLACK_KING_INDEX);
+            case ROOK -> isCastlingRook(squareIndex, allianceRights);
+            default -> false;
+        };
+    }
+
+    /**
+     * Returns whether a rook on the given square takes part in one of the given castles.
+     *
+     * @param squareIndex    The index of the rook's square.
+     * @param castlingRights The castling rights of the rook's alliance.
+     * @return Whether a rook on the given square takes part in one of the given castles.
+     */
+    private static boolean isCastlingRook(final int squareIndex, final int castlingRights) {
+        for (int i = 0; i < CASTLING_RIGHTS.length; i++) {
+            if ((castlingRights & CASTLING_RIGHTS[i]) != 0 && CASTLING_ROOK_INDICES[i] == squareIndex) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * Returns the castling rights of the FEN string's castling field, e.g., "KQkq" or "-".
+     *
+     * @param castlingField The castling field of the FEN string.
+     * @return The castling rights of the FEN string's castling field.
+     */
+    private static int parseCastlingRights(final String castlingField) {
+        int castlingRights = NO_CASTLING_RIGHTS;
+        if (castlingField.equals("-")) {
+            return castlingRights;
+        }
+        for (final char character : castlingField.toCharArray()) {
+            final int castlingIndex = CASTLING_CHARACTERS.indexOf(character);
+            if (castlingIndex < 0) {
+                throw new IllegalArgumentException("\"" + castlingField + "\" is not a valid castling field.");
+            }
+            castlingRights |= CASTLING_RIGHTS[castlingIndex];
+        }
+
+        return castlingRights;
+    }
+}
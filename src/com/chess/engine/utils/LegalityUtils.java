@@ -0,0 +1,206 @@
+package com.chess.engine.utils;
+
+import com.chess.engine.pieces.Piece.PieceType;
+
+import static com.chess.engine.utils.BitboardUtils.*;
+import static com.chess.engine.utils.BoardUtils.BOARD_NUM_SQUARES;
+import static com.chess.engine.utils.BoardUtils.RANK_NUM_SQUARES;
+import static com.chess.engine.utils.MagicBitboardUtils.getBishopAttacks;
+import static com.chess.engine.utils.MagicBitboardUtils.getRookAttacks;
+
+/**
+ * Holds the methods that decide whether a move is legal without making it. Before the moves of a position are looked
+ * at, the pieces that give check and the pieces pinned to the king are worked out once, after which a move is legal
+ * when:
+ * <ul>
+ *     <li>a king move does not land on a square the opponent attacks, with the king taken off the board so that it
+ *     does not hide the squares behind it from a sliding piece.</li>
+ *     <li>any other move is not made in double check, captures or blocks the only checker (if any), and keeps a pinned
+ *     piece on the line through its king and its pinner.</li>
+ *     <li>an en passant attack, which takes two pawns off one rank at once, does not uncover an attack on the king.</li>
+ * </ul>
+ * A castle counts as a king move to its destination, while the squares the king crosses are left to the castle's
+ * generator.
+ *
+ * @author Jamie Canada
+ * @since 10/28/25
+ */
+public class LegalityUtils {
+    // The squares strictly between two squares, and the whole line through them, when they share a rank, file, or
+    // diagonal (or else the empty bitboard)
+    private static final long[][] BETWEEN = new long[BOARD_NUM_SQUARES][BOARD_NUM_SQUARES];
+    private static final long[][] LINE = new long[BOARD_NUM_SQUARES][BOARD_NUM_SQUARES];
+
+    static {
+        for (int firstSquare = 0; firstSquare < BOARD_NUM_SQUARES; firstSquare++) {
+            for (int secondSquare = 0; secondSquare < BOARD_NUM_SQUARES; secondSquare++) {
+                initializeLine(firstSquare, secondSquare);
+            }
+        }
+    }
+
+    /**
+     * Fills in the squares between the two squares and the line through them, if the two squares share a rank, file,
+     * or diagonal. A sliding piece on either square attacks every square between them once the other one is the only
+     * blocker, and the line is where the rays of both squares meet.
+     *
+     * @param firstSquare  The index of the first square.
+     * @param secondSquare The index of the second square.
+     */
+    private static void initializeLine(final int firstSquare, final int secondSquare) {
+        final long firstBit = getSquareBit(firstSquare), secondBit = getSquareBit(secondSquare);
+        if ((getRookAttacks(firstSquare, EMPTY_BITBOARD) & secondBit) != 0) {
+            BETWEEN[firstSquare][secondSquare] = getRookAttacks(firstSquare, secondBit) &
+                                                 getRookAttacks(secondSquare, firstBit);
+            LINE[firstSquare][secondSquare] = (getRookAttacks(firstSquare, EMPTY_BITBOARD) &
+                                               getRookAttacks(secondSquare, EMPTY_BITBOARD)) | firstBit | secondBit;
+        } else if ((getBishopAttacks(firstSquare, EMPTY_BITBOARD) & secondBit) != 0) {
+            BETWEEN[firstSquare][secondSquare] = getBishopAttacks(firstSquare, secondBit) &
+                                                 getBishopAttacks(secondSquare, firstBit);
+            LINE[firstSquare][secondSquare] = (getBishopAttacks(firstSquare, EMPTY_BITBOARD) &
+                                               getBishopAttacks(secondSquare, EMPTY_BITBOARD)) | firstBit | secondBit;
+        }
+    }
+
+    /**
+     * Returns the bitboard of the pieces of the given alliance that attack the square. Like
+     * BitboardUtils.isSquareAttacked(), the square is looked at from the outside in.
+     *
+     * @param pieceBitboards The bitboards of every alliance and piece type.
+     * @param occupancy      The bitboard of all the occupied squares, which blocks the sliding pieces.
+     * @param squareIndex    The index of the square.
+     * @param alliance       The attacking alliance's ordinal.
+     * @return The bitboard of the pieces of the given alliance that attack the square.
+     */
+    public static long calculateAttackers(final long[] pieceBitboards,
+                                          final long occupancy,
+                                          final int squareIndex,
+                                          final int alliance) {
+        final int firstIndex = alliance * NUM_PIECE_TYPES;
+        final long queens = pieceBitboards[firstIndex + PieceType.QUEEN.ordinal()];
+
+        return (getPawnAttacks(alliance ^ 1, squareIndex) & pieceBitboards[firstIndex + PieceType.PAWN.ordinal()]) |
+               (getKnightAttacks(squareIndex) & pieceBitboards[firstIndex + PieceType.KNIGHT.ordinal()]) |
+               (getKingAttacks(squareIndex) & pieceBitboards[firstIndex + PieceType.KING.ordinal()]) |
+               (getRookAttacks(squareIndex, occupancy) &
+                (pieceBitboards[firstIndex + PieceType.ROOK.ordinal()] | queens)) |
+               (getBishopAttacks(squareIndex, occupancy) &
+                (pieceBitboards[firstIndex + PieceType.BISHOP.ordinal()] | queens));
+    }
+
+    /**
+     * Returns the bitboard of the pieces of the given alliance that are pinned to their king. A piece is pinned when
+     * it is the only piece between its king and an opponent's sliding piece that moves along the line between them.
+     *
+     * @param pieceBitboards The bitboards of every alliance and piece type.
+     * @param occupancy      The bitboard of all the occupied squares.
+     * @param kingIndex      The index of the king's square.
+     * @param alliance       The king's alliance ordinal.
+     * @return The bitboard of the pieces of the given alliance that are pinned to their king.
+     */
+    public static long calculatePinnedPieces(final long[] pieceBitboards,
+                                             final long occupancy,
+                                             final int kingIndex,
+                                             final int alliance) {
+        final int opponentIndex = (alliance ^ 1) * NUM_PIECE_TYPES;
+        final long opponentQueens = pieceBitboards[opponentIndex + PieceType.QUEEN.ordinal()];
+        // The opponent's sliding pieces that would attack the king on an empty board
+        long pinners = (getRookAttacks(kingIndex, EMPTY_BITBOARD) &
+                        (pieceBitboards[opponentIndex + PieceType.ROOK.ordinal()] | opponentQueens)) |
+                       (getBishopAttacks(kingIndex, EMPTY_BITBOARD) &
+                        (pieceBitboards[opponentIndex + PieceType.BISHOP.ordinal()] | opponentQueens));
+        long pinnedPieces = EMPTY_BITBOARD;
+        for (; pinners != 0; pinners = clearLowestSquare(pinners)) {
+            final long blockers = BETWEEN[kingIndex][getLowestSquare(pinners)] & occupancy;
+            if (Long.bitCount(blockers) == 1) {
+                pinnedPieces |= blockers;
+            }
+        }
+
+        // A lone blocker may also be the opponent's, which does no harm, since only the mover's pieces are looked up
+        return pinnedPieces;
+    }
+
+    /**
+     * Returns whether a move keeps the mover's king out of check.
+     *
+     * @param pieceBitboards   The bitboards of every alliance and piece type.
+     * @param occupancy        The bitboard of all the occupied squares.
+     * @param alliance         The mover's alliance ordinal.
+     * @param kingIndex        The index of the mover's king's square.
+     * @param checkers         The bitboard of the opponent's pieces that give check.
+     * @param pinnedPieces     The bitboard of the mover's pieces that are pinned to the king.
+     * @param currentIndex     Where the moved piece is.
+     * @param destinationIndex Where the moved piece goes.
+     * @param isEnPassant      Whether the move is an en passant attack.
+     * @return Whether the move keeps the mover's king out of check.
+     */
+    public static boolean isLegalMove(final long[] pieceBitboards,
+                                      final long occupancy,
+                                      final int alliance,
+                                      final int kingIndex,
+                                      final long checkers,
+                                      final long pinnedPieces,
+                                      final int currentIndex,
+                                      final int destinationIndex,
+                                      final boolean isEnPassant) {
+        if (currentIndex == kingIndex) {
+            return !isSquareAttacked(pieceBitboards, occupancy & ~getSquareBit(kingIndex), destinationIndex, alliance ^ 1);
+        }
+        if (isEnPassant) {
+            return isLegalEnPassant(pieceBitboards, occupancy, alliance, kingIndex, checkers, currentIndex,
+                                    destinationIndex);
+        }
+        if (checkers != 0) {
+            // Only the king can escape a double check, and a single check has to be captured or blocked
+            if (Long.bitCount(checkers) > 1) {
+                return false;
+            }
+            final long evasions = checkers | BETWEEN[kingIndex][getLowestSquare(checkers)];
+            if ((evasions & getSquareBit(destinationIndex)) == 0) {
+                return false;
+            }
+        }
+
+        return (pinnedPieces & getSquareBit(currentIndex)) == 0 ||
+               (LINE[kingIndex][currentIndex] & getSquareBit(destinationIndex)) != 0;
+    }
+
+    /**
+     * Returns whether an en passant attack keeps the mover's king out of check. Both pawns leave the rank they share,
+     * so the attack is played out on the occupancy and the king is checked for a sliding attacker afterwards. A pawn
+     * or knight that gives check is only dealt with if it is the pawn that is captured.
+     *
+     * @param pieceBitboards   The bitboards of every alliance and piece type.
+     * @param occupancy        The bitboard of all the occupied squares.
+     * @param alliance         The mover's alliance ordinal.
+     * @param kingIndex        The index of the mover's king's square.
+     * @param checkers         The bitboard of the opponent's pieces that give check.
+     * @param currentIndex     Where the capturing pawn is.
+     * @param destinationIndex Where the capturing pawn goes.
+     * @return Whether the en passant attack keeps the mover's king out of check.
+     */
+    private static boolean isLegalEnPassant(final long[] pieceBitboards,
+                                            final long occupancy,
+                                            final int alliance,
+                                            final int kingIndex,
+                                            final long checkers,
+                                            final int currentIndex,
+                                            final int destinationIndex) {
+        final int opponentIndex = (alliance ^ 1) * NUM_PIECE_TYPES;
+        // A white pawn moves towards the lower indices, so the pawn it captures is one rank above its destination
+        final int capturedIndex = destinationIndex + (alliance == 0 ? RANK_NUM_SQUARES : -RANK_NUM_SQUARES);
+        final long capturedBit = getSquareBit(capturedIndex);
+        final long afterOccupancy = (occupancy & ~getSquareBit(currentIndex) & ~capturedBit) |
+                                    getSquareBit(destinationIndex);
+        final long opponentLeapers = pieceBitboards[opponentIndex + PieceType.PAWN.ordinal()] |
+                                     pieceBitboards[opponentIndex + PieceType.KNIGHT.ordinal()];
+        final long opponentQueens = pieceBitboards[opponentIndex + PieceType.QUEEN.ordinal()];
+
+        return (checkers & opponentLeapers & ~capturedBit) == 0 &&
+               (getRookAttacks(kingIndex, afterOccupancy) &
+                (pieceBitboards[opponentIndex + PieceType.ROOK.ordinal()] | opponentQueens)) == 0 &&
+               (getBishopAttacks(kingIndex, afterOccupancy) &
+                (pieceBitboards[opponentIndex + PieceType.BISHOP.ordinal()] | opponentQueens)) == 0;
+    }
+}
@@ -0,0 +1,244 @@
+package com.chess.engine.utils;
+
+import com.chess.engine.pieces.Piece.PieceType;
+
+import static com.chess.engine.Position.getPositionIndex;
+import static com.chess.engine.utils.BitboardUtils.EMPTY_BITBOARD;
+import static com.chess.engine.utils.BitboardUtils.getSquareBit;
+import static com.chess.engine.utils.BoardUtils.*;
+import static com.chess.engine.utils.PieceConstants.*;
+
+/**
+ * Holds the magic bitboards of the sliding pieces. Which squares a rook or bishop attacks depends on the square it is
+ * on and on the pieces that block its rays, so every blocker arrangement of every square is worked out once, when the
+ * class is loaded, and looked up in constant time afterwards:
+ * <ol>
+ *     <li>The occupancy is masked down to the squares that can block the piece's rays. The last square of a ray
+ *     never blocks anything behind it, so it is left out of the mask.</li>
+ *     <li>The masked occupancy is multiplied by the square's magic number, which gathers the blocker bits into the top
+ *     bits of the product without two arrangements with different attacks ending up in the same place.</li>
+ *     <li>The top bits are the index of the attacks in the square's table.</li>
+ * </ol>
+ * The magic numbers were found ahead of time by a trial-and-error search over sparse random numbers. Searching for them
+ * whenever the class is loaded would take seconds, while filling the tables with known magic numbers takes a moment.
+ *
+ * @author Jamie Canada
+ * @since 10/28/25
+ */
+public class MagicBitboardUtils {
+    private static final long[] ROOK_MAGICS = {
+            0x4A00110200402080L, 0x2640100040002000L, 0x1080200010008008L, 0xC100082010000500L,
+            0x0200201008050200L, 0x12002600184C1001L, 0xC100008200010004L, 0x4080004100002080L,
+            0x0000802080004004L, 0x0042400050002004L, 0x4901004020001107L, 0x0102800800900080L,
+            0x0030800800040080L, 0x0010800400804200L, 0x1002000801020004L, 0x8041000100004082L,
+            0x0080004040002000L, 0x0880414010022008L, 0x0042020012822040L, 0x0008808010000803L,
+            0x0000828004000800L, 0x8244808004000200L, 0x2200010100020004L, 0x000022000108804CL,
+            0x4000800080204002L, 0x0000200840100042L, 0x0120200100110040L, 0x283000210011000CL,
+            0x4480080100110004L, 0x0480040080800200L, 0x0204010080800200L, 0x4000204200008401L,
+            0x0040002040800081L, 0x0240200080804000L, 0x0180E00082801000L, 0x0C58100280800800L,
+            0x0104000800800482L, 0x2002040080800200L, 0x0000621814000110L, 0x5414408406000841L,
+            0x1048804000258001L, 0x0080201000404000L, 0x0800200011010040L, 0x8003001000090020L,
+            0x0400040008008080L, 0x4041000400030018L, 0x0800010810040002L, 0x0008008C20420001L,
+            0x8880004000802080L, 0x0000810020400100L, 0x1910102200804200L, 0x2000080010008280L,
+            0x0001000418001300L, 0x0014002200800480L, 0x1400100802410400L, 0x02010006108C4100L,
+            0x0C84804600201102L, 0x0000126501804001L, 0x0844200010090041L, 0x000D00841000A0A9L,
+            0x0012002008041002L, 0x0802000844013082L, 0x4002000408008102L, 0x80000C0047002882L };
+    private static final long[] BISHOP_MAGICS = {
+            0x8120284908228010L, 0x4010420801113002L, 0x0008080040840200L, 0x0204040084000086L,
+            0x0012021110000020L, 0x0320900420400040L, 0x4002088405400002L, 0xC902030090900809L,
+            0x2010040802080A30L, 0x2048301051004889L, 0x0008049C04004000L, 0x20084C04248A0D08L,
+            0x1100C410A8200A00L, 0x0020109030180928L, 0x0004021082094000L, 0x0000504108119008L,
+            0x0042022102420208L, 0x0004008288080102L, 0x2048000418240010L, 0x800508280C110020L,
+            0x3404000210140031L, 0x0202010148021804L, 0x0046809048245000L, 0x1900400308580400L,
+            0x0003400B48080840L, 0x010208806001040DL, 0x0028041108003020L, 0x008E404004010200L,
+            0x0084840022020200L, 0x000A002204100800L, 0x00A802108100C201L, 0x0040410000840105L,
+            0x401004120020020AL, 0x0588018400480810L, 0x1008104400280800L, 0x85202008000D0070L,
+            0x8004010010440040L, 0x00322081008A0050L, 0x1401040418010110L, 0x0008008420008200L,
+            0x0002080208094042L, 0x00108C9010401808L, 0x03002062A8001010L, 0x8080041144048802L,
+            0x0000405408200900L, 0x0060481002400822L, 0x040411C40102D400L, 0x001400A602001048L,
+            0x5484014808040602L, 0x8009006104201000L, 0x0060002528080300L, 0x8402200042120800L,
+            0x00100008A1010202L, 0x0022411042008280L, 0x0840220C84098402L, 0x23080A0802022C40L,
+            0x0080104804300800L, 0x080000420A101210L, 0x2261000200840480L, 0x040001000120A800L,
+            0x4000582010920602L, 0x048100A220820082L, 0x0820041084080880L, 0x080242840C008201L };
+
+    private static final long[] ROOK_MASKS = new long[BOARD_NUM_SQUARES];
+    private static final long[] BISHOP_MASKS = new long[BOARD_NUM_SQUARES];
+    private static final int[] ROOK_SHIFTS = new int[BOARD_NUM_SQUARES];
+    private static final int[] BISHOP_SHIFTS = new int[BOARD_NUM_SQUARES];
+    private static final long[][] ROOK_ATTACKS = new long[BOARD_NUM_SQUARES][];
+    private static final long[][] BISHOP_ATTACKS = new long[BOARD_NUM_SQUARES][];
+
+    static {
+        for (int squareIndex = 0; squareIndex < BOARD_NUM_SQUARES; squareIndex++) {
+            initializeSquare(squareIndex, ROOK_RANK_OFFSETS, ROOK_FILE_OFFSETS,
+                             ROOK_MASKS, ROOK_MAGICS, ROOK_SHIFTS, ROOK_ATTACKS);
+            initializeSquare(squareIndex, BISHOP_RANK_OFFSETS, BISHOP_FILE_OFFSETS,
+                             BISHOP_MASKS, BISHOP_MAGICS, BISHOP_SHIFTS, BISHOP_ATTACKS);
+        }
+    }
+
+    /**
+     * Returns the bitboard of the squares a rook on the given square attacks, i.e., every square along its rays up to
+     * and including the first occupied one.
+     *
+     * @param squareIndex The index of the rook's square.
+     * @param occupancy   The bitboard of all the occupied squares.
+     * @return The bitboard of the squares a rook on the given square attacks.
+     */
+    public static long getRookAttacks(final int squareIndex, final long occupancy) {
+        return ROOK_ATTACKS[squareIndex][getMagicIndex(occupancy & ROOK_MASKS[squareIndex],
+                                                       ROOK_MAGICS[squareIndex],
+                                                       ROOK_SHIFTS[squareIndex])];
+    }
+
+    /**
+     * Returns the bitboard of the squares a bishop on the given square attacks, i.e., every square along its rays up
+     * to and including the first occupied one.
+     *
+     * @param squareIndex The index of the bishop's square.
+     * @param occupancy   The bitboard of all the occupied squares.
+     * @return The bitboard of the squares a bishop on the given square attacks.
+     */
+    public static long getBishopAttacks(final int squareIndex, final long occupancy) {
+        return BISHOP_ATTACKS[squareIndex][getMagicIndex(occupancy & BISHOP_MASKS[squareIndex],
+                                                         BISHOP_MAGICS[squareIndex],
+                                                         BISHOP_SHIFTS[squareIndex])];
+    }
+
+    /**
+     * Returns the bitboard of the squares a queen on the given square attacks, which are those of a rook and a bishop
+     * on the same square.
+     *
+     * @param squareIndex The index of the queen's square.
+     * @param occupancy   The bitboard of all the occupied squares.
+     * @return The bitboard of the squares a queen on the given square attacks.
+     */
+    public static long getQueenAttacks(final int squareIndex, final long occupancy) {
+        return getRookAttacks(squareIndex, occupancy) | getBishopAttacks(squareIndex, occupancy);
+    }
+
+    /**
+     * Returns the bitboard of the squares a sliding piece of the given type on the given square attacks.
+     *
+     * @param pieceType   The sliding piece's type, i.e., BISHOP, ROOK, or QUEEN.
+     * @param squareIndex The index of the sliding piece's square.
+     * @param occupancy   The bitboard of all the occupied squares.
+     * @return The bitboard of the squares a sliding piece of the given type on the given square attacks.
+     */
+    public static long getSlidingAttacks(final PieceType pieceType, final int squareIndex, final long occupancy) {
+        return switch (pieceType) {
+            case BISHOP -> getBishopAttacks(squareIndex, occupancy);
+            case ROOK -> getRookAttacks(squareIndex, occupancy);
+            case QUEEN -> getQueenAttacks(squareIndex, occupancy);
+            default -> throw new IllegalArgumentException(pieceType + " is not a sliding piece.");
+        };
+    }
+
+    /**
+     * Returns the index of the attacks of a masked occupancy in a square's table.
+     *
+     * @param maskedOccupancy The occupancy of the squares that can block the piece's rays.
+     * @param magic           The square's magic number.
+     * @param shift           How far the product is shifted, i.e., 64 minus the number of squares in the mask.
+     * @return The index of the attacks of a masked occupancy in a square's table.
+     */
+    private static int getMagicIndex(final long maskedOccupancy, final long magic, final int shift) {
+        return (int) ((maskedOccupancy * magic) >>> shift);
+    }
+
+    /**
+     * Works out the mask and attack table of a sliding piece on the given square.
+     *
+     * @param squareIndex The index of the square.
+     * @param rankOffsets The rank offsets of the piece's rays.
+     * @param fileOffsets The file offsets of the piece's rays.
+     * @param masks       Where the square's mask is kept.
+     * @param magics      The magic numbers of every square.
+     * @param shifts      Where the square's shift is kept.
+     * @param attacks     Where the square's attack table is kept.
+     */
+    private static void initializeSquare(final int squareIndex,
+                                         final int[] rankOffsets,
+                                         final int[] fileOffsets,
+                                         final long[] masks,
+                                         final long[] magics,
+                                         final int[] shifts,
+                                         final long[][] attacks) {
+        final long mask = calculateMask(squareIndex, rankOffsets, fileOffsets);
+        final int numBits = Long.bitCount(mask), shift = Long.SIZE - numBits;
+        final long[] table = new long[1 << numBits];
+
+        // Every subset of the mask, from the empty one up (the carry-rippler trick)
+        long occupancy = EMPTY_BITBOARD;
+        do {
+            final long occupancyAttacks = calculateAttacks(squareIndex, occupancy, rankOffsets, fileOffsets);
+            final int index = getMagicIndex(occupancy, magics[squareIndex], shift);
+            // Attacks are never empty, so an empty entry has not been filled yet
+            if (table[index] != EMPTY_BITBOARD && table[index] != occupancyAttacks) {
+                throw new IllegalStateException("The magic number of square " + squareIndex + " does not work.");
+            }
+            table[index] = occupancyAttacks;
+            occupancy = (occupancy - mask) & mask;
+        } while (occupancy != EMPTY_BITBOARD);
+
+        masks[squareIndex] = mask;
+        shifts[squareIndex] = shift;
+        attacks[squareIndex] = table;
+    }
+
+    /**
+     * Returns the mask of the squares that can block a sliding piece on the given square, which are the squares
+     * along its rays without the last one of each ray.
+     *
+     * @param squareIndex The index of the square.
+     * @param rankOffsets The rank offsets of the piece's rays.
+     * @param fileOffsets The file offsets of the piece's rays.
+     * @return The mask of the squares that can block a sliding piece on the given square.
+     */
+    private static long calculateMask(final int squareIndex, final int[] rankOffsets, final int[] fileOffsets) {
+        final int rank = squareIndex / RANK_NUM_SQUARES, file = squareIndex % FILE_NUM_SQUARES;
+        long mask = EMPTY_BITBOARD;
+        for (int i = 0; i < rankOffsets.length; i++) {
+            int destRank = rank + rankOffsets[i], destFile = file + fileOffsets[i];
+            while (isValidPosition(destRank + rankOffsets[i], destFile + fileOffsets[i])) {
+                mask |= getSquareBit(getPositionIndex(destRank, destFile));
+                destRank += rankOffsets[i];
+                destFile += fileOffsets[i];
+            }
+        }
+
+        return mask;
+    }
+
+    /**
+     * Returns the squares a sliding piece on the given square attacks, found by walking its rays up to and including
+     * the first occupied square. This is only used to fill the tables.
+     *
+     * @param squareIndex The index of the square.
+     * @param occupancy   The bitboard of the occupied squares.
+     * @param rankOffsets The rank offsets of the piece's rays.
+     * @param fileOffsets The file offsets of the piece's rays.
+     * @return The squares a sliding piece on the given square attacks.
+     */
+    private static long calculateAttacks(final int squareIndex,
+                                         final long occupancy,
+                                         final int[] rankOffsets,
+                                         final int[] fileOffsets) {
+        final int rank = squareIndex / RANK_NUM_SQUARES, file = squareIndex % FILE_NUM_SQUARES;
+        long attacks = EMPTY_BITBOARD;
+        for (int i = 0; i < rankOffsets.length; i++) {
+            int destRank = rank + rankOffsets[i], destFile = file + fileOffsets[i];
+            while (isValidPosition(destRank, destFile)) {
+                final long destBit = getSquareBit(getPositionIndex(destRank, destFile));
+                attacks |= destBit;
+                if ((occupancy & destBit) != 0) {
+                    break;
+                }
+                destRank += rankOffsets[i];
+                destFile += fileOffsets[i];
+            }
+        }
+
+        return attacks;
+    }
+}
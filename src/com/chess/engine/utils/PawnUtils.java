@@ -3,7 +3,6 @@ package com.chess.engine.utils;
 import com.chess.engine.Alliance;
 import com.chess.engine.Position;
 import com.chess.engine.board.Board;
-import com.chess.engine.board.Square;
 import com.chess.engine.moves.Move;
 import com.chess.engine.moves.pawn.PawnPromotion;
 import com.chess.engine.moves.pawn.advance.OneSquarePawnMove;
@@ -12,11 +11,14 @@ import com.chess.engine.moves.pawn.attack.EnPassantAttack;
 import com.chess.engine.moves.pawn.attack.PawnAttackMove;
 import com.chess.engine.pieces.Pawn;
 import com.chess.engine.pieces.Piece;
+import com.chess.engine.pieces.Piece.PieceType;
 
 import java.util.List;
 
 import static com.chess.engine.Position.ALL_BOARD_POSITIONS_CACHE;
+import static com.chess.engine.Position.getPosition;
 import static com.chess.engine.Position.getPositionIndex;
+import static com.chess.engine.utils.BitboardUtils.*;
 import static com.chess.engine.utils.BoardUtils.*;
 import static com.chess.engine.utils.PieceConstants.*;
 
@@ -84,18 +86,19 @@ public class PawnUtils {
                 final int destIndex = getPositionIndex(destRank, sourceFile);
                 if (isValidPosition(destRank, sourceFile)) {
                     final Position destPosition = ALL_BOARD_POSITIONS_CACHE.get(destIndex);
-                    final Square destSquare = board.getSquare(destPosition);
-                    if (!destSquare.isSquareOccupied()) {
+                    if (!board.isSquareOccupied(destIndex)) {
                         // Move on an empty square
                         if (Math.abs(destRank - sourceRank) == 1) {
                             // One square advance with possible pawn promotion
-                            legalMoves.add(pieceAlliance.isPromotionSquare(destPosition) ?
-                                    new PawnPromotion(new OneSquarePawnMove(board, movedPawn, destPosition)) :
-                                    new OneSquarePawnMove(board, movedPawn, destPosition));
+                            addPawnMove(new OneSquarePawnMove(board, movedPawn, destPosition),
+                                        pieceAlliance.isPromotionSquare(destPosition),
+                                        legalMoves);
                         } else if (Math.abs(destRank - sourceRank) == 2) {
                             if (movedPawn.isFirstMove() && isInitialPawnPosition(pieceAlliance, sourceRank)) {
-                                final Position behindDestRank = ALL_BOARD_POSITIONS_CACHE.get(destIndex + RANK_NUM_SQUARES);
-                                if (!board.getSquare(behindDestRank).isSquareOccupied()) {
+                                // The square the pawn jumps over is one square behind the destination
+                                final int skippedIndex = getPositionIndex(destRank - (destRank - sourceRank) / 2,
+                                                                          sourceFile);
+                                if (!board.isSquareOccupied(skippedIndex)) {
                                     // Two square advance (pawn jump)
                                     legalMoves.add(new TwoSquarePawnMove(board, movedPawn, destPosition));
                                 }
@@ -123,40 +126,48 @@ public class PawnUtils {
                                              final Board board,
                                              final Pawn movedPawn,
                                              final List<Move> legalMoves) {
-        for (int i = 0; i < PAWN_RANK_ATTACK_OFFSETS.length; i++) {
-            if (isValidPosition(sourceRank, sourceFile)) {
-                final int destRank = sourceRank + (PAWN_RANK_ATTACK_OFFSETS[i] * pieceAlliance.getDirection());
-                final int destFile = sourceFile + (PAWN_FILE_ATTACK_OFFSETS[i] * pieceAlliance.getDirection());
-                final int destIndex = getPositionIndex(destRank, destFile);
-
-                if (isValidPosition(destRank, destFile)) {
-                    final Position destPosition = ALL_BOARD_POSITIONS_CACHE.get(destIndex);
-                    final Square destSquare = board.getSquare(ALL_BOARD_POSITIONS_CACHE.get(destIndex));
-                    if (destSquare.isSquareOccupied()) {
-                        final Piece pieceOnSquare = destSquare.getPiece();
-                        if (pieceAlliance != pieceOnSquare.getPieceAlliance()) {
-                            // Attack opponent's piece with possible pawn promotion
-                            legalMoves.add(pieceAlliance.isPromotionSquare(destPosition) ?
-                                    new PawnPromotion(new PawnAttackMove(board,
-                                            movedPawn,
-                                            destPosition,
-                                            pieceOnSquare)) :
-                                    new PawnAttackMove(board, movedPawn, destPosition, pieceOnSquare));
-                        }
-                    } else if (board.getEnPassantPawn() != null) {
-                        final Pawn enPassantPawn = board.getEnPassantPawn();
-                        final int attackFileOffset = PAWN_FILE_ATTACK_OFFSETS[i];
-                        if (enPassantPawnOnSide(enPassantPawn, sourceRank, sourceFile, pieceAlliance, attackFileOffset)) {
-                            if (pieceAlliance != enPassantPawn.getPieceAlliance()) {
-                                legalMoves.add(new EnPassantAttack(board, movedPawn, destPosition, enPassantPawn));
-                            }
-                        }
+        for (long targets = getPawnAttacks(pieceAlliance.ordinal(), getPositionIndex(sourceRank, sourceFile));
+             targets != 0;
+             targets = clearLowestSquare(targets)) {
+            final int destIndex = getLowestSquare(targets);
+            final Position destPosition = getPosition(destIndex);
+            if (board.isSquareOccupied(destIndex)) {
+                final Piece pieceOnSquare = board.getPiece(destIndex);
+                if (pieceAlliance != pieceOnSquare.getPieceAlliance()) {
+                    // Attack opponent's piece with possible pawn promotion
+                    addPawnMove(new PawnAttackMove(board, movedPawn, destPosition, pieceOnSquare),
+                                pieceAlliance.isPromotionSquare(destPosition),
+                                legalMoves);
+                }
+            } else if (board.getEnPassantPawn() != null) {
+                final Pawn enPassantPawn = board.getEnPassantPawn();
+                final int attackFileOffset = (destPosition.file() - sourceFile) * pieceAlliance.getDirection();
+                if (enPassantPawnOnSide(enPassantPawn, sourceRank, sourceFile, pieceAlliance, attackFileOffset)) {
+                    if (pieceAlliance != enPassantPawn.getPieceAlliance()) {
+                        legalMoves.add(new EnPassantAttack(board, movedPawn, destPosition, enPassantPawn));
                     }
                 }
             }
         }
     }
 
+    /**
+     * Adds the pawn move to the legal moves, or a promotion to each possible piece if the pawn reaches its last rank.
+     *
+     * @param pawnMove    The pawn's advance or attack.
+     * @param isPromotion Whether the pawn reaches its last rank.
+     * @param legalMoves  The list that holds all the legal moves for the pawn on the current chessboard.
+     */
+    private static void addPawnMove(final Move pawnMove, final boolean isPromotion, final List<Move> legalMoves) {
+        if (!isPromotion) {
+            legalMoves.add(pawnMove);
+            return;
+        }
+        for (final PieceType promotionType : PawnPromotion.PROMOTION_TYPES) {
+            legalMoves.add(new PawnPromotion(pawnMove, promotionType));
+        }
+    }
+
     /**
      * Returns whether the en passant pawn is on either side of the piece to move.
      *
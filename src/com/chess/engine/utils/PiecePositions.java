@@ -2,13 +2,16 @@ package com.chess.engine.utils;
 
 import com.chess.engine.Alliance;
 import com.chess.engine.pieces.*;
+import com.chess.engine.pieces.Piece.PieceType;
 import com.google.common.collect.ImmutableMap;
 
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 import static com.chess.engine.Alliance.*;
 import static com.chess.engine.Position.ALL_BOARD_POSITIONS_CACHE;
+import static com.chess.engine.utils.BitboardUtils.getBitboardIndex;
 import static com.chess.engine.utils.BoardUtils.*;
 
 /**
@@ -94,6 +97,49 @@ public class PiecePositions {
                                                                                              "K",
                                                                                              false);
 
+    // The caches in bitboard order (see BitboardUtils.getBitboardIndex)
+    private static final List<Map<Integer, Piece>> FM_POSITIONS_CACHES = List.of(FM_WP_POSITIONS_CACHE,
+                                                                                 FM_WN_POSITIONS_CACHE,
+                                                                                 FM_WB_POSITIONS_CACHE,
+                                                                                 FM_WR_POSITIONS_CACHE,
+                                                                                 FM_WQ_POSITIONS_CACHE,
+                                                                                 FM_WK_POSITIONS_CACHE,
+                                                                                 FM_BP_POSITIONS_CACHE,
+                                                                                 FM_BN_POSITIONS_CACHE,
+                                                                                 FM_BB_POSITIONS_CACHE,
+                                                                                 FM_BR_POSITIONS_CACHE,
+                                                                                 FM_BQ_POSITIONS_CACHE,
+                                                                                 FM_BK_POSITIONS_CACHE),
+                                                   NFM_POSITIONS_CACHES = List.of(NFM_WP_POSITIONS_CACHE,
+                                                                                  NFM_WN_POSITIONS_CACHE,
+                                                                                  NFM_WB_POSITIONS_CACHE,
+                                                                                  NFM_WR_POSITIONS_CACHE,
+                                                                                  NFM_WQ_POSITIONS_CACHE,
+                                                                                  NFM_WK_POSITIONS_CACHE,
+                                                                                  NFM_BP_POSITIONS_CACHE,
+                                                                                  NFM_BN_POSITIONS_CACHE,
+                                                                                  NFM_BB_POSITIONS_CACHE,
+                                                                                  NFM_BR_POSITIONS_CACHE,
+                                                                                  NFM_BQ_POSITIONS_CACHE,
+                                                                                  NFM_BK_POSITIONS_CACHE);
+
+    /**
+     * Returns the cached piece of the given alliance and type on the square with the given index.
+     *
+     * @param alliance    The piece's alliance.
+     * @param pieceType   The piece's type.
+     * @param firstMove   Whether it's the piece's first move.
+     * @param squareIndex The index of the piece's square.
+     * @return The cached piece of the given alliance and type on the square with the given index.
+     */
+    public static Piece getCachedPiece(final Alliance alliance,
+                                       final PieceType pieceType,
+                                       final boolean firstMove,
+                                       final int squareIndex) {
+        final List<Map<Integer, Piece>> caches = firstMove ? FM_POSITIONS_CACHES : NFM_POSITIONS_CACHES;
+        return caches.get(getBitboardIndex(alliance, pieceType)).get(squareIndex);
+    }
+
     /**
      * Returns a map of an index mapped to a piece.
      *
@@ -1,5 +1,6 @@
 package com.chess.engine.utils;
 
+import com.chess.engine.Alliance;
 import com.chess.engine.Position;
 import com.chess.engine.board.Board;
 import com.chess.engine.board.Square;
@@ -27,26 +28,6 @@ import static com.chess.engine.player.Player.WHITE_CASTLE_RANK;
  * @since 10/07/25
  */
 public class PlayerUtils {
-    /**
-     * Returns a list of all the attacks on the player's king.
-     *
-     * @param kingPosition The king's position on the chessboard.
-     * @param moves        The list of the opponent's moves.
-     * @return A list of all the attacks on the player's king.
-     */
-    public static Collection<Move> calculateAttacksOnKing(final Position kingPosition, final Collection<Move> moves) {
-        final List<Move> attacksOnKing = new ArrayList<>();
-
-        for (final Move move : moves) {
-            final int kingRank = kingPosition.rank(), kingFile = kingPosition.file();
-            if (getPositionIndex(kingRank, kingFile) == move.getDestinationIndex()) {
-                attacksOnKing.add(move);
-            }
-        }
-
-        return ImmutableList.copyOf(attacksOnKing);
-    }
-
     /**
      * Returns a list of all the available castles for a player.
      *
@@ -55,17 +36,16 @@ public class PlayerUtils {
      * @param board                  What the castle takes place on.
      * @param kingsideCastleFiles  An array of square indices for kingside castling.
      * @param queensideCastleFiles An array of square indices for queenside castling.
-     * @param opponentLegals         The opponent's legal moves.
      * @return A list of all the available castles for a player.
      */
     public static Collection<Move> calculateCastles(final King playerKing,
                                                     final Player player,
                                                     final Board board,
                                                     final int[] kingsideCastleFiles,
-                                                    final int[] queensideCastleFiles,
-                                                    final Collection<Move> opponentLegals) {
+                                                    final int[] queensideCastleFiles) {
         final List<Move> castles = new ArrayList<>();
         final int castleRank = player.getAlliance().isBlack() ? BLACK_CASTLE_RANK : WHITE_CASTLE_RANK;
+        final Alliance opponentAlliance = player.getAlliance().isBlack() ? Alliance.WHITE : Alliance.BLACK;
 
         if (playerKing.isFirstMove() && !player.isInCheck()) {
             if (isKingsideClear(board, kingsideCastleFiles, castleRank)) {
@@ -74,7 +54,7 @@ public class PlayerUtils {
                 final Position rookStartPosition = ALL_BOARD_POSITIONS_CACHE.get(rookStartIndex);
                 final Square rookSquare = board.getSquare(rookStartPosition);
                 if (isFirstMoveRook(rookSquare)) {
-                    if (noKingsideCheck(kingsideCastleFiles, opponentLegals)) {
+                    if (noKingsideCheck(board, castleRank, kingsideCastleFiles, opponentAlliance)) {
                         final int kingDestinationIndex = getPositionIndex(castleRank, kingsideCastleFiles[1]);
                         final int rookDestinationIndex = getPositionIndex(castleRank, kingsideCastleFiles[0]);
                         castles.add(new KingsideCastleMove(board,
@@ -84,13 +64,14 @@ public class PlayerUtils {
                                                            ALL_BOARD_POSITIONS_CACHE.get(rookDestinationIndex)));
                     }
                 }
-            } else if (isQueensideClear(board, queensideCastleFiles, castleRank)) {
+            }
+            if (isQueensideClear(board, queensideCastleFiles, castleRank)) {
                 // Queenside castle
                 final int rookStartIndex = getPositionIndex(castleRank, queensideCastleFiles[3]);
                 final Position rookStartPosition = ALL_BOARD_POSITIONS_CACHE.get(rookStartIndex);
                 final Square rookSquare = board.getSquare(rookStartPosition);
                 if (isFirstMoveRook(rookSquare)) {
-                    if (noQueensideCheck(queensideCastleFiles, opponentLegals)) {
+                    if (noQueensideCheck(board, castleRank, queensideCastleFiles, opponentAlliance)) {
                         final int kingDestinationIndex = getPositionIndex(castleRank, queensideCastleFiles[1]);
                         final int rookDestinationIndex = getPositionIndex(castleRank, queensideCastleFiles[2]);
                         castles.add(new QueensideCastleMove(board,
@@ -117,8 +98,8 @@ public class PlayerUtils {
     private static boolean isKingsideClear(final Board board, final int[] kingsideFiles, final int castleRank) {
         final int left = kingsideFiles[0], right = kingsideFiles[1];
 
-        return !board.getSquare(ALL_BOARD_POSITIONS_CACHE.get(getPositionIndex(castleRank, left))).isSquareOccupied() &&
-               !board.getSquare(ALL_BOARD_POSITIONS_CACHE.get(getPositionIndex(castleRank, right))).isSquareOccupied();
+        return !board.isSquareOccupied(getPositionIndex(castleRank, left)) &&
+               !board.isSquareOccupied(getPositionIndex(castleRank, right));
     }
 
     /**
@@ -132,9 +113,9 @@ public class PlayerUtils {
     private static boolean isQueensideClear(final Board board, final int[] queensideFiles, final int castleRank) {
         final int left = queensideFiles[0], mid = queensideFiles[1], right = queensideFiles[2];
 
-        return !board.getSquare(ALL_BOARD_POSITIONS_CACHE.get(getPositionIndex(castleRank, left))).isSquareOccupied() &&
-               !board.getSquare(ALL_BOARD_POSITIONS_CACHE.get(getPositionIndex(castleRank, mid))).isSquareOccupied() &&
-               !board.getSquare(ALL_BOARD_POSITIONS_CACHE.get(getPositionIndex(castleRank, right))).isSquareOccupied();
+        return !board.isSquareOccupied(getPositionIndex(castleRank, left)) &&
+               !board.isSquareOccupied(getPositionIndex(castleRank, mid)) &&
+               !board.isSquareOccupied(getPositionIndex(castleRank, right));
     }
 
     /**
@@ -150,28 +131,40 @@ public class PlayerUtils {
     }
 
     /**
-     * Returns whether there are any checks on the kingside during a possible castle.
+     * Returns whether there are any checks on the kingside during a possible castle, i.e., on the square the king
+     * passes over and the square it lands on.
      *
-     * @param kingsideSquareIndices The indices of the squares in between the king and kingside rook.
-     * @param opponentLegals        The opponent's legal moves.
+     * @param board            What the castle takes place on.
+     * @param castleRank       The rank the castle takes place on.
+     * @param kingsideFiles    The files of the squares in between the king and kingside rook.
+     * @param opponentAlliance The opponent's alliance.
      * @return Whether there are any checks on the kingside during a possible castle.
      */
-    private static boolean noKingsideCheck(final int[] kingsideSquareIndices, final Collection<Move> opponentLegals) {
-        final int left = kingsideSquareIndices[0], right = kingsideSquareIndices[1];
-        return calculateAttacksOnKing(ALL_BOARD_POSITIONS_CACHE.get(left), opponentLegals).isEmpty() &&
-               calculateAttacksOnKing(ALL_BOARD_POSITIONS_CACHE.get(right), opponentLegals).isEmpty();
+    private static boolean noKingsideCheck(final Board board,
+                                           final int castleRank,
+                                           final int[] kingsideFiles,
+                                           final Alliance opponentAlliance) {
+        final int left = kingsideFiles[0], right = kingsideFiles[1];
+        return !board.isSquareAttacked(getPositionIndex(castleRank, left), opponentAlliance) &&
+               !board.isSquareAttacked(getPositionIndex(castleRank, right), opponentAlliance);
     }
 
     /**
-     * Returns whether there are any checks on the queenside during a possible castle.
+     * Returns whether there are any checks on the queenside during a possible castle, i.e., on the square the king
+     * passes over and the square it lands on. The square next to the rook only has to be empty.
      *
-     * @param queensideIndices The indices of the squares in between the king and queenside rook.
-     * @param opponentLegals   The opponent's legal moves.
+     * @param board            What the castle takes place on.
+     * @param castleRank       The rank the castle takes place on.
+     * @param queensideFiles   The files of the squares in between the king and queenside rook.
+     * @param opponentAlliance The opponent's alliance.
      * @return Whether there are any checks on the queenside during a possible castle.
      */
-    private static boolean noQueensideCheck(final int[] queensideIndices, final Collection<Move> opponentLegals) {
-        final int left = queensideIndices[0], right = queensideIndices[1];
-        return calculateAttacksOnKing(ALL_BOARD_POSITIONS_CACHE.get(left), opponentLegals).isEmpty() &&
-               calculateAttacksOnKing(ALL_BOARD_POSITIONS_CACHE.get(right), opponentLegals).isEmpty();
+    private static boolean noQueensideCheck(final Board board,
+                                            final int castleRank,
+                                            final int[] queensideFiles,
+                                            final Alliance opponentAlliance) {
+        final int mid = queensideFiles[1], right = queensideFiles[2];
+        return !board.isSquareAttacked(getPositionIndex(castleRank, mid), opponentAlliance) &&
+               !board.isSquareAttacked(getPositionIndex(castleRank, right), opponentAlliance);
     }
 }
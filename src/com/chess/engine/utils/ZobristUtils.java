@@ -0,0 +1,120 @@
+package com.chess.engine.utils;
+
+import com.chess.engine.board.Board;
+import com.chess.engine.pieces.Pawn;
+import com.chess.engine.pieces.Piece;
+
+import java.util.Random;
+
+import static com.chess.engine.Position.getPositionIndex;
+import static com.chess.engine.utils.BitboardUtils.*;
+import static com.chess.engine.utils.BoardUtils.BOARD_NUM_SQUARES;
+import static com.chess.engine.utils.BoardUtils.FILE_NUM_SQUARES;
+import static com.chess.engine.utils.CastlingUtils.ALL_CASTLING_RIGHTS;
+
+/**
+ * Holds the random keys and methods used for zobrist hashing. The zobrist key of a board is the XOR of a key for every
+ * piece on its square, the castling rights, the en passant file, and whether black is to move. Since XOR undoes
+ * itself, a move only has to XOR out what it removes and XOR in what it adds instead of hashing the whole board.
+ *
+ * @author Jamie Canada
+ * @since 10/20/25
+ */
+public class ZobristUtils {
+    // The keys are seeded so that the same position always has the same key from one run to the next
+    private static final long SEED = 0x5DEECE66DL;
+
+    private static final long[][] PIECE_KEYS = new long[NUM_PIECE_BITBOARDS][BOARD_NUM_SQUARES];
+    private static final long[] CASTLING_KEYS = new long[ALL_CASTLING_RIGHTS + 1];
+    private static final long[] EN_PASSANT_KEYS = new long[FILE_NUM_SQUARES];
+    public static final long BLACK_TO_MOVE_KEY;
+
+    static {
+        final Random random = new Random(SEED);
+        for (final long[] squareKeys : PIECE_KEYS) {
+            for (int i = 0; i < squareKeys.length; i++) {
+                squareKeys[i] = random.nextLong();
+            }
+        }
+        // No castling rights hash to nothing, just like no en passant pawn
+        for (int i = 1; i < CASTLING_KEYS.length; i++) {
+            CASTLING_KEYS[i] = random.nextLong();
+        }
+        for (int i = 0; i < EN_PASSANT_KEYS.length; i++) {
+            EN_PASSANT_KEYS[i] = random.nextLong();
+        }
+        BLACK_TO_MOVE_KEY = random.nextLong();
+    }
+
+    /**
+     * Returns the key of a piece on a square.
+     *
+     * @param pieceBitboardIndex The index of the piece's bitboard (see BitboardUtils.getBitboardIndex).
+     * @param squareIndex        The index of the square the piece is on.
+     * @return The key of a piece on a square.
+     */
+    public static long getPieceKey(final int pieceBitboardIndex, final int squareIndex) {
+        return PIECE_KEYS[pieceBitboardIndex][squareIndex];
+    }
+
+    /**
+     * Returns the key of the piece on its current square.
+     *
+     * @param piece The piece on the chessboard.
+     * @return The key of the piece on its current square.
+     */
+    public static long getPieceKey(final Piece piece) {
+        return getPieceKey(getBitboardIndex(piece),
+                           getPositionIndex(piece.getPiecePosition().rank(), piece.getPiecePosition().file()));
+    }
+
+    /**
+     * Returns the key of the given castling rights.
+     *
+     * @param castlingRights The castling rights (see CastlingUtils).
+     * @return The key of the given castling rights.
+     */
+    public static long getCastlingKey(final int castlingRights) {
+        return CASTLING_KEYS[castlingRights];
+    }
+
+    /**
+     * Returns the key of the en passant file, or 0 when no file is given.
+     *
+     * @param enPassantFile The file of the pawn that can be captured en passant, or -1 without one.
+     * @return The key of the en passant file.
+     */
+    public static long getEnPassantKey(final int enPassantFile) {
+        return enPassantFile < 0 ? 0L : EN_PASSANT_KEYS[enPassantFile];
+    }
+
+    /**
+     * Returns the key of the en passant pawn's file, or 0 without an en passant pawn.
+     *
+     * @param enPassantPawn The pawn that just advanced by two squares, if any.
+     * @return The key of the en passant pawn's file.
+     */
+    public static long getEnPassantKey(final Pawn enPassantPawn) {
+        return enPassantPawn == null ? 0L : getEnPassantKey(enPassantPawn.getPiecePosition().file());
+    }
+
+    /**
+     * Returns the zobrist key of the board, hashed from scratch.
+     *
+     * @param board The board to hash.
+     * @return The zobrist key of the board.
+     */
+    public static long calculateZobristKey(final Board board) {
+        long zobristKey = 0L;
+        for (long squares = board.getOccupancy(); squares != 0; squares = clearLowestSquare(squares)) {
+            zobristKey ^= getPieceKey(board.getPiece(getLowestSquare(squares)));
+        }
+        zobristKey ^= getCastlingKey(board.getCastlingRights());
+        zobristKey ^= getEnPassantKey(board.getEnPassantPawn());
+        if (board.getCurrentPlayer().getAlliance().isBlack()) {
+            zobristKey ^= BLACK_TO_MOVE_KEY;
+        }
+
+        return zobristKey;
+    }
+}
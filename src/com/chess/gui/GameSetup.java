@@ -2,6 +2,7 @@ package com.chess.gui;
 
 import com.chess.engine.Alliance;
 import com.chess.engine.player.Player;
+import com.chess.engine.player.ai.transposition.TranspositionTable;
 import com.chess.gui.GameWindow.PlayerType;
 
 import javax.swing.*;
@@ -19,6 +20,9 @@ import java.awt.event.ActionListener;
 public class GameSetup extends JDialog {
     private PlayerType whitePlayerType,  blackPlayerType;
     private JSpinner searchDepthSpinner;
+    private JSpinner moveTimeSpinner;
+    private JSpinner hashSizeSpinner;
+    private JSpinner searchThreadsSpinner;
 
     private static final String HUMAN_TEXT = "Human", COMPUTER_TEXT = "Computer";
 
@@ -52,9 +56,28 @@ public class GameSetup extends JDialog {
         this.searchDepthSpinner = addLabeledSpinner(myPanel,
                                                     "Search Depth",
                                                     new SpinnerNumberModel(6,
-                                                                           0,
+                                                                           1,
                                                                            Integer.MAX_VALUE,
                                                                            1));
+        this.moveTimeSpinner = addLabeledSpinner(myPanel,
+                                                 "Move Time (ms)",
+                                                 new SpinnerNumberModel(5000,
+                                                                        100,
+                                                                        600_000,
+                                                                        100));
+        this.hashSizeSpinner = addLabeledSpinner(myPanel,
+                                                 "Hash Size (MB)",
+                                                 new SpinnerNumberModel(TranspositionTable.DEFAULT_SIZE_MB,
+                                                                        1,
+                                                                        4096,
+                                                                        1));
+        this.searchThreadsSpinner = addLabeledSpinner(myPanel,
+                                                      "Search Threads",
+                                                      new SpinnerNumberModel(1,
+                                                                             1,
+                                                                             Runtime.getRuntime()
+                                                                                    .availableProcessors(),
+                                                                             1));
 
         final JButton cancelButton = new JButton("Cancel");
         final JButton okButton = new JButton("OK");
@@ -116,4 +139,16 @@ public class GameSetup extends JDialog {
     int getSearchDepth() {
         return (Integer)this.searchDepthSpinner.getValue();
     }
+
+    int getMoveTimeMillis() {
+        return (Integer)this.moveTimeSpinner.getValue();
+    }
+
+    int getHashSizeMb() {
+        return (Integer)this.hashSizeSpinner.getValue();
+    }
+
+    int getNumSearchThreads() {
+        return (Integer)this.searchThreadsSpinner.getValue();
+    }
 }
@@ -7,8 +7,10 @@ import com.chess.engine.moves.Move;
 import com.chess.engine.moves.MoveFactory;
 import com.chess.engine.moves.MoveTransition;
 import com.chess.engine.pieces.Piece;
-import com.chess.engine.player.ai.movestrategy.MiniMax;
+import com.chess.engine.player.ai.movestrategy.LazySmp;
 import com.chess.engine.player.ai.movestrategy.MoveStrategy;
+import com.chess.engine.player.ai.transposition.TranspositionTable;
+import com.chess.engine.player.ai.transposition.TranspositionTable.ReplacementScheme;
 import com.chess.gui.utils.DimensionConstants;
 import com.google.common.collect.Lists;
 
@@ -54,6 +56,7 @@ public class GameWindow extends Observable {
     private BoardDirection boardDirection;
 
     private Move computerMove;
+    private TranspositionTable transpositionTable;
 
     private boolean shouldHighlightLegalMoves;
 
@@ -62,7 +65,6 @@ public class GameWindow extends Observable {
     private final Color lightTileColor = Color.decode("#eeeed2");
     private final Color darkTileColor = Color.decode("#769656");
 
-    private static final int SEARCH_DEPTH = 4;
     private static final GameWindow INSTANCE = new GameWindow();
 
     /**
@@ -129,6 +131,21 @@ public class GameWindow extends Observable {
         return this.gameSetup;
     }
 
+    /**
+     * Returns the transposition table the AI keeps between moves, creating a new one whenever the hash size in the
+     * game setup changes.
+     *
+     * @return The transposition table the AI keeps between moves.
+     */
+    public TranspositionTable getTranspositionTable() {
+        final int hashSizeMb = this.gameSetup.getHashSizeMb();
+        if (this.transpositionTable == null || this.transpositionTable.getSizeMb() != hashSizeMb) {
+            this.transpositionTable = new TranspositionTable(hashSizeMb, ReplacementScheme.DEPTH_PREFERRED);
+        }
+
+        return this.transpositionTable;
+    }
+
     /**
      * Returns the current game board.
      *
@@ -226,8 +243,7 @@ public class GameWindow extends Observable {
         @Override
         public void update(final Observable observable, final Object o) {
             if (GameWindow.get().getGameSetup().isAIPlayer(GameWindow.get().getGameboard().getCurrentPlayer()) &&
-                !GameWindow.get().getGameboard().getCurrentPlayer().isInCheckmate() &&
-                !GameWindow.get().getGameboard().getCurrentPlayer().isInStalemate()) {
+                !GameWindow.get().getGameboard().getGameStatus().isGameOver()) {
                 // TODO: create an AI thread and execute AI work
                 final AIThinkTank thinkTank = new AIThinkTank();
                 thinkTank.execute();
@@ -266,9 +282,13 @@ public class GameWindow extends Observable {
          */
         @Override
         protected Move doInBackground() throws Exception {
-            final MoveStrategy minimax = new MiniMax(SEARCH_DEPTH);
+            final GameSetup gameSetup = GameWindow.get().getGameSetup();
+            final MoveStrategy lazySmp = new LazySmp(gameSetup.getSearchDepth(),
+                                                     gameSetup.getMoveTimeMillis(),
+                                                     gameSetup.getNumSearchThreads(),
+                                                     GameWindow.get().getTranspositionTable());
 
-            return minimax.execute(GameWindow.get().getGameboard());
+            return lazySmp.execute(GameWindow.get().getGameboard());
         }
 
         /**
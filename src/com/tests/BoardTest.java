@@ -3,16 +3,31 @@ package com.tests;
 import com.chess.engine.Alliance;
 import com.chess.engine.Position;
 import com.chess.engine.board.Board;
+import com.chess.engine.board.GameStatus;
+import com.chess.engine.board.SearchBoard;
 import com.chess.engine.moves.Move;
 import com.chess.engine.moves.MoveFactory;
+import com.chess.engine.moves.MoveStatus;
 import com.chess.engine.moves.MoveTransition;
+import com.chess.engine.moves.misc.NullMove;
+import com.chess.engine.pieces.Piece;
+import com.chess.engine.pieces.Piece.PieceType;
 import com.chess.engine.player.Player;
+import com.chess.engine.player.ai.movestrategy.AlphaBeta;
+import com.chess.engine.player.ai.movestrategy.IterativeDeepening;
 import com.chess.engine.player.ai.movestrategy.MiniMax;
 import com.chess.engine.player.ai.movestrategy.MoveStrategy;
+import com.chess.engine.player.ai.movestrategy.SearchLimits;
+import com.chess.engine.player.ai.movestrategy.SearchResult;
+import com.chess.engine.utils.BitboardUtils;
 import com.chess.engine.utils.BoardUtils;
+import com.chess.engine.utils.FenUtils;
+import com.chess.engine.utils.MagicBitboardUtils;
+import com.chess.engine.utils.ZobristUtils;
 import org.junit.jupiter.api.Test;
 
 import static com.chess.engine.Position.ALL_BOARD_POSITIONS_CACHE;
+import static com.chess.engine.utils.PiecePositions.*;
 import static org.junit.jupiter.api.Assertions.*;
 class BoardTest {
     @Test
@@ -76,4 +91,421 @@ class BoardTest {
 
         assertEquals(bestMove, aiMove);
     }
+
+    @Test
+    public void testAlphaBetaFoolsMate() {
+        final Board board = createFoolsMateBoard();
+
+        final MoveStrategy miniMax = new MiniMax(4);
+        final MoveStrategy alphaBeta = new AlphaBeta(4);
+        final Move miniMaxMove = miniMax.execute(board);
+        final Move alphaBetaMove = alphaBeta.execute(board);
+        final Move bestMove = MoveFactory.findMove(board,
+                                                   ALL_BOARD_POSITIONS_CACHE.get(BoardUtils.getIndexAtPosition("d8")),
+                                                   ALL_BOARD_POSITIONS_CACHE.get(BoardUtils.getIndexAtPosition("h4")));
+
+        assertEquals(bestMove, alphaBetaMove);
+        assertEquals(miniMaxMove, alphaBetaMove);
+        assertTrue(alphaBeta.getNumBoardsEvaluated() < miniMax.getNumBoardsEvaluated());
+    }
+
+    @Test
+    public void testAlphaBetaInitialBoard() {
+        final Board board = Board.createInitialBoard();
+
+        final MoveStrategy miniMax = new MiniMax(3);
+        final MoveStrategy alphaBeta = new AlphaBeta(3);
+
+        assertEquals(miniMax.execute(board), alphaBeta.execute(board));
+        assertTrue(alphaBeta.getNumBoardsEvaluated() < miniMax.getNumBoardsEvaluated());
+    }
+
+    @Test
+    public void testIterativeDeepeningFoolsMate() {
+        final Board board = createFoolsMateBoard();
+        final MoveStrategy iterativeDeepening = new IterativeDeepening(4, 60_000);
+        final Move bestMove = MoveFactory.findMove(board,
+                                                   ALL_BOARD_POSITIONS_CACHE.get(BoardUtils.getIndexAtPosition("d8")),
+                                                   ALL_BOARD_POSITIONS_CACHE.get(BoardUtils.getIndexAtPosition("h4")));
+
+        assertEquals(bestMove, iterativeDeepening.execute(board));
+    }
+
+    @Test
+    public void testIterativeDeepeningMoveTime() {
+        final Board board = Board.createInitialBoard();
+        final MoveStrategy iterativeDeepening = new IterativeDeepening(SearchLimits.MAX_DEPTH, 300);
+
+        final SearchLimits searchLimits = new SearchLimits.Builder().setDepth(SearchLimits.MAX_DEPTH)
+                                                                    .setMoveTime(300)
+                                                                    .build();
+        final SearchResult searchResult = iterativeDeepening.execute(board, searchLimits);
+        final Move move = searchResult.getBestMove();
+
+        assertNotNull(move);
+        assertTrue(board.getCurrentPlayer().getLegalMoves().contains(move));
+        // The deadline, rather than the depth, stops the search
+        assertTrue(searchResult.getDepth() >= 1);
+        assertTrue(searchResult.getDepth() < SearchLimits.MAX_DEPTH, String.valueOf(searchResult.getDepth()));
+    }
+
+    @Test
+    public void testSearchBoardMakeUnmake() {
+        final SearchBoard searchBoard = new SearchBoard(createFoolsMateBoard());
+        final String initialText = searchBoard.toString();
+        final int[] moves = searchBoard.getMoveBuffer();
+        final int numMoves = searchBoard.generateMoves(moves);
+        int numLegalMoves = 0;
+
+        for (int i = 0; i < numMoves; i++) {
+            if (searchBoard.makeMove(moves[i])) {
+                numLegalMoves++;
+                searchBoard.unmakeMove(moves[i]);
+            }
+            assertEquals(initialText, searchBoard.toString());
+            assertEquals(0, searchBoard.getPly());
+        }
+
+        assertEquals(30, numLegalMoves);
+    }
+
+    @Test
+    public void testSearchBoardMoveEncoding() {
+        final Board board = makeMoves(Board.createInitialBoard(), "e2", "e4", "a7", "a6", "e4", "e5", "d7", "d5");
+        final SearchBoard searchBoard = new SearchBoard(board);
+        final int[] moves = searchBoard.getMoveBuffer();
+        final int numMoves = searchBoard.generateMoves(moves);
+        final int enPassantIndex = BoardUtils.getIndexAtPosition("d6");
+        int numEnPassantMoves = 0;
+
+        for (int i = 0; i < numMoves; i++) {
+            final int move = moves[i];
+            if (SearchBoard.getFlags(move) == SearchBoard.EN_PASSANT_FLAG) {
+                numEnPassantMoves++;
+                assertEquals(enPassantIndex, SearchBoard.getDestinationIndex(move));
+                assertEquals(PieceType.PAWN, SearchBoard.getMovedPieceType(move));
+                assertEquals(PieceType.PAWN, SearchBoard.getCapturedPieceType(move));
+            } else if (!SearchBoard.isCapture(move)) {
+                assertNull(SearchBoard.getCapturedPieceType(move));
+            }
+            // The key is all the transposition table keeps, and is enough to find the move again
+            assertEquals(SearchBoard.encodeMove(SearchBoard.getCurrentIndex(move),
+                                                SearchBoard.getDestinationIndex(move),
+                                                SearchBoard.getFlags(move)),
+                         SearchBoard.getMoveKey(move));
+        }
+
+        assertEquals(1, numEnPassantMoves);
+    }
+
+    @Test
+    public void testZobristKeyTransposition() {
+        final Board board = Board.createInitialBoard();
+        final Board knightsBoard = makeMoves(board, "g1", "f3", "g8", "f6", "f3", "g1", "f6", "g8");
+        final Board pawnsBoard = makeMoves(board, "e2", "e3", "e7", "e6", "d2", "d3", "d7", "d6");
+        final Board otherPawnsBoard = makeMoves(board, "d2", "d3", "d7", "d6", "e2", "e3", "e7", "e6");
+
+        assertEquals(board, knightsBoard);
+        assertEquals(board.getZobristKey(), knightsBoard.getZobristKey());
+        assertEquals(pawnsBoard, otherPawnsBoard);
+        assertEquals(pawnsBoard.hashCode(), otherPawnsBoard.hashCode());
+        assertNotEquals(board, pawnsBoard);
+
+        // The same pieces with a pawn that can be captured en passant are a different position
+        final Board enPassantBoard = makeMoves(board, "e2", "e4", "a7", "a6", "e4", "e5", "d7", "d5");
+        final Board noEnPassantBoard = makeMoves(board, "e2", "e4", "d7", "d5", "e4", "e5", "a7", "a6");
+        assertNotEquals(enPassantBoard.getZobristKey(), noEnPassantBoard.getZobristKey());
+        assertNotEquals(enPassantBoard, noEnPassantBoard);
+    }
+
+    @Test
+    public void testBitboardsMatchSquares() {
+        assertBitboardsMatchSquares(Board.createInitialBoard());
+        assertBitboardsMatchSquares(makeMoves(Board.createInitialBoard(), "e2", "e4", "d7", "d5", "e4", "d5"));
+        assertBitboardsMatchSquares(makeMoves(Board.createInitialBoard(),
+                                              "e2", "e4", "e7", "e6", "g1", "f3", "b8", "c6", "f1", "c4", "a7", "a6",
+                                              "e1", "g1"));
+        assertBitboardsMatchSquares(makeMoves(Board.createInitialBoard(),
+                                              "e2", "e4", "a7", "a6", "e4", "e5", "d7", "d5", "e5", "d6"));
+        assertBitboardsMatchSquares(makeMoves(Board.createInitialBoard(),
+                                              "h2", "h4", "g7", "g5", "h4", "g5", "h7", "h6", "g5", "h6", "f8", "g7",
+                                              "h6", "g7", "a7", "a6", "g7", "h8"));
+    }
+
+    @Test
+    public void testZobristKeyIncremental() {
+        final Board castleBoard = makeMoves(Board.createInitialBoard(),
+                                            "e2", "e4", "e7", "e6", "g1", "f3", "b8", "c6", "f1", "c4", "a7", "a6",
+                                            "e1", "g1", "c6", "d4", "f3", "d4", "d8", "h4");
+        assertEquals(ZobristUtils.calculateZobristKey(castleBoard), castleBoard.getZobristKey());
+
+        final Board enPassantBoard = makeMoves(Board.createInitialBoard(),
+                                               "e2", "e4", "a7", "a6", "e4", "e5", "d7", "d5", "e5", "d6");
+        assertEquals(ZobristUtils.calculateZobristKey(enPassantBoard), enPassantBoard.getZobristKey());
+
+        final Board promotionBoard = makeMoves(Board.createInitialBoard(),
+                                               "h2", "h4", "g7", "g5", "h4", "g5", "h7", "h6", "g5", "h6", "f8", "g7",
+                                               "h6", "g7", "a7", "a6", "g7", "h8");
+        assertEquals(ZobristUtils.calculateZobristKey(promotionBoard), promotionBoard.getZobristKey());
+
+        // Every board two plies deep must hash the same incrementally as from scratch
+        final Board board = Board.createInitialBoard();
+        for (final Move move : board.getCurrentPlayer().getLegalMoves()) {
+            final Board firstBoard = board.getCurrentPlayer().makeMove(move).getTransitionBoard();
+            for (final Move reply : firstBoard.getCurrentPlayer().getLegalMoves()) {
+                final Board secondBoard = firstBoard.getCurrentPlayer().makeMove(reply).getTransitionBoard();
+                assertEquals(ZobristUtils.calculateZobristKey(secondBoard), secondBoard.getZobristKey());
+            }
+        }
+    }
+
+    @Test
+    public void testAttackTables() {
+        final int a8 = BoardUtils.getIndexAtPosition("a8"), e4 = BoardUtils.getIndexAtPosition("e4");
+        final int h2 = BoardUtils.getIndexAtPosition("h2");
+
+        assertEquals(2, Long.bitCount(BitboardUtils.getKnightAttacks(a8)));
+        assertEquals(8, Long.bitCount(BitboardUtils.getKnightAttacks(e4)));
+        assertEquals(3, Long.bitCount(BitboardUtils.getKingAttacks(a8)));
+        assertEquals(8, Long.bitCount(BitboardUtils.getKingAttacks(e4)));
+
+        // A pawn on the edge only attacks towards the middle, and white and black pawns attack in opposite directions
+        final long whitePawnAttacks = BitboardUtils.getPawnAttacks(Alliance.WHITE.ordinal(), h2);
+        assertEquals(BitboardUtils.getSquareBit(BoardUtils.getIndexAtPosition("g3")), whitePawnAttacks);
+        assertEquals(BitboardUtils.getSquareBit(BoardUtils.getIndexAtPosition("g1")),
+                     BitboardUtils.getPawnAttacks(Alliance.BLACK.ordinal(), h2));
+    }
+
+    @Test
+    public void testMagicSlidingAttacks() {
+        final int a8 = BoardUtils.getIndexAtPosition("a8"), d4 = BoardUtils.getIndexAtPosition("d4");
+        final long a4 = BitboardUtils.getSquareBit(BoardUtils.getIndexAtPosition("a4"));
+        final long f6 = BitboardUtils.getSquareBit(BoardUtils.getIndexAtPosition("f6"));
+
+        assertEquals(14, Long.bitCount(MagicBitboardUtils.getRookAttacks(a8, BitboardUtils.EMPTY_BITBOARD)));
+        assertEquals(13, Long.bitCount(MagicBitboardUtils.getBishopAttacks(d4, BitboardUtils.EMPTY_BITBOARD)));
+        assertEquals(27, Long.bitCount(MagicBitboardUtils.getQueenAttacks(d4, BitboardUtils.EMPTY_BITBOARD)));
+
+        // A blocker is attacked, and the squares behind it are not
+        final long rookAttacks = MagicBitboardUtils.getRookAttacks(a8, a4);
+        assertTrue((rookAttacks & a4) != 0);
+        assertEquals(11, Long.bitCount(rookAttacks));
+        final long bishopAttacks = MagicBitboardUtils.getBishopAttacks(d4, f6 | a4);
+        assertTrue((bishopAttacks & f6) != 0);
+        assertEquals(11, Long.bitCount(bishopAttacks));
+    }
+
+    @Test
+    public void testIsSquareAttacked() {
+        final Board board = Board.createInitialBoard();
+
+        assertTrue(board.isSquareAttacked(BoardUtils.getIndexAtPosition("e3"), Alliance.WHITE));
+        assertTrue(board.isSquareAttacked(BoardUtils.getIndexAtPosition("f6"), Alliance.BLACK));
+        assertFalse(board.isSquareAttacked(BoardUtils.getIndexAtPosition("e4"), Alliance.WHITE));
+        assertFalse(board.isSquareAttacked(BoardUtils.getIndexAtPosition("e3"), Alliance.BLACK));
+
+        // Once the e-pawn is gone, the queen's diagonal to h4 is open
+        final Board openBoard = makeMoves(board, "f2", "f3", "e7", "e5");
+        assertTrue(openBoard.isSquareAttacked(BoardUtils.getIndexAtPosition("h4"), Alliance.BLACK));
+        assertFalse(openBoard.getCurrentPlayer().isInCheck());
+    }
+
+    @Test
+    public void testNoCastleWhileInCheck() {
+        final Board board = new Board.Builder()
+                .setPiece(FM_WK_POSITIONS_CACHE.get(BoardUtils.getIndexAtPosition("e1")))
+                .setPiece(FM_WR_POSITIONS_CACHE.get(BoardUtils.getIndexAtPosition("h1")))
+                .setPiece(FM_BK_POSITIONS_CACHE.get(BoardUtils.getIndexAtPosition("a8")))
+                .setPiece(NFM_BR_POSITIONS_CACHE.get(BoardUtils.getIndexAtPosition("e8")))
+                .setMoveMaker(Alliance.WHITE)
+                .build();
+
+        assertTrue(board.getCurrentPlayer().isInCheck());
+        assertFalse(board.getCurrentPlayer().getOpponent().isInCheck());
+        assertTrue(board.getCurrentPlayer().getLegalMoves().stream().noneMatch(Move::isCastle));
+    }
+
+    @Test
+    public void testStrictlyLegalMoves() {
+        // The bishop checks the king, which only blocking or stepping aside answers
+        final Board checkBoard = makeMoves(Board.createInitialBoard(), "d2", "d3", "e7", "e6", "e2", "e4", "f8", "b4");
+        final Player checkedPlayer = checkBoard.getCurrentPlayer();
+        assertTrue(checkedPlayer.isInCheck());
+        assertEquals(6, checkedPlayer.getLegalMoves().size());
+        for (final Move move : checkBoard.getPieceMoves(Alliance.WHITE)) {
+            if (!checkedPlayer.getLegalMoves().contains(move)) {
+                assertEquals(MoveStatus.IN_CHECK, checkedPlayer.makeMove(move).getMoveStatus());
+            }
+        }
+
+        // The knight is pinned to the king by the bishop
+        final Board pinBoard = makeMoves(Board.createInitialBoard(), "d2", "d4", "e7", "e6", "b1", "c3", "f8", "b4");
+        final int knightIndex = BoardUtils.getIndexAtPosition("c3");
+        assertFalse(pinBoard.getCurrentPlayer().isInCheck());
+        assertTrue(pinBoard.getCurrentPlayer().getLegalMoves().stream()
+                           .noneMatch(move -> move.getCurrentIndex() == knightIndex));
+
+        // Taking en passant would leave both pawns' rank open to the rook
+        final Board enPassantBoard = FenUtils.createBoard("8/8/8/KPp4r/8/8/8/7k w - c6 0 1");
+        assertEquals(4, enPassantBoard.getCurrentPlayer().getLegalMoves().size());
+        assertEquals(6, enPassantBoard.getCurrentPlayer().getMobility());
+
+        for (final Board board : new Board[] { checkBoard, pinBoard, enPassantBoard }) {
+            final SearchBoard searchBoard = new SearchBoard(board);
+            assertEquals(board.getCurrentPlayer().getLegalMoves().size(),
+                         searchBoard.generateLegalMoves(searchBoard.getMoveBuffer()));
+        }
+    }
+
+    @Test
+    public void testGameStatus() {
+        assertEquals(GameStatus.ONGOING, Board.createInitialBoard().getGameStatus());
+
+        final Board mateBoard = makeMoves(Board.createInitialBoard(), "f2", "f3", "e7", "e5", "g2", "g4", "d8", "h4");
+        assertEquals(GameStatus.CHECKMATE, mateBoard.getGameStatus());
+        assertTrue(mateBoard.getCurrentPlayer().isInCheckmate());
+        assertFalse(mateBoard.getCurrentPlayer().isInStalemate());
+
+        final Board stalemateBoard = FenUtils.createBoard("7k/5Q2/6K1/8/8/8/8/8 b - - 0 1");
+        assertEquals(GameStatus.STALEMATE, stalemateBoard.getGameStatus());
+        assertTrue(stalemateBoard.getGameStatus().isGameOver());
+
+        for (final Board board : new Board[] { mateBoard, stalemateBoard }) {
+            assertEquals(board.getGameStatus(), new SearchBoard(board).getGameStatus());
+        }
+
+        // Each ply keeps its own status, which has to be worked out again once a different move reaches the ply
+        assertGameStatusPerPly(createFoolsMateBoard(), GameStatus.CHECKMATE, "d8", "h4", "a7", "a6");
+        assertGameStatusPerPly(FenUtils.createBoard("7k/8/6K1/8/8/8/8/5Q2 w - - 0 1"),
+                               GameStatus.STALEMATE, "f1", "f7", "f1", "f2");
+    }
+
+    @Test
+    public void testNullMove() {
+        final Board enPassantBoard = makeMoves(Board.createInitialBoard(),
+                                               "e2", "e4", "a7", "a6", "e4", "e5", "d7", "d5");
+        final Board nullMoveBoard = new NullMove(enPassantBoard).execute();
+
+        // The same pieces with the opponent making a move and no pawn to capture en passant
+        for (int i = 0; i < BoardUtils.BOARD_NUM_SQUARES; i++) {
+            assertEquals(enPassantBoard.getPiece(i), nullMoveBoard.getPiece(i));
+        }
+        assertEquals(Alliance.BLACK, nullMoveBoard.getCurrentPlayer().getAlliance());
+        assertNull(nullMoveBoard.getEnPassantPawn());
+        assertEquals(enPassantBoard.getCastlingRights(), nullMoveBoard.getCastlingRights());
+        assertEquals(ZobristUtils.calculateZobristKey(nullMoveBoard), nullMoveBoard.getZobristKey());
+
+        final SearchBoard searchBoard = new SearchBoard(enPassantBoard);
+        searchBoard.makeNullMove();
+        assertEquals(nullMoveBoard.getZobristKey(), searchBoard.getZobristKey());
+        assertEquals(Alliance.BLACK, searchBoard.getCurrentAlliance());
+        searchBoard.unmakeNullMove();
+        assertEquals(enPassantBoard.getZobristKey(), searchBoard.getZobristKey());
+        assertEquals(new SearchBoard(enPassantBoard).toString(), searchBoard.toString());
+
+        // Neither the sentinel nor a player in check can pass
+        assertThrows(RuntimeException.class, () -> Move.NULL_MOVE.execute());
+        final Board checkBoard = makeMoves(Board.createInitialBoard(), "e2", "e4", "f7", "f6", "d1", "h5");
+        assertThrows(RuntimeException.class, () -> new NullMove(checkBoard).execute());
+        assertFalse(new SearchBoard(FenUtils.createBoard("4k3/pppp4/8/8/8/8/8/4K3 b - - 0 1")).hasNonPawnMaterial());
+    }
+
+    private static Board makeMoves(final Board board, final String... squares) {
+        Board currentBoard = board;
+        for (int i = 0; i < squares.length; i += 2) {
+            final Position currentPosition = ALL_BOARD_POSITIONS_CACHE.get(BoardUtils.getIndexAtPosition(squares[i]));
+            final Position destinationPosition = ALL_BOARD_POSITIONS_CACHE.get(
+                    BoardUtils.getIndexAtPosition(squares[i + 1]));
+            final Move move = MoveFactory.findMove(currentBoard, currentPosition, destinationPosition);
+            final MoveTransition transition = currentBoard.getCurrentPlayer().makeMove(move);
+            assertTrue(transition.getMoveStatus().isDone(), squares[i] + squares[i + 1]);
+            currentBoard = transition.getTransitionBoard();
+        }
+
+        return currentBoard;
+    }
+
+    private static void assertBitboardsMatchSquares(final Board board) {
+        for (final Alliance alliance : Alliance.values()) {
+            long piecesBitboard = 0L;
+            int numBitboardPieces = 0;
+            for (final PieceType pieceType : PieceType.values()) {
+                piecesBitboard |= board.getPieceBitboard(alliance, pieceType);
+                numBitboardPieces += Long.bitCount(board.getPieceBitboard(alliance, pieceType));
+            }
+            assertEquals(piecesBitboard, board.getOccupancy(alliance));
+
+            // Every player piece sits on its square and in its bitboard, and no bitboard holds any other square
+            long playerPiecesBitboard = 0L;
+            for (final Piece piece : board.getPlayerPieces(alliance)) {
+                final int squareIndex = Position.getPositionIndex(piece.getPiecePosition().rank(),
+                                                                  piece.getPiecePosition().file());
+                assertSame(piece, board.getPiece(squareIndex));
+                assertTrue((board.getPieceBitboard(alliance, piece.getPieceType()) &
+                            BitboardUtils.getSquareBit(squareIndex)) != 0L);
+                playerPiecesBitboard |= BitboardUtils.getSquareBit(squareIndex);
+            }
+            assertEquals(piecesBitboard, playerPiecesBitboard);
+            assertEquals(board.getPlayerPieces(alliance).size(), numBitboardPieces);
+        }
+        assertEquals(board.getOccupancy(Alliance.WHITE) | board.getOccupancy(Alliance.BLACK), board.getOccupancy());
+
+        for (int i = 0; i < BoardUtils.BOARD_NUM_SQUARES; i++) {
+            assertEquals(board.isSquareOccupied(i), (board.getOccupancy() & BitboardUtils.getSquareBit(i)) != 0L);
+        }
+    }
+
+    private static void assertGameStatusPerPly(final Board board,
+                                               final GameStatus gameOverStatus,
+                                               final String... squares) {
+        final SearchBoard searchBoard = new SearchBoard(board);
+        final int gameOverMove = findSearchMove(searchBoard, board, squares[0], squares[1]);
+        final int ongoingMove = findSearchMove(searchBoard, board, squares[2], squares[3]);
+        assertEquals(GameStatus.ONGOING, searchBoard.getGameStatus());
+
+        assertTrue(searchBoard.makeMove(gameOverMove));
+        assertEquals(gameOverStatus, searchBoard.getGameStatus());
+        searchBoard.unmakeMove(gameOverMove);
+        assertEquals(GameStatus.ONGOING, searchBoard.getGameStatus());
+
+        assertTrue(searchBoard.makeMove(ongoingMove));
+        assertEquals(GameStatus.ONGOING, searchBoard.getGameStatus());
+        searchBoard.unmakeMove(ongoingMove);
+
+        assertTrue(searchBoard.makeMove(gameOverMove));
+        assertEquals(gameOverStatus, searchBoard.getGameStatus());
+    }
+
+    private static int findSearchMove(final SearchBoard searchBoard,
+                                      final Board board,
+                                      final String currentSquare,
+                                      final String destinationSquare) {
+        final Move move = MoveFactory.findMove(board,
+                                               ALL_BOARD_POSITIONS_CACHE.
+                                               get(BoardUtils.getIndexAtPosition(currentSquare)),
+                                               ALL_BOARD_POSITIONS_CACHE.
+                                               get(BoardUtils.getIndexAtPosition(destinationSquare)));
+        final int searchMove = searchBoard.findMove(move);
+        assertTrue(searchMove != SearchBoard.NO_MOVE, currentSquare + destinationSquare);
+
+        return searchMove;
+    }
+
+    private static Board createFoolsMateBoard() {
+        Board board = Board.createInitialBoard();
+        final String[][] moves = { { "f2", "f3" }, { "e7", "e5" }, { "g2", "g4" } };
+
+        for (final String[] move : moves) {
+            final MoveTransition transition = board.getCurrentPlayer().makeMove(MoveFactory.
+                                              findMove(board,
+                                                       ALL_BOARD_POSITIONS_CACHE.
+                                                       get(BoardUtils.getIndexAtPosition(move[0])),
+                                                       ALL_BOARD_POSITIONS_CACHE.
+                                                       get(BoardUtils.getIndexAtPosition(move[1]))));
+            assertTrue(transition.getMoveStatus().isDone());
+            board = transition.getTransitionBoard();
+        }
+
+        return board;
+    }
 }
\ No newline at end of file
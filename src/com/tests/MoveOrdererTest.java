@@ -0,0 +1,126 @@
+package com.tests;
+
+import com.chess.engine.board.Board;
+import com.chess.engine.board.SearchBoard;
+import com.chess.engine.player.ai.moveordering.MoveOrderer;
+import com.chess.engine.player.ai.movestrategy.AlphaBeta;
+import com.chess.engine.player.ai.movestrategy.SearchLimits;
+import com.chess.engine.player.ai.movestrategy.SearchResult;
+import com.chess.engine.player.ai.transposition.TranspositionTable;
+import com.chess.engine.utils.FenUtils;
+import org.junit.jupiter.api.Test;
+
+import static com.chess.engine.utils.BoardUtils.ALGEBRAIC_NOTATIONS;
+import static org.junit.jupiter.api.Assertions.*;
+
+class MoveOrdererTest {
+    // Both the pawn on e4 and the queen on d1 can take the queen on d5
+    private static final String QUEEN_CAPTURES_FEN = "4k3/8/8/3q4/4P3/8/8/3QK3 w - - 0 1";
+    private static final String[] BENCHMARK_FENS = {
+            "rnbqkbnr/pppppppp/8/8/8/8/PPPPPPPP/RNBQKBNR w KQkq - 0 1",
+            "r4rk1/1pp1qppp/p1np1n2/2b1p1B1/2B1P1b1/P1NP1N2/1PP1QPPP/R4RK1 w - - 0 10",
+            "8/2p5/3p4/KP5r/1R3p1k/8/4P1P1/8 w - - 0 1" };
+
+    @Test
+    public void testMostValuableVictimFirst() {
+        final SearchBoard board = new SearchBoard(FenUtils.createBoard(QUEEN_CAPTURES_FEN));
+        final MoveOrderer moveOrderer = new MoveOrderer();
+        final int[] moves = board.getMoveBuffer();
+        final int numMoves = board.generateMoves(moves);
+
+        moveOrderer.scoreMoves(board, moves, numMoves, SearchBoard.NO_MOVE);
+        assertEquals("e4d5", toNotation(moveOrderer.selectMove(board, moves, numMoves, 0)));
+        assertEquals("d1d5", toNotation(moveOrderer.selectMove(board, moves, numMoves, 1)));
+        assertFalse(SearchBoard.isCapture(moveOrderer.selectMove(board, moves, numMoves, 2)));
+    }
+
+    @Test
+    public void testKillerMoveBeforeQuietMoves() {
+        final SearchBoard board = new SearchBoard(Board.createInitialBoard());
+        final MoveOrderer moveOrderer = new MoveOrderer();
+        final int[] moves = board.getMoveBuffer();
+        final int numMoves = board.generateMoves(moves);
+        final int killerMove = moves[numMoves - 1];
+
+        moveOrderer.recordCutoff(board, killerMove, 3, 1);
+        moveOrderer.scoreMoves(board, moves, numMoves, SearchBoard.NO_MOVE);
+        assertEquals(killerMove, moveOrderer.selectMove(board, moves, numMoves, 0));
+        assertEquals(1, moveOrderer.getCutoffs());
+        assertEquals(1.0, moveOrderer.getFirstMoveCutoffRate(), 0);
+    }
+
+    @Test
+    public void testStaticExchangeEvaluation() {
+        // The pawn on e5 is undefended
+        assertEquals(100, evaluateExchange("1k1r4/1pp4p/p7/4p3/8/P5P1/1PP4P/2K1R3 w - - 0 1", "e1e5"));
+        // Black recaptures on e5 more times than white can take back
+        assertEquals(-200, evaluateExchange("1k1r3q/1ppn3p/p4b2/4p3/8/P2N2P1/1PP1R1BP/2K1Q3 w - - 0 1", "d3e5"));
+        // The rook on e1 takes back on e3 through the rook on e2 once it has captured
+        assertEquals(100, evaluateExchange("4k3/4r3/8/8/8/4p3/4R3/4R1K1 w - - 0 1", "e2e3"));
+        // The pawn taken en passant is not on the destination square
+        assertEquals(100, evaluateExchange("4k3/8/8/3pP3/8/8/8/4K3 w - d6 0 1", "e5d6"));
+        // The queen the pawn promotes to is lost to the rook
+        assertEquals(-100, evaluateExchange("3rk3/P7/8/8/8/8/8/4K3 w - - 0 1", "a7a8"));
+
+        // The losing captures come after the quiet moves
+        final SearchBoard board = new SearchBoard(FenUtils.createBoard(
+                "1k1r3q/1ppn3p/p4b2/4p3/8/P2N2P1/1PP1R1BP/2K1Q3 w - - 0 1"));
+        final MoveOrderer moveOrderer = new MoveOrderer();
+        final int[] moves = board.getMoveBuffer();
+        final int numMoves = board.generateMoves(moves);
+        moveOrderer.scoreMoves(board, moves, numMoves, SearchBoard.NO_MOVE);
+        assertFalse(SearchBoard.isCapture(moveOrderer.selectMove(board, moves, numMoves, 0)));
+        for (int i = 1; i < numMoves; i++) {
+            final int move = moveOrderer.selectMove(board, moves, numMoves, i);
+            assertEquals(i >= numMoves - 3, moveOrderer.isLosingCapture(board.getPly(), i), toNotation(move));
+        }
+    }
+
+    @Test
+    public void testFewerNodesOnBenchmarkPositions() {
+        for (final String fen : BENCHMARK_FENS) {
+            final Board board = FenUtils.createBoard(fen);
+            final AlphaBeta hashMoveOnly = new AlphaBeta(3, new TranspositionTable(), MoveOrderer.hashMoveOnly());
+            final AlphaBeta ordered = new AlphaBeta(3);
+            final SearchResult hashMoveOnlyResult = hashMoveOnly.execute(board, SearchLimits.depth(3));
+            final SearchResult orderedResult = ordered.execute(board, SearchLimits.depth(3));
+
+            // The order of the moves changes how much is pruned, never the score
+            assertEquals(hashMoveOnlyResult.getScore(), orderedResult.getScore(), fen);
+            assertTrue(orderedResult.getNodes() < hashMoveOnlyResult.getNodes(), fen);
+            assertTrue(ordered.getMoveOrderer().getFirstMoveCutoffRate() >
+                       hashMoveOnly.getMoveOrderer().getFirstMoveCutoffRate(), fen);
+        }
+    }
+
+    /**
+     * Returns the static exchange evaluation of the first generated move with the given coordinate notation.
+     *
+     * @param fen      The FEN of the position the move is made from.
+     * @param notation The coordinate notation of the move, e.g., e2e4.
+     * @return The static exchange evaluation of the move.
+     */
+    private static int evaluateExchange(final String fen, final String notation) {
+        final SearchBoard board = new SearchBoard(FenUtils.createBoard(fen));
+        final int[] moves = board.getMoveBuffer();
+        final int numMoves = board.generateMoves(moves);
+        for (int i = 0; i < numMoves; i++) {
+            if (toNotation(moves[i]).equals(notation)) {
+                return board.evaluateExchange(moves[i]);
+            }
+        }
+
+        throw new IllegalArgumentException(notation + " is not a move of " + fen + ".");
+    }
+
+    /**
+     * Returns the coordinate notation of an encoded move, e.g., e2e4.
+     *
+     * @param move The encoded move.
+     * @return The coordinate notation of an encoded move.
+     */
+    private static String toNotation(final int move) {
+        return ALGEBRAIC_NOTATIONS[SearchBoard.getCurrentIndex(move)] +
+               ALGEBRAIC_NOTATIONS[SearchBoard.getDestinationIndex(move)];
+    }
+}
@@ -0,0 +1,146 @@
+package com.tests;
+
+import com.chess.engine.board.Board;
+import com.chess.engine.board.SearchBoard;
+import com.chess.engine.moves.Move;
+import com.chess.engine.perft.Perft;
+import com.chess.engine.perft.PerftPosition;
+import com.chess.engine.utils.FenUtils;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PerftTest {
+    // The deepest depth of each position that still counts in about a second
+    private static final int TEST_DEPTH = 3;
+
+    @Test
+    public void testReferencePositions() {
+        final Perft perft = new Perft();
+        for (final PerftPosition position : PerftPosition.values()) {
+            final Board board = position.createBoard();
+            for (int depth = 1; depth <= TEST_DEPTH; depth++) {
+                assertEquals(position.getNodeCount(depth), perft.countNodes(board, depth), position + " " + depth);
+            }
+        }
+        assertEquals(PerftPosition.INITIAL.getNodeCount(4),
+                     perft.countNodes(PerftPosition.INITIAL.createBoard(), 4));
+    }
+
+    @Test
+    public void testSearchBoardReferencePositions() {
+        for (final PerftPosition position : PerftPosition.values()) {
+            final SearchBoard searchBoard = new SearchBoard(position.createBoard());
+            for (int depth = 1; depth <= TEST_DEPTH; depth++) {
+                assertEquals(position.getNodeCount(depth), countNodes(searchBoard, depth), position + " " + depth);
+            }
+        }
+    }
+
+    @Test
+    public void testSearchBoardLegalMoves() {
+        for (final PerftPosition position : PerftPosition.values()) {
+            final SearchBoard searchBoard = new SearchBoard(position.createBoard());
+            for (int depth = 1; depth <= TEST_DEPTH; depth++) {
+                assertEquals(position.getNodeCount(depth), countLegalNodes(searchBoard, depth), position + " " + depth);
+            }
+        }
+    }
+
+    @Test
+    public void testHashTableAndThreadsAgree() {
+        final Board board = PerftPosition.KIWIPETE.createBoard();
+        final long nodes = PerftPosition.KIWIPETE.getNodeCount(TEST_DEPTH);
+
+        try (final Perft hashPerft = new Perft(1, 1); final Perft parallelPerft = new Perft(1, 4)) {
+            assertEquals(nodes, hashPerft.countNodes(board, TEST_DEPTH));
+            // The second count is answered by the hash table
+            assertEquals(nodes, hashPerft.countNodes(board, TEST_DEPTH));
+            assertEquals(nodes, parallelPerft.countNodes(board, TEST_DEPTH));
+        }
+    }
+
+    @Test
+    public void testDivide() {
+        final Board board = FenUtils.createBoard(PerftPosition.POSITION_4.getFen());
+        final Map<Move, Long> divide = new Perft().divide(board, 2);
+        long nodes = 0L;
+        for (final Map.Entry<Move, Long> entry : divide.entrySet()) {
+            nodes += entry.getValue();
+        }
+
+        assertEquals(6, divide.size());
+        assertEquals(PerftPosition.POSITION_4.getNodeCount(2), nodes);
+        assertTrue(divide.keySet().stream().map(Perft::toCoordinateNotation).anyMatch("g1h1"::equals));
+    }
+
+    @Test
+    public void testFenEnPassant() {
+        final Board board = FenUtils.createBoard("rnbqkbnr/ppp1p1pp/8/3pPp2/8/8/PPPP1PPP/RNBQKBNR w KQkq f6 0 3");
+
+        assertNotNull(board.getEnPassantPawn());
+        assertEquals(31, new Perft().countNodes(board, 1));
+        assertThrows(IllegalArgumentException.class, () -> FenUtils.createBoard("8/8/8 w - -"));
+    }
+
+    @Test
+    public void testInvalidFen() {
+        assertThrows(IllegalArgumentException.class, () -> FenUtils.createBoard("4k3/8/8/8/8/8/8/4K4 w - - 0 1"));
+        assertThrows(IllegalArgumentException.class, () -> FenUtils.createBoard("4k3/8/8/8/8/8/8/3K w - - 0 1"));
+        // No black pawn just advanced over e6, or over e5, which is not even on the rank a pawn skips over
+        assertThrows(IllegalArgumentException.class, () -> FenUtils.createBoard("4k3/8/8/8/8/8/8/4K3 w - e6 0 1"));
+        assertThrows(IllegalArgumentException.class, () -> FenUtils.createBoard("4k3/8/8/8/4p3/8/8/4K3 w - e5 0 1"));
+    }
+
+    /**
+     * Returns how many leaf nodes the search board reaches after the given number of plies.
+     *
+     * @param searchBoard What the moves take place on.
+     * @param depth       How many plies to count.
+     * @return How many leaf nodes the search board reaches after the given number of plies.
+     */
+    private static long countNodes(final SearchBoard searchBoard, final int depth) {
+        if (depth == 0) {
+            return 1L;
+        }
+
+        final int[] moves = new int[SearchBoard.MAX_MOVES];
+        final int numMoves = searchBoard.generateMoves(moves);
+        long nodes = 0L;
+        for (int i = 0; i < numMoves; i++) {
+            if (searchBoard.makeMove(moves[i])) {
+                nodes += countNodes(searchBoard, depth - 1);
+                searchBoard.unmakeMove(moves[i]);
+            }
+        }
+
+        return nodes;
+    }
+
+    /**
+     * Returns how many leaf nodes the search board reaches after the given number of plies, with only the legal moves
+     * generated. The moves at the last ply are counted without being made.
+     *
+     * @param searchBoard What the moves take place on.
+     * @param depth       How many plies to count.
+     * @return How many leaf nodes the search board reaches after the given number of plies.
+     */
+    private static long countLegalNodes(final SearchBoard searchBoard, final int depth) {
+        final int[] moves = new int[SearchBoard.MAX_MOVES];
+        final int numMoves = searchBoard.generateLegalMoves(moves);
+        if (depth == 1) {
+            return numMoves;
+        }
+
+        long nodes = 0L;
+        for (int i = 0; i < numMoves; i++) {
+            assertTrue(searchBoard.makeMove(moves[i]));
+            nodes += countLegalNodes(searchBoard, depth - 1);
+            searchBoard.unmakeMove(moves[i]);
+        }
+
+        return nodes;
+    }
+}
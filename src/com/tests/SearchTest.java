@@ -0,0 +1,251 @@
+package com.tests;
+
+import com.chess.engine.board.Board;
+import com.chess.engine.moves.Move;
+import com.chess.engine.moves.MoveTransition;
+import com.chess.engine.perft.Perft;
+import com.chess.engine.player.ai.movestrategy.AlphaBeta;
+import com.chess.engine.player.ai.movestrategy.IterativeDeepening;
+import com.chess.engine.player.ai.movestrategy.LazySmp;
+import com.chess.engine.player.ai.movestrategy.MiniMax;
+import com.chess.engine.player.ai.movestrategy.ParallelRootSearch;
+import com.chess.engine.player.ai.movestrategy.PrincipalVariationSearch;
+import com.chess.engine.player.ai.movestrategy.PruningSettings;
+import com.chess.engine.player.ai.movestrategy.SearchLimits;
+import com.chess.engine.player.ai.movestrategy.SearchResult;
+import com.chess.engine.player.ai.transposition.TranspositionTable;
+import com.chess.engine.utils.FenUtils;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ForkJoinPool;
+
+import static com.chess.engine.player.ai.boardevaluator.StandardBoardEvaluator.isCheckmateScore;
+import static org.junit.jupiter.api.Assertions.*;
+
+class SearchTest {
+    // White mates in two with Nf6+ gxf6 Bxf7#
+    private static final String MATE_IN_TWO_FEN = "r2qkb1r/pp2nppp/3p4/2pNN1B1/2BnP3/3P4/PPP2PPP/R2bK2R w KQkq - 1 0";
+    // The pawn on d5 is defended, so Qxd5 wins a pawn for the queen
+    private static final String DEFENDED_PAWN_FEN = "4k3/8/4p3/3p4/8/8/8/3QK3 w - - 0 1";
+    // A quiet middlegame, where most moves change little and much can be pruned
+    private static final String MIDDLEGAME_FEN = "r4rk1/1pp1qppp/p1np1n2/2b1p1B1/2B1P1b1/P1NP1N2/1PP1QPPP/R4RK1 w - - " +
+                                                 "0 10";
+    private static final PruningSettings NULL_MOVE_ONLY = new PruningSettings.Builder().setLateMoveReduction(0)
+                                                                                       .setFutilityDepth(0)
+                                                                                       .setReverseFutilityDepth(0)
+                                                                                       .setLosingCapturePruning(false)
+                                                                                       .build();
+
+    @Test
+    public void testMateSearch() {
+        final Board board = FenUtils.createBoard(MATE_IN_TWO_FEN);
+        final SearchLimits searchLimits = new SearchLimits.Builder().setMateIn(2).build();
+        final SearchResult searchResult = new IterativeDeepening(SearchLimits.MAX_DEPTH, 60_000).execute(board,
+                                                                                                         searchLimits);
+
+        assertEquals(3, searchLimits.getMaxDepth());
+        assertEquals("d5f6", Perft.toCoordinateNotation(searchResult.getBestMove()));
+        assertTrue(isCheckmateScore(searchResult.getScore()));
+        // The quiescence search already sees gxf6 Bxf7# behind the check
+        assertEquals(1, searchResult.getDepth());
+        assertEquals(1, searchResult.getPrincipalVariation().size());
+        assertEquals(searchResult.getBestMove(), searchResult.getPrincipalVariation().get(0));
+    }
+
+    @Test
+    public void testMateSearchWhileBeingMated() {
+        // After Nf6+ from MATE_IN_TWO_FEN, black is the one getting mated, so there is no mate for black to find
+        final Board board = FenUtils.createBoard("r2qkb1r/pp2nppp/3p1N2/2p1N1B1/2BnP3/3P4/PPP2PPP/R2bK2R b KQkq - 2 1");
+        final SearchLimits searchLimits = new SearchLimits.Builder().setMateIn(2).build();
+        final SearchResult searchResult = new IterativeDeepening(SearchLimits.MAX_DEPTH, 60_000).execute(board,
+                                                                                                         searchLimits);
+
+        assertEquals("g7f6", Perft.toCoordinateNotation(searchResult.getBestMove()));
+        assertTrue(isCheckmateScore(searchResult.getScore()));
+        assertTrue(searchResult.getScore() > 0);
+        // The search keeps going to the full depth instead of stopping at the first iteration that sees the mate
+        assertEquals(searchLimits.getMaxDepth(), searchResult.getDepth());
+    }
+
+    @Test
+    public void testNodeLimit() {
+        final Board board = FenUtils.createBoard(MATE_IN_TWO_FEN);
+        final SearchLimits searchLimits = new SearchLimits.Builder().setNodes(5_000).build();
+
+        for (final SearchResult searchResult : new SearchResult[] {
+                new MiniMax(4).execute(board, searchLimits),
+                new AlphaBeta(4).execute(board, searchLimits),
+                new IterativeDeepening(SearchLimits.MAX_DEPTH, 60_000).execute(board, searchLimits) }) {
+            // The board that goes over the limit is the last one visited
+            assertTrue(searchResult.getNodes() <= 5_001, searchResult.toString());
+            assertNotNull(searchResult.getBestMove());
+            assertTrue(board.getCurrentPlayer().makeMove(searchResult.getBestMove()).getMoveStatus().isDone());
+        }
+    }
+
+    @Test
+    public void testFixedDepthResult() {
+        final Board board = Board.createInitialBoard();
+        final SearchResult miniMaxResult = new MiniMax(3).execute(board, SearchLimits.depth(3));
+        final SearchResult alphaBetaResult = new AlphaBeta(3).execute(board, SearchLimits.depth(3));
+
+        assertEquals(3, alphaBetaResult.getDepth());
+        assertEquals(miniMaxResult.getBestMove(), alphaBetaResult.getBestMove());
+        assertEquals(miniMaxResult.getScore(), alphaBetaResult.getScore());
+        assertEquals(3, alphaBetaResult.getPrincipalVariation().size());
+        assertTrue(alphaBetaResult.getNodes() < miniMaxResult.getNodes());
+    }
+
+    @Test
+    public void testQuiescence() {
+        final Board board = FenUtils.createBoard(DEFENDED_PAWN_FEN);
+
+        for (final SearchResult searchResult : new SearchResult[] {
+                new MiniMax(1).execute(board, SearchLimits.depth(1)),
+                new AlphaBeta(1).execute(board, SearchLimits.depth(1)) }) {
+            // At a depth of 1, only the quiescence search sees exd5
+            assertNotEquals("d1d5", Perft.toCoordinateNotation(searchResult.getBestMove()));
+            assertTrue(searchResult.getScore() > 0, searchResult.toString());
+        }
+    }
+
+    @Test
+    public void testLazySmp() {
+        final Board board = FenUtils.createBoard(MATE_IN_TWO_FEN);
+        final LazySmp lazySmp = new LazySmp(SearchLimits.MAX_DEPTH, 60_000, 4);
+        final SearchResult searchResult = lazySmp.execute(board, SearchLimits.depth(3));
+
+        assertEquals(4, lazySmp.getNumThreads());
+        assertEquals(3, searchResult.getDepth());
+        assertEquals("d5f6", Perft.toCoordinateNotation(searchResult.getBestMove()));
+        assertTrue(isCheckmateScore(searchResult.getScore()));
+        assertEquals(searchResult.getNodes(), lazySmp.getNumBoardsEvaluated());
+
+        // The helper threads are stopped with the main thread, so the search can be run again right away
+        assertEquals(searchResult.getBestMove(), lazySmp.execute(board, SearchLimits.depth(3)).getBestMove());
+        assertThrows(IllegalArgumentException.class, () -> new LazySmp(4, 1_000, 0));
+    }
+
+    @Test
+    public void testParallelRootSearch() {
+        final ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            for (final Board board : new Board[] { Board.createInitialBoard(),
+                                                   FenUtils.createBoard(DEFENDED_PAWN_FEN) }) {
+                final SearchResult miniMaxResult = new MiniMax(3).execute(board, SearchLimits.depth(3));
+                final SearchResult parallelResult = new ParallelRootSearch(3, pool).execute(board,
+                                                                                            SearchLimits.depth(3));
+
+                // The shared bound only prunes what cannot change the result, whichever root move finishes first
+                assertEquals(miniMaxResult.getBestMove(), parallelResult.getBestMove());
+                assertEquals(miniMaxResult.getScore(), parallelResult.getScore());
+                assertTrue(parallelResult.getNodes() < miniMaxResult.getNodes());
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    public void testPrincipalVariationSearch() {
+        for (final Board board : new Board[] { Board.createInitialBoard(),
+                                               FenUtils.createBoard(DEFENDED_PAWN_FEN),
+                                               FenUtils.createBoard(MATE_IN_TWO_FEN) }) {
+            final SearchResult alphaBetaResult = new AlphaBeta(4).execute(board, SearchLimits.depth(4));
+            final SearchResult pvsResult = new PrincipalVariationSearch(4).execute(board, SearchLimits.depth(4));
+
+            // The null windows only prove what the full window would have found
+            assertEquals(alphaBetaResult.getScore(), pvsResult.getScore());
+            assertFalse(pvsResult.getPrincipalVariation().isEmpty());
+            assertEquals(pvsResult.getBestMove(), pvsResult.getPrincipalVariation().get(0));
+            Board currentBoard = board;
+            for (final Move move : pvsResult.getPrincipalVariation()) {
+                final MoveTransition transition = currentBoard.getCurrentPlayer().makeMove(move);
+                assertTrue(transition.getMoveStatus().isDone(), move.toString());
+                currentBoard = transition.getTransitionBoard();
+            }
+        }
+        // Without a mate along the way, the principal variation reaches the full depth
+        assertEquals(4, new PrincipalVariationSearch(4).execute(Board.createInitialBoard(), SearchLimits.depth(4))
+                                                       .getPrincipalVariation().size());
+    }
+
+    @Test
+    public void testNullMovePruning() {
+        for (final String fen : new String[] { MIDDLEGAME_FEN, "8/2p5/3p4/KP5r/1R3p1k/8/4P1P1/8 w - - 0 1" }) {
+            final Board board = FenUtils.createBoard(fen);
+            final PrincipalVariationSearch withoutPruning = new PrincipalVariationSearch(4,
+                                                                                         new TranspositionTable(),
+                                                                                         PruningSettings.none());
+            final PrincipalVariationSearch withPruning = new PrincipalVariationSearch(4,
+                                                                                      new TranspositionTable(),
+                                                                                      NULL_MOVE_ONLY);
+            final SearchResult withoutPruningResult = withoutPruning.execute(board, SearchLimits.depth(4));
+            final SearchResult withPruningResult = withPruning.execute(board, SearchLimits.depth(4));
+
+            assertEquals(withoutPruningResult.getBestMove(), withPruningResult.getBestMove(), fen);
+            assertTrue(withPruningResult.getNodes() < withoutPruningResult.getNodes(), fen);
+            assertTrue(withPruning.getNumNullMoveCutoffs() > 0, fen);
+            assertEquals(0, withoutPruning.getNumNullMoveSearches(), fen);
+        }
+        assertThrows(IllegalArgumentException.class, () -> new PruningSettings.Builder().setNullMoveReduction(-1));
+    }
+
+    @Test
+    public void testLateMoveReductionsAndFutilityPruning() {
+        final Board board = FenUtils.createBoard(MIDDLEGAME_FEN);
+        final PrincipalVariationSearch nullMoveSearch = new PrincipalVariationSearch(5,
+                                                                                     new TranspositionTable(),
+                                                                                     NULL_MOVE_ONLY);
+        final PrincipalVariationSearch fullSearch = new PrincipalVariationSearch(5);
+        final SearchResult nullMoveResult = nullMoveSearch.execute(board, SearchLimits.depth(5));
+        final SearchResult fullResult = fullSearch.execute(board, SearchLimits.depth(5));
+
+        assertEquals(nullMoveResult.getBestMove(), fullResult.getBestMove());
+        assertTrue(fullResult.getNodes() < nullMoveResult.getNodes());
+        assertTrue(fullSearch.getNumReverseFutilityPrunes() > 0);
+        assertTrue(fullSearch.getNumFutilityPrunes() > 0);
+        assertTrue(fullSearch.getNumLateMoveReductions() > fullSearch.getNumLateMoveResearches());
+        assertTrue(fullSearch.getNumLosingCapturePrunes() > 0);
+        assertEquals(0, nullMoveSearch.getNumFutilityPrunes() + nullMoveSearch.getNumReverseFutilityPrunes() +
+                        nullMoveSearch.getNumLateMoveReductions() + nullMoveSearch.getNumLosingCapturePrunes());
+    }
+
+    @Test
+    public void testAspirationWindows() {
+        final Board board = FenUtils.createBoard(MIDDLEGAME_FEN);
+        final IterativeDeepening fullWindow = new IterativeDeepening(4, 60_000, new TranspositionTable(), 0);
+        final IterativeDeepening aspiration = new IterativeDeepening(4, 60_000);
+        final IterativeDeepening narrowAspiration = new IterativeDeepening(4, 60_000, new TranspositionTable(), 1);
+        final SearchResult fullWindowResult = fullWindow.execute(board, SearchLimits.depth(4));
+        final SearchResult aspirationResult = aspiration.execute(board, SearchLimits.depth(4));
+        final SearchResult narrowResult = narrowAspiration.execute(board, SearchLimits.depth(4));
+
+        // A score outside the window is searched again, so the window never changes the result
+        for (final SearchResult searchResult : new SearchResult[] { aspirationResult, narrowResult }) {
+            assertEquals(fullWindowResult.getBestMove(), searchResult.getBestMove());
+            assertEquals(fullWindowResult.getScore(), searchResult.getScore());
+        }
+        assertTrue(aspirationResult.getNodes() < fullWindowResult.getNodes());
+        assertEquals(3, aspiration.getNumAspirationSearches());
+        assertEquals(0, fullWindow.getNumAspirationSearches());
+        assertTrue(narrowAspiration.getNumAspirationResearches() > 0);
+        assertEquals(narrowAspiration.getNumFailLows() + narrowAspiration.getNumFailHighs(),
+                     narrowAspiration.getNumAspirationResearches());
+    }
+
+    @Test
+    public void testTimeBudget() {
+        assertEquals(SearchLimits.NO_LIMIT, SearchLimits.depth(5).getTimeBudgetMillis());
+        assertEquals(250, SearchLimits.moveTime(250).getTimeBudgetMillis());
+        // A thirtieth of the clock plus three quarters of the increment
+        assertEquals(2_000 + 1_500, new SearchLimits.Builder().setClock(60_000, 2_000).build().getTimeBudgetMillis());
+        assertEquals(250, new SearchLimits.Builder().setClock(60_000, 2_000)
+                                                    .setMoveTime(250)
+                                                    .build()
+                                                    .getTimeBudgetMillis());
+        // Never more than what is left on the clock
+        assertEquals(50, new SearchLimits.Builder().setClock(100, 1_000).build().getTimeBudgetMillis());
+        assertThrows(IllegalArgumentException.class, () -> SearchLimits.depth(0));
+    }
+}
@@ -0,0 +1,90 @@
+package com.tests;
+
+import com.chess.engine.board.Board;
+import com.chess.engine.board.SearchBoard;
+import com.chess.engine.player.ai.movestrategy.AlphaBeta;
+import com.chess.engine.player.ai.movestrategy.PrincipalVariationSearch;
+import com.chess.engine.player.ai.movestrategy.SearchLimits;
+import com.chess.engine.player.ai.transposition.TranspositionTable;
+import com.chess.engine.player.ai.transposition.TranspositionTable.ReplacementScheme;
+import com.chess.engine.utils.FenUtils;
+import org.junit.jupiter.api.Test;
+
+import static com.chess.engine.player.ai.transposition.TranspositionTable.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+class TranspositionTableTest {
+    @Test
+    public void testStoreAndProbe() {
+        final TranspositionTable table = new TranspositionTable(1, ReplacementScheme.DEPTH_PREFERRED);
+        final int move = SearchBoard.encodeMove(52, 36, SearchBoard.DOUBLE_PAWN_PUSH_FLAG);
+
+        assertEquals(NO_ENTRY, table.probe(42L));
+        table.store(42L, move, -1234, 5, LOWER_BOUND);
+        final long entry = table.probe(42L);
+
+        assertEquals(move, getMove(entry));
+        assertEquals(-1234, getScore(entry));
+        assertEquals(5, getDepth(entry));
+        assertEquals(LOWER_BOUND, getBound(entry));
+        assertEquals(1, table.getHits());
+        assertEquals(1, table.getMisses());
+        assertEquals(1 << 16, table.getNumEntries());
+    }
+
+    @Test
+    public void testReplacementSchemes() {
+        final TranspositionTable depthPreferred = new TranspositionTable(1, ReplacementScheme.DEPTH_PREFERRED);
+        final TranspositionTable alwaysReplace = new TranspositionTable(1, ReplacementScheme.ALWAYS_REPLACE);
+        // Both keys map to the same slot
+        final long key = 7L, otherKey = key + depthPreferred.getNumEntries();
+
+        for (final TranspositionTable table : new TranspositionTable[] { depthPreferred, alwaysReplace }) {
+            table.store(key, SearchBoard.NO_MOVE, 10, 6, EXACT_BOUND);
+            table.store(otherKey, SearchBoard.NO_MOVE, 20, 2, EXACT_BOUND);
+        }
+
+        assertEquals(10, getScore(depthPreferred.probe(key)));
+        assertEquals(NO_ENTRY, depthPreferred.probe(otherKey));
+        assertEquals(1, depthPreferred.getCollisions());
+        assertEquals(20, getScore(alwaysReplace.probe(otherKey)));
+        assertEquals(1, alwaysReplace.getOverwrites());
+
+        // The entries of an earlier search give way even to shallower ones
+        depthPreferred.newSearch();
+        depthPreferred.store(otherKey, SearchBoard.NO_MOVE, 20, 2, EXACT_BOUND);
+        assertEquals(20, getScore(depthPreferred.probe(otherKey)));
+    }
+
+    @Test
+    public void testAlphaBetaReusesTable() {
+        final Board board = Board.createInitialBoard();
+        final TranspositionTable table = new TranspositionTable(1, ReplacementScheme.DEPTH_PREFERRED);
+        final AlphaBeta alphaBeta = new AlphaBeta(4, table);
+
+        assertEquals(new AlphaBeta(4).execute(board), alphaBeta.execute(board));
+        final long firstBoardsEvaluated = alphaBeta.getNumBoardsEvaluated();
+        assertTrue(table.getStores() > 0);
+
+        // Searching the same position again is answered by the entries of the first search
+        alphaBeta.execute(board);
+        assertTrue(table.getHits() > 0);
+        assertTrue(alphaBeta.getNumBoardsEvaluated() < firstBoardsEvaluated);
+    }
+
+    @Test
+    public void testCheckmateScoreOnlyReusedAtSameDepth() {
+        // Black, who is to move, is getting checkmated, which a deeper search scores with a bigger bonus
+        final Board board = FenUtils.createBoard("r2qkb1r/pp2nppp/3p1N2/2p1N1B1/2BnP3/3P4/PPP2PPP/R2bK2R b KQkq - 2 1");
+        final TranspositionTable alphaBetaTable = new TranspositionTable(1, ReplacementScheme.DEPTH_PREFERRED);
+        final TranspositionTable pvsTable = new TranspositionTable(1, ReplacementScheme.DEPTH_PREFERRED);
+        new AlphaBeta(4, alphaBetaTable).execute(board, SearchLimits.depth(4));
+        new PrincipalVariationSearch(4, pvsTable).execute(board, SearchLimits.depth(4));
+
+        // The deeper search's checkmates must not make the shallower search's checkmate seem nearer than it is
+        assertEquals(new AlphaBeta(2).execute(board, SearchLimits.depth(2)).getScore(),
+                     new AlphaBeta(2, alphaBetaTable).execute(board, SearchLimits.depth(2)).getScore());
+        assertEquals(new PrincipalVariationSearch(2).execute(board, SearchLimits.depth(2)).getScore(),
+                     new PrincipalVariationSearch(2, pvsTable).execute(board, SearchLimits.depth(2)).getScore());
+    }
+}